@@ -55,6 +55,8 @@ dependencies {
 
   compileOnly("eu.cloudnetservice.cloudnet:node:4.0.0-RC11")
   compileOnly("eu.cloudnetservice.cloudnet:bridge:4.0.0-RC11")
+
+  testImplementation("eu.cloudnetservice.cloudnet:driver:4.0.0-RC11")
 }
 
 tasks.withType<Test> {
@@ -21,6 +21,7 @@
 import eu.cloudnetservice.ext.modules.rest.UUIDv7;
 import eu.cloudnetservice.ext.modules.rest.auth.util.PasswordEncryptionUtil;
 import eu.cloudnetservice.ext.rest.api.auth.RestUser;
+import eu.cloudnetservice.ext.rest.api.auth.ScopeSet;
 import eu.cloudnetservice.ext.rest.api.response.Response;
 import eu.cloudnetservice.ext.rest.api.response.type.JsonResponse;
 import java.time.OffsetDateTime;
@@ -46,6 +47,8 @@ public final class DefaultRestUser implements RestUser {
   public static final String PASSWORD_KEY = "password";
   public static final String PASSWORD_SALT_KEY = "salt";
 
+  private static final ScopeSet GLOBAL_ADMIN_SCOPE_SET = ScopeSet.of(RestUser.GLOBAL_ADMIN_SCOPE);
+
   private final UUID id;
   private final String username;
   private final Set<String> scopes;
@@ -58,6 +61,9 @@ public final class DefaultRestUser implements RestUser {
 
   private final Map<String, String> properties;
 
+  // lazily compiled from the scopes, not serialized as the instance might be created without calling the constructor
+  private transient ScopeSet compiledScopes;
+
   private DefaultRestUser(
     @NonNull UUID id,
     @NonNull String username,
@@ -102,6 +108,23 @@ public boolean hasScope(@NonNull String scope) {
     return this.scopes.contains(RestUser.GLOBAL_ADMIN_SCOPE) || this.scopes.contains(StringUtil.toLower(scope));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean hasOneScopeOf(@NonNull Set<String> scopes) {
+    if (scopes.isEmpty()) {
+      return true;
+    }
+
+    var userScopes = this.compiledScopes;
+    if (userScopes == null) {
+      this.compiledScopes = userScopes = ScopeSet.of(this.scopes);
+    }
+
+    return userScopes.intersects(GLOBAL_ADMIN_SCOPE_SET) || userScopes.intersects(ScopeSet.of(scopes));
+  }
+
   /**
    * {@inheritDoc}
    */
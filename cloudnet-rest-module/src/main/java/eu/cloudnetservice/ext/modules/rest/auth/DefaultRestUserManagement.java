@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.ext.modules.rest.auth;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.Scheduler;
@@ -29,7 +30,11 @@
 import eu.cloudnetservice.node.database.NodeDatabaseProvider;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
@@ -41,8 +46,20 @@ public final class DefaultRestUserManagement implements RestUserManagement {
   private static final String REST_USER_DB_NAME = "cloudnet_rest_users";
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultRestUserManagement.class);
 
+  private static final Duration USER_REFRESH_INTERVAL = Duration.ofMinutes(5);
+  private static final Duration USER_EXPIRE_INTERVAL = Duration.ofMinutes(30);
+  private static final Duration MISSING_USER_EXPIRE_INTERVAL = Duration.ofSeconds(30);
+
+  // loading users blocks on the database, shared by all instances as it holds no threads while no user is loaded
+  private static final Executor USER_LOAD_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
   private final LocalDatabase localDatabase;
   private final LoadingCache<UUID, RestUser> restUserCache;
+  private final Map<String, UUID> usernameIndex = new ConcurrentHashMap<>();
+
+  // negative caches for ids and usernames which are known to not exist in the database
+  private final Cache<UUID, Boolean> missingUserIds;
+  private final Cache<String, Boolean> missingUsernames;
 
   public static final String REST_USER_INVALIDATE = "rest_user_invalidate";
   public static final String REST_USER_MANAGEMENT_CHANNEL = "rest_user_management_channel";
@@ -58,13 +75,32 @@ public DefaultRestUserManagement() {
    */
   public DefaultRestUserManagement(@NonNull NodeDatabaseProvider databaseProvider) {
     this.localDatabase = databaseProvider.database(REST_USER_DB_NAME);
+
+    // users are reloaded in the background once the refresh interval elapsed, the request that triggers the refresh
+    // gets the current value, this prevents periodic latency spikes for active users
     this.restUserCache = Caffeine.newBuilder()
+      .executor(USER_LOAD_EXECUTOR)
       .scheduler(Scheduler.systemScheduler())
-      .expireAfterWrite(Duration.ofMinutes(5))
+      .refreshAfterWrite(USER_REFRESH_INTERVAL)
+      .expireAfterAccess(USER_EXPIRE_INTERVAL)
       .build(key -> {
         var userDocument = this.localDatabase.get(key.toString());
-        return userDocument == null ? null : userDocument.toInstanceOf(DefaultRestUser.class);
+        if (userDocument == null) {
+          return null;
+        }
+
+        var user = userDocument.toInstanceOf(DefaultRestUser.class);
+        this.usernameIndex.put(user.username(), user.id());
+        return user;
       });
+    this.missingUserIds = Caffeine.newBuilder()
+      .scheduler(Scheduler.systemScheduler())
+      .expireAfterWrite(MISSING_USER_EXPIRE_INTERVAL)
+      .build();
+    this.missingUsernames = Caffeine.newBuilder()
+      .scheduler(Scheduler.systemScheduler())
+      .expireAfterWrite(MISSING_USER_EXPIRE_INTERVAL)
+      .build();
   }
 
   /**
@@ -72,30 +108,45 @@ public DefaultRestUserManagement(@NonNull NodeDatabaseProvider databaseProvider)
    */
   @Override
   public @Nullable RestUser restUser(@NonNull UUID id) {
-    return this.restUserCache.get(id);
+    if (this.missingUserIds.getIfPresent(id) != null) {
+      return null;
+    }
+
+    var user = this.restUserCache.get(id);
+    if (user == null) {
+      this.missingUserIds.put(id, Boolean.TRUE);
+    }
+
+    return user;
   }
 
   @Override
   public @Nullable RestUser restUserByUsername(@NonNull String username) {
-    var cache = this.restUserCache.asMap();
-    var user = cache.values().stream()
-      .filter(restUser -> restUser.username().equals(username))
-      .findAny()
-      .orElse(null);
+    if (this.missingUsernames.getIfPresent(username) != null) {
+      return null;
+    }
 
-    // found the user in the local cache
-    if (user != null) {
-      return user;
+    var userId = this.usernameIndex.get(username);
+    if (userId != null) {
+      // the index might be stale if the user was renamed or deleted on another node, validate the result
+      var user = this.restUserCache.get(userId);
+      if (user != null && user.username().equals(username)) {
+        return user;
+      }
+
+      this.usernameIndex.remove(username, userId);
     }
 
-    user = this.localDatabase.find("username", username).stream()
+    var user = this.localDatabase.find("username", username).stream()
       .findFirst()
       .map(document -> document.toInstanceOf(DefaultRestUser.class))
       .orElse(null);
 
     // user found in database, store in cache
     if (user != null) {
-      this.restUserCache.put(user.id(), user);
+      this.cacheRestUser(user);
+    } else {
+      this.missingUsernames.put(username, Boolean.TRUE);
     }
 
     return user;
@@ -107,7 +158,7 @@ public DefaultRestUserManagement(@NonNull NodeDatabaseProvider databaseProvider)
       .stream()
       .map(document -> document.toInstanceOf(DefaultRestUser.class))
       .map(user -> (RestUser) user)
-      .peek(user -> this.restUserCache.put(user.id(), user))
+      .peek(this::cacheRestUser)
       .toList();
   }
 
@@ -119,6 +170,11 @@ public DefaultRestUserManagement(@NonNull NodeDatabaseProvider databaseProvider)
    */
   public void invalidate(@NonNull UUID uniqueId) {
     this.restUserCache.invalidate(uniqueId);
+    this.usernameIndex.values().remove(uniqueId);
+
+    // the user might have been created on another node, we don't know the username in that case
+    this.missingUserIds.invalidate(uniqueId);
+    this.missingUsernames.invalidateAll();
     LOGGER.debug("Invalidated rest user with id {} in caches.", uniqueId);
   }
 
@@ -127,7 +183,7 @@ public void invalidate(@NonNull UUID uniqueId) {
    */
   @Override
   public void saveRestUser(@NonNull RestUser user) {
-    this.restUserCache.put(user.id(), user);
+    this.cacheRestUser(user);
     this.localDatabase.insert(user.id().toString(), DocumentFactory.json().newDocument(user));
 
     // inform the other nodes that the user was updated
@@ -140,6 +196,7 @@ public void saveRestUser(@NonNull RestUser user) {
   @Override
   public boolean deleteRestUser(@NonNull UUID id) {
     this.restUserCache.invalidate(id);
+    this.usernameIndex.values().remove(id);
     var result = this.localDatabase.delete(id.toString());
 
     // invalidate the user on other nodes to make sure the caches are in sync
@@ -165,6 +222,20 @@ public boolean deleteRestUser(@NonNull UUID id) {
       .properties(restUser.properties());
   }
 
+  private void cacheRestUser(@NonNull RestUser user) {
+    // remove the index entry of the previous username in case the user was renamed
+    var previousUser = this.restUserCache.getIfPresent(user.id());
+    if (previousUser != null && !previousUser.username().equals(user.username())) {
+      this.usernameIndex.remove(previousUser.username(), user.id());
+    }
+
+    this.restUserCache.put(user.id(), user);
+    this.usernameIndex.put(user.username(), user.id());
+
+    this.missingUserIds.invalidate(user.id());
+    this.missingUsernames.invalidate(user.username());
+  }
+
   private void sendRestUserInvalidationMessage(@NonNull UUID uniqueId) {
     ChannelMessage.builder()
       .targetNodes()
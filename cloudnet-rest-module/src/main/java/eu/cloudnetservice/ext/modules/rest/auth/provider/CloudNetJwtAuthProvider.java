@@ -20,30 +20,43 @@
 import eu.cloudnetservice.driver.inject.InjectionLayer;
 import eu.cloudnetservice.ext.modules.rest.CloudNetRestModule;
 import eu.cloudnetservice.ext.modules.rest.auth.util.KeySecurityUtil;
+import eu.cloudnetservice.ext.modules.rest.config.AuthConfiguration;
+import eu.cloudnetservice.ext.modules.rest.config.JwtSigningAlgorithm;
 import eu.cloudnetservice.ext.modules.rest.config.RestConfiguration;
 import eu.cloudnetservice.ext.rest.api.auth.AuthProvider;
 import eu.cloudnetservice.ext.rest.jwt.JwtAuthProvider;
+import eu.cloudnetservice.ext.rest.jwt.JwtKeyRing;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.KeyPair;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 public final class CloudNetJwtAuthProvider extends JwtAuthProvider {
 
-  private static final Path PRIVATE_KEY_PATH = Path.of("jwt_sign_key");
-  private static final Path PUBLIC_KEY_PATH = Path.of("jwt_sign_key.pub");
+  private static final Path KEY_RING_PATH = Path.of("jwt_keys");
+  private static final String PUBLIC_KEY_SUFFIX = ".pub";
+  private static final String PRIVATE_KEY_SUFFIX = ".key";
+
+  // the paths of the rsa key pair that was used before key rotation was introduced
+  private static final Path LEGACY_PRIVATE_KEY_PATH = Path.of("jwt_sign_key");
+  private static final Path LEGACY_PUBLIC_KEY_PATH = Path.of("jwt_sign_key.pub");
 
   public CloudNetJwtAuthProvider() {
     var authConfig = RestConfiguration.get().authConfig();
     super(
       "CloudNet Rest",
-      readOrGenerateJwtKeyPair(),
+      loadJwtKeyRing(authConfig),
       authConfig.jwtTokenLifetime(),
       authConfig.jwtRefreshTokenLifetime());
   }
 
-  private static @NonNull KeyPair readOrGenerateJwtKeyPair() {
+  private static @NonNull JwtKeyRing loadJwtKeyRing(@NonNull AuthConfiguration authConfig) {
     try {
       // hack: due to this class being constructed via SPI, we use injection layer here
       // resolving works via the class loader, but we ensure anyway that we did not get the ext layer as fallback
@@ -51,31 +64,144 @@ public CloudNetJwtAuthProvider() {
       var moduleInjectLayer = InjectionLayer.findLayerOf(CloudNetJwtAuthProvider.class.getClassLoader());
       Preconditions.checkState(moduleInjectLayer != InjectionLayer.ext(), "Cannot resolve module injection layer");
 
-      // resolve the path where the private and public key for jwt singing should be located
+      // resolve the directory in which the jwt signing keys are stored
       var moduleDataDir = moduleInjectLayer.instance(CloudNetRestModule.class).moduleWrapper().dataDirectory();
-      var publicKeyPath = moduleDataDir.resolve(PUBLIC_KEY_PATH);
-      var privateKeyPath = moduleDataDir.resolve(PRIVATE_KEY_PATH);
+      var keyRingDir = moduleDataDir.resolve(KEY_RING_PATH);
+      Files.createDirectories(keyRingDir);
+
+      // the newest key is used for signing, rotate it if the algorithm changed or the key is too old. the key ring
+      // is only loaded once when the provider is constructed, so a key that becomes due is rotated on the next start
+      var now = Instant.now();
+      var storedKeys = readStoredKeys(keyRingDir);
+      var newestKey = storedKeys.isEmpty() ? null : storedKeys.getLast();
+      if (newestKey == null || shouldRotate(newestKey, authConfig, now)) {
+        newestKey = generateKey(keyRingDir, authConfig.jwtSigningAlgorithm(), now);
+        storedKeys.add(newestKey);
+      }
 
-      // if one of the keys is missing the key pair is incomplete - generate new keys in that case
-      if (Files.notExists(publicKeyPath) || Files.notExists(privateKeyPath)) {
-        var jwtSignKeyPair = KeySecurityUtil.generateRsaPssKeyPair();
+      // all tokens signed by a key expire at latest after the max token lifetime once the next key was created
+      var maxTokenLifetime = authConfig.jwtTokenLifetime().compareTo(authConfig.jwtRefreshTokenLifetime()) > 0
+        ? authConfig.jwtTokenLifetime()
+        : authConfig.jwtRefreshTokenLifetime();
+      var keyRing = JwtKeyRing.builder().signingKey(
+        newestKey.keyId(),
+        newestKey.keyPair().getPrivate(),
+        newestKey.keyPair().getPublic());
+      for (var index = 0; index < storedKeys.size() - 1; index++) {
+        var storedKey = storedKeys.get(index);
+        var replacedAt = storedKeys.get(index + 1).createdAt();
+        if (replacedAt.plus(maxTokenLifetime).isBefore(now)) {
+          Files.deleteIfExists(keyRingDir.resolve(storedKey.keyId() + PUBLIC_KEY_SUFFIX));
+          Files.deleteIfExists(keyRingDir.resolve(storedKey.keyId() + PRIVATE_KEY_SUFFIX));
+        } else {
+          keyRing.verificationKey(storedKey.keyId(), storedKey.keyPair().getPublic());
+        }
+      }
 
-        Files.createDirectories(moduleDataDir);
-        Files.write(publicKeyPath, jwtSignKeyPair.getPublic().getEncoded());
-        Files.write(privateKeyPath, jwtSignKeyPair.getPrivate().getEncoded());
+      // tokens signed using the legacy key pair have no key id, keep validating them until they expired
+      var legacyKeyPair = readLegacyKeyPair(moduleDataDir, storedKeys.getFirst().createdAt().plus(maxTokenLifetime), now);
+      if (legacyKeyPair != null) {
+        keyRing.defaultVerificationKey(legacyKeyPair.getPublic());
       }
 
-      // read and decode the jwt signing key pair
-      var encodedPublicKey = Files.readAllBytes(publicKeyPath);
-      var encodedPrivateKey = Files.readAllBytes(privateKeyPath);
-      return KeySecurityUtil.pairFromEncodedKeys(encodedPublicKey, encodedPrivateKey);
+      return keyRing.build();
     } catch (IOException exception) {
-      throw new IllegalStateException("Unable to initialize JWT signing key pair", exception);
+      throw new IllegalStateException("Unable to initialize JWT signing key ring", exception);
+    }
+  }
+
+  private static boolean shouldRotate(@NonNull StoredKey key, @NonNull AuthConfiguration config, @NonNull Instant now) {
+    if (key.algorithm() != config.jwtSigningAlgorithm()) {
+      return true;
+    }
+
+    var rotationInterval = config.jwtKeyRotationInterval();
+    return !rotationInterval.isZero() && !key.createdAt().plus(rotationInterval).isAfter(now);
+  }
+
+  private static @NonNull List<StoredKey> readStoredKeys(@NonNull Path keyRingDir) throws IOException {
+    List<StoredKey> storedKeys = new ArrayList<>();
+    try (var files = Files.list(keyRingDir)) {
+      for (var publicKeyPath : (Iterable<Path>) files::iterator) {
+        var fileName = publicKeyPath.getFileName().toString();
+        if (!fileName.endsWith(PUBLIC_KEY_SUFFIX)) {
+          continue;
+        }
+
+        // if one of the keys is missing the key pair is incomplete - ignore the key in that case
+        var keyId = fileName.substring(0, fileName.length() - PUBLIC_KEY_SUFFIX.length());
+        var privateKeyPath = keyRingDir.resolve(keyId + PRIVATE_KEY_SUFFIX);
+        if (Files.notExists(privateKeyPath)) {
+          continue;
+        }
+
+        // ignore files that were not written by us, for example backups of keys
+        JwtSigningAlgorithm algorithm;
+        Instant createdAt;
+        try {
+          algorithm = JwtSigningAlgorithm.fromKeyId(keyId);
+          createdAt = Instant.ofEpochSecond(Long.parseLong(keyId.substring(algorithm.keyIdPrefix().length() + 1)));
+        } catch (IllegalArgumentException exception) {
+          continue;
+        }
+
+        var keyPair = algorithm.decodeKeyPair(Files.readAllBytes(publicKeyPath), Files.readAllBytes(privateKeyPath));
+        storedKeys.add(new StoredKey(keyId, algorithm, createdAt, keyPair));
+      }
+    }
+
+    storedKeys.sort(Comparator.comparing(StoredKey::createdAt));
+    return storedKeys;
+  }
+
+  private static @NonNull StoredKey generateKey(
+    @NonNull Path keyRingDir,
+    @NonNull JwtSigningAlgorithm algorithm,
+    @NonNull Instant now
+  ) throws IOException {
+    var keyId = algorithm.keyIdPrefix() + '-' + now.getEpochSecond();
+    var keyPair = algorithm.generateKeyPair();
+
+    // write the private key last, a key is only considered complete once both parts exist
+    Files.write(keyRingDir.resolve(keyId + PUBLIC_KEY_SUFFIX), keyPair.getPublic().getEncoded());
+    Files.write(keyRingDir.resolve(keyId + PRIVATE_KEY_SUFFIX), keyPair.getPrivate().getEncoded());
+    return new StoredKey(keyId, algorithm, now, keyPair);
+  }
+
+  private static @Nullable KeyPair readLegacyKeyPair(
+    @NonNull Path moduleDataDir,
+    @NonNull Instant expiresAt,
+    @NonNull Instant now
+  ) throws IOException {
+    var publicKeyPath = moduleDataDir.resolve(LEGACY_PUBLIC_KEY_PATH);
+    var privateKeyPath = moduleDataDir.resolve(LEGACY_PRIVATE_KEY_PATH);
+    if (Files.notExists(publicKeyPath) || Files.notExists(privateKeyPath)) {
+      return null;
+    }
+
+    // all tokens signed with the legacy key pair are expired, no need to keep the keys
+    if (expiresAt.isBefore(now)) {
+      Files.deleteIfExists(publicKeyPath);
+      Files.deleteIfExists(privateKeyPath);
+      return null;
     }
+
+    var encodedPublicKey = Files.readAllBytes(publicKeyPath);
+    var encodedPrivateKey = Files.readAllBytes(privateKeyPath);
+    return KeySecurityUtil.pairFromEncodedKeys(encodedPublicKey, encodedPrivateKey);
   }
 
   @Override
   public int priority() {
     return AuthProvider.DEFAULT_PRIORITY + 10;
   }
+
+  private record StoredKey(
+    @NonNull String keyId,
+    @NonNull JwtSigningAlgorithm algorithm,
+    @NonNull Instant createdAt,
+    @NonNull KeyPair keyPair
+  ) {
+
+  }
 }
@@ -35,7 +35,10 @@ public final class CloudNetTicketAuthProvider extends TicketAuthProvider {
   private static final Path HMAC_KEY_PATH = Path.of("ticket_sign_key");
 
   public CloudNetTicketAuthProvider() {
-    super(RestConfiguration.get().authConfig().ticketLifetime(), readOrGenenerateMAC());
+    super(
+      RestConfiguration.get().authConfig().ticketLifetime(),
+      readOrGenenerateMAC(),
+      RestConfiguration.get().authConfig().singleUseTickets());
   }
 
   private static @NonNull Mac readOrGenenerateMAC() {
@@ -22,6 +22,7 @@
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
+import java.security.spec.ECGenParameterSpec;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.MGF1ParameterSpec;
 import java.security.spec.PKCS8EncodedKeySpec;
@@ -35,7 +36,9 @@
 public final class KeySecurityUtil {
 
   public static final String HMAC_SHA_256_ALGORITHM_NAME = "HmacSHA256";
-  private static final String RSA_KEY_ALGORITHM_NAME = "RSASSA-PSS";
+  public static final String RSA_KEY_ALGORITHM_NAME = "RSASSA-PSS";
+  public static final String EC_KEY_ALGORITHM_NAME = "EC";
+  public static final String ED25519_KEY_ALGORITHM_NAME = "Ed25519";
 
   private KeySecurityUtil() {
     throw new UnsupportedOperationException();
@@ -60,14 +63,42 @@ private KeySecurityUtil() {
     }
   }
 
+  public static @NonNull KeyPair generateEcP256KeyPair() {
+    try {
+      // ECDSA using P-256 and SHA-256 (ES256)
+      var factory = KeyPairGenerator.getInstance(EC_KEY_ALGORITHM_NAME);
+      factory.initialize(new ECGenParameterSpec("secp256r1"));
+      return factory.generateKeyPair();
+    } catch (NoSuchAlgorithmException | InvalidAlgorithmParameterException exception) {
+      throw new IllegalStateException("Unable to generate ES256 JWT singing keys", exception);
+    }
+  }
+
+  public static @NonNull KeyPair generateEd25519KeyPair() {
+    try {
+      var factory = KeyPairGenerator.getInstance(ED25519_KEY_ALGORITHM_NAME);
+      return factory.generateKeyPair();
+    } catch (NoSuchAlgorithmException exception) {
+      throw new IllegalStateException("Unable to generate Ed25519 JWT singing keys", exception);
+    }
+  }
+
   public static @NonNull KeyPair pairFromEncodedKeys(byte[] encodedPublic, byte[] encodedPrivate) {
+    return pairFromEncodedKeys(RSA_KEY_ALGORITHM_NAME, encodedPublic, encodedPrivate);
+  }
+
+  public static @NonNull KeyPair pairFromEncodedKeys(
+    @NonNull String keyAlgorithm,
+    byte[] encodedPublic,
+    byte[] encodedPrivate
+  ) {
     try {
-      var keyFactory = KeyFactory.getInstance(RSA_KEY_ALGORITHM_NAME);
+      var keyFactory = KeyFactory.getInstance(keyAlgorithm);
       var decodedPublicKey = keyFactory.generatePublic(new X509EncodedKeySpec(encodedPublic));
       var decodedPrivateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(encodedPrivate));
       return new KeyPair(decodedPublicKey, decodedPrivateKey);
     } catch (NoSuchAlgorithmException | InvalidKeySpecException exception) {
-      throw new IllegalStateException("Unable to decode RsaSsa-Pss-Sha-512 JWT singing keys", exception);
+      throw new IllegalStateException("Unable to decode " + keyAlgorithm + " JWT singing keys", exception);
     }
   }
 
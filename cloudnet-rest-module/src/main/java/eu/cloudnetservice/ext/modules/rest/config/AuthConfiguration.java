@@ -17,20 +17,39 @@
 package eu.cloudnetservice.ext.modules.rest.config;
 
 import java.time.Duration;
+import java.util.Objects;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 public record AuthConfiguration(
   int jwtTokenLifetimeSeconds,
   int jwtRefreshTokenLifetimeSeconds,
-  int ticketLifetimeSeconds
+  int ticketLifetimeSeconds,
+  boolean singleUseTickets,
+  @Nullable JwtSigningAlgorithm jwtSigningAlgorithm,
+  @Nullable Integer jwtKeyRotationIntervalSeconds
 ) {
 
+  private static final int DEFAULT_KEY_ROTATION_INTERVAL_SECONDS = 30 * 24 * 60 * 60; // 30d
+
   public static final AuthConfiguration DEFAULT_CONFIGURATION = new AuthConfiguration(
     12 * 60 * 60, // 12h
     3 * 24 * 60 * 60, // 3d
-    15 // 15s
+    15, // 15s
+    false,
+    JwtSigningAlgorithm.ED25519,
+    DEFAULT_KEY_ROTATION_INTERVAL_SECONDS
   );
 
+  public AuthConfiguration {
+    // configurations written before the signing algorithm was configurable don't contain the option
+    jwtSigningAlgorithm = Objects.requireNonNullElse(jwtSigningAlgorithm, JwtSigningAlgorithm.ED25519);
+    // the same applies to the key rotation interval, explicitly disabling the rotation is done using zero
+    jwtKeyRotationIntervalSeconds = Objects.requireNonNullElse(
+      jwtKeyRotationIntervalSeconds,
+      DEFAULT_KEY_ROTATION_INTERVAL_SECONDS);
+  }
+
   public void validate() {
     if (this.jwtTokenLifetimeSeconds <= 0
       || this.jwtRefreshTokenLifetimeSeconds <= 0
@@ -47,6 +66,12 @@ public void validate() {
     return Duration.ofSeconds(this.jwtRefreshTokenLifetimeSeconds);
   }
 
+  public @NonNull Duration jwtKeyRotationInterval() {
+    // a rotation interval less or equal to zero disables the key rotation. note that the interval is only checked
+    // when the jwt key ring is loaded during startup, a due key is rotated on the next start of the module
+    return Duration.ofSeconds(Math.max(0, this.jwtKeyRotationIntervalSeconds));
+  }
+
   public @NonNull Duration ticketLifetime() {
     return Duration.ofSeconds(this.ticketLifetimeSeconds);
   }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.modules.rest.config;
+
+import eu.cloudnetservice.ext.modules.rest.auth.util.KeySecurityUtil;
+import java.security.KeyPair;
+import java.util.function.Supplier;
+import lombok.NonNull;
+
+public enum JwtSigningAlgorithm {
+
+  RSA_PSS("rsa", KeySecurityUtil.RSA_KEY_ALGORITHM_NAME, KeySecurityUtil::generateRsaPssKeyPair),
+  ES256("es256", KeySecurityUtil.EC_KEY_ALGORITHM_NAME, KeySecurityUtil::generateEcP256KeyPair),
+  ED25519("ed25519", KeySecurityUtil.ED25519_KEY_ALGORITHM_NAME, KeySecurityUtil::generateEd25519KeyPair);
+
+  private final String keyIdPrefix;
+  private final String keyAlgorithm;
+  private final Supplier<KeyPair> keyPairGenerator;
+
+  JwtSigningAlgorithm(
+    @NonNull String keyIdPrefix,
+    @NonNull String keyAlgorithm,
+    @NonNull Supplier<KeyPair> keyPairGenerator
+  ) {
+    this.keyIdPrefix = keyIdPrefix;
+    this.keyAlgorithm = keyAlgorithm;
+    this.keyPairGenerator = keyPairGenerator;
+  }
+
+  public static @NonNull JwtSigningAlgorithm fromKeyId(@NonNull String keyId) {
+    for (var algorithm : values()) {
+      if (keyId.startsWith(algorithm.keyIdPrefix + '-')) {
+        return algorithm;
+      }
+    }
+
+    throw new IllegalArgumentException("Unable to resolve jwt signing algorithm of key " + keyId);
+  }
+
+  public @NonNull String keyIdPrefix() {
+    return this.keyIdPrefix;
+  }
+
+  public @NonNull KeyPair generateKeyPair() {
+    return this.keyPairGenerator.get();
+  }
+
+  public @NonNull KeyPair decodeKeyPair(byte[] encodedPublic, byte[] encodedPrivate) {
+    return KeySecurityUtil.pairFromEncodedKeys(this.keyAlgorithm, encodedPublic, encodedPrivate);
+  }
+}
@@ -18,6 +18,7 @@
 
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import eu.cloudnetservice.ext.rest.api.config.BulkheadConfig;
 import eu.cloudnetservice.ext.rest.api.config.ComponentConfig;
 import eu.cloudnetservice.ext.rest.api.config.CorsConfig;
 import eu.cloudnetservice.ext.rest.api.config.HttpProxyMode;
@@ -25,7 +26,9 @@
 import eu.cloudnetservice.ext.rest.api.connection.EmptyConnectionInfoResolver;
 import eu.cloudnetservice.ext.rest.api.connection.HttpConnectionInfoResolver;
 import eu.cloudnetservice.ext.rest.api.util.HostAndPort;
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -36,18 +39,36 @@ public record RestConfiguration(
   int maxContentLength,
   int requestDispatchThreadLimit,
   boolean disableNativeTransport,
+  boolean serverTimingHeader,
+  boolean accessLog,
+  @Nullable Integer slowRequestThresholdSeconds,
+  @Nullable Integer requestTimeoutSeconds,
   @NonNull CorsConfig corsConfig,
   @NonNull HttpProxyMode proxyMode,
   @NonNull AuthConfiguration authConfig,
   @NonNull List<HostAndPort> httpListeners,
   @NonNull List<ConnectionInfoResolverConfiguration> connectionInfoResolver,
+  @Nullable List<BulkheadConfig> bulkheads,
   @Nullable SslConfiguration sslConfiguration
 ) {
 
+  public static final String BULK_IO_BULKHEAD = "bulk-io";
+  public static final String CLUSTER_WRITE_BULKHEAD = "cluster-write";
+
+  private static final int DEFAULT_SLOW_REQUEST_THRESHOLD_SECONDS = 10;
+  private static final int DEFAULT_REQUEST_TIMEOUT_SECONDS = 60;
+  private static final List<BulkheadConfig> DEFAULT_BULKHEADS = List.of(
+    new BulkheadConfig(BULK_IO_BULKHEAD, 4, 16),
+    new BulkheadConfig(CLUSTER_WRITE_BULKHEAD, 8, 64));
+
   public static final RestConfiguration DEFAULT = new RestConfiguration(
     ComponentConfig.DEFAULT_MAX_CONTENT_LENGTH,
     50,
     false,
+    false,
+    false,
+    DEFAULT_SLOW_REQUEST_THRESHOLD_SECONDS,
+    DEFAULT_REQUEST_TIMEOUT_SECONDS,
     CorsConfig.builder()
       .addAllowedOrigin("*")
       .addAllowedHeader("*")
@@ -57,10 +78,21 @@ public record RestConfiguration(
     AuthConfiguration.DEFAULT_CONFIGURATION,
     List.of(new HostAndPort("127.0.0.1", 2812)),
     List.of(),
+    DEFAULT_BULKHEADS,
     null);
 
   private static RestConfiguration instance;
 
+  public RestConfiguration {
+    // configurations written before bulkheads were configurable don't contain the option
+    bulkheads = Objects.requireNonNullElse(bulkheads, DEFAULT_BULKHEADS);
+    // the same applies to the request timeout and the slow request threshold, zero explicitly disables them
+    requestTimeoutSeconds = Objects.requireNonNullElse(requestTimeoutSeconds, DEFAULT_REQUEST_TIMEOUT_SECONDS);
+    slowRequestThresholdSeconds = Objects.requireNonNullElse(
+      slowRequestThresholdSeconds,
+      DEFAULT_SLOW_REQUEST_THRESHOLD_SECONDS);
+  }
+
   public static @NonNull RestConfiguration get() {
     Preconditions.checkState(instance != null, "rest configuration has not been initialized");
     return instance;
@@ -95,10 +127,25 @@ public void validate() {
       .sslConfiguration(this.sslConfiguration)
       .executorService(requestDispatchExecutor)
       .disableNativeTransport(this.disableNativeTransport)
+      .serverTimingHeader(this.serverTimingHeader)
+      .accessLog(this.accessLog)
+      .slowRequestThreshold(this.slowRequestThreshold())
+      .requestTimeout(this.requestTimeout())
+      .bulkheads(this.bulkheads)
       .connectionInfoResolver(this.httpConnectionInfoResolver())
       .build();
   }
 
+  private @Nullable Duration requestTimeout() {
+    // a non-positive timeout disables the request deadline
+    return this.requestTimeoutSeconds > 0 ? Duration.ofSeconds(this.requestTimeoutSeconds) : null;
+  }
+
+  private @Nullable Duration slowRequestThreshold() {
+    // a non-positive threshold disables the slow request detection
+    return this.slowRequestThresholdSeconds > 0 ? Duration.ofSeconds(this.slowRequestThresholdSeconds) : null;
+  }
+
   private @NonNull HttpConnectionInfoResolver httpConnectionInfoResolver() {
     var baseResolver = EmptyConnectionInfoResolver.INSTANCE;
     for (var resolverConfiguration : this.connectionInfoResolver) {
@@ -22,6 +22,7 @@
 import eu.cloudnetservice.ext.rest.api.HttpMethod;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.annotation.Authentication;
+import eu.cloudnetservice.ext.rest.api.annotation.RateLimit;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestHandler;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestTypedBody;
 import eu.cloudnetservice.ext.rest.api.auth.AuthProvider;
@@ -78,6 +79,7 @@ public V3HttpHandlerAuthorization() {
     this.userManagement = RestUserManagementLoader.load();
   }
 
+  @RateLimit(permits = 10)
   @RequestHandler(path = "/api/v3/auth", method = HttpMethod.POST)
   public @NonNull IntoResponse<?> handleBasicAuthLoginRequest(
     @Authentication(providers = "basic") @NonNull RestUser user,
@@ -22,6 +22,7 @@
 import eu.cloudnetservice.ext.rest.api.HttpMethod;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.annotation.Authentication;
+import eu.cloudnetservice.ext.rest.api.annotation.Coalesce;
 import eu.cloudnetservice.ext.rest.api.annotation.FirstRequestQueryParam;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestHandler;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestPathParam;
@@ -62,6 +63,7 @@ public V3HttpHandlerCluster(@NonNull Configuration configuration, @NonNull NodeS
   }
 
   @RequestHandler(path = "/api/v3/cluster")
+  @Coalesce
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:cluster_read", "cloudnet_rest:cluster_node_list"})
   public @NonNull IntoResponse<?> handleNodeList() {
     var nodes = this.nodeServerProvider.nodeServers().stream().map(this::createNodeInfoDocument).toList();
@@ -69,6 +71,7 @@ public V3HttpHandlerCluster(@NonNull Configuration configuration, @NonNull NodeS
   }
 
   @RequestHandler(path = "/api/v3/cluster/{node}")
+  @Coalesce
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:cluster_read", "cloudnet_rest:cluster_node_list"})
   public @NonNull IntoResponse<?> handleNodeRequest(@NonNull @RequestPathParam("node") String node) {
     var server = this.nodeServerProvider.node(node);
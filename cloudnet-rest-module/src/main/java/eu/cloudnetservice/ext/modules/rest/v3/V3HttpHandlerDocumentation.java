@@ -16,23 +16,26 @@
 
 package eu.cloudnetservice.ext.modules.rest.v3;
 
+import eu.cloudnetservice.ext.rest.api.HttpRequest;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestHandler;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestPath;
+import eu.cloudnetservice.ext.rest.api.asset.StaticAssetHandler;
 import eu.cloudnetservice.ext.rest.api.problem.ProblemDetail;
 import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
-import eu.cloudnetservice.ext.rest.api.response.type.InputStreamResponse;
 import eu.cloudnetservice.ext.rest.api.response.type.PlainTextResponse;
 import jakarta.inject.Singleton;
-import java.io.IOException;
 import java.net.URI;
-import java.net.URLConnection;
-import java.util.Objects;
 import lombok.NonNull;
 
 @Singleton
 public final class V3HttpHandlerDocumentation {
 
+  // the documentation assets never change while the node is running, keep them encoded in memory
+  private final StaticAssetHandler documentationAssets = StaticAssetHandler.builder()
+    .classpath(V3HttpHandlerDocumentation.class.getClassLoader(), "documentation")
+    .build();
+
   @RequestHandler(path = "/api/v3/documentation")
   public @NonNull IntoResponse<?> handleDocumentationRequest() {
     return PlainTextResponse.builder()
@@ -41,8 +44,11 @@ public final class V3HttpHandlerDocumentation {
   }
 
   @RequestHandler(path = "/api/v3/documentation/*")
-  public @NonNull IntoResponse<?> handleDocumentationFileRequest(@NonNull @RequestPath String path) throws IOException {
-    var filePath = path.replaceFirst("/api/v3/", "");
+  public @NonNull IntoResponse<?> handleDocumentationFileRequest(
+    @NonNull @RequestPath String path,
+    @NonNull HttpRequest request
+  ) {
+    var filePath = path.replaceFirst("/api/v3/documentation/", "");
     if (filePath.contains("..")) {
       return ProblemDetail.builder()
         .type("file-browsing-is-forbidden")
@@ -51,9 +57,8 @@ public final class V3HttpHandlerDocumentation {
         .detail("File browsing is not allowed.");
     }
 
-    // get the resource and the content type of it
-    var resource = V3HttpHandlerDocumentation.class.getClassLoader().getResource(filePath);
-    if (resource == null) {
+    var asset = this.documentationAssets.asset(filePath);
+    if (asset == null) {
       return ProblemDetail.builder()
         .type("documentation-not-found")
         .title("Documentation Not Found")
@@ -61,10 +66,7 @@ public final class V3HttpHandlerDocumentation {
         .detail("The requested documentation file was not found.");
     }
 
-    var contentType = Objects.requireNonNullElse(
-      URLConnection.guessContentTypeFromName(filePath),
-      "application/octet-stream");
-    return InputStreamResponse.builder().body(resource.openStream()).contentType(contentType);
+    return asset.responseFor(request);
   }
 
 }
@@ -21,6 +21,9 @@
 import eu.cloudnetservice.ext.rest.api.HttpMethod;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.annotation.Authentication;
+import eu.cloudnetservice.ext.rest.api.annotation.CacheInvalidate;
+import eu.cloudnetservice.ext.rest.api.annotation.Cacheable;
+import eu.cloudnetservice.ext.rest.api.annotation.ETag;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestHandler;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestPathParam;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestTypedBody;
@@ -45,12 +48,16 @@ public V3HttpHandlerGroup(@NonNull GroupConfigurationProvider groupProvider) {
   }
 
   @RequestHandler(path = "/api/v3/group")
+  @ETag
+  @Cacheable(value = "group", ttlSeconds = 5)
   @Authentication(providers = "jwt", scopes = {"cloudnet_cloudnet_rest:group_read", "cloudnet_rest:group_list"})
   public @NonNull IntoResponse<?> handleGroupListRequest() {
     return JsonResponse.builder().body(Map.of("groups", this.groupProvider.groupConfigurations()));
   }
 
   @RequestHandler(path = "/api/v3/group/{name}")
+  @ETag
+  @Cacheable(value = "group", ttlSeconds = 5)
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:group_read", "cloudnet_rest:group_get"})
   public @NonNull IntoResponse<?> handleGroupGetRequest(@NonNull @RequestPathParam("name") String name) {
     var group = this.groupProvider.groupConfiguration(name);
@@ -67,6 +74,7 @@ public V3HttpHandlerGroup(@NonNull GroupConfigurationProvider groupProvider) {
 
   @EnableValidation
   @RequestHandler(path = "/api/v3/group", method = HttpMethod.POST)
+  @CacheInvalidate("group")
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:group_write", "cloudnet_rest:group_create"})
   public @NonNull IntoResponse<?> handleGroupCreateRequest(@Valid @RequestTypedBody GroupConfigurationDto group) {
     if (group == null) {
@@ -82,6 +90,7 @@ public V3HttpHandlerGroup(@NonNull GroupConfigurationProvider groupProvider) {
   }
 
   @RequestHandler(path = "/api/v3/group/{name}", method = HttpMethod.DELETE)
+  @CacheInvalidate("group")
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:group_write", "cloudnet_rest:group_delete"})
   public @NonNull IntoResponse<?> handleGroupDeleteRequest(@NonNull @RequestPathParam("name") String name) {
     var group = this.groupProvider.groupConfiguration(name);
@@ -22,14 +22,18 @@
 import eu.cloudnetservice.driver.module.ModuleProvider;
 import eu.cloudnetservice.driver.module.ModuleWrapper;
 import eu.cloudnetservice.driver.module.driver.DriverModule;
+import eu.cloudnetservice.ext.modules.rest.config.RestConfiguration;
 import eu.cloudnetservice.ext.rest.api.HttpMethod;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.annotation.Authentication;
+import eu.cloudnetservice.ext.rest.api.annotation.Bulkhead;
+import eu.cloudnetservice.ext.rest.api.annotation.Cacheable;
 import eu.cloudnetservice.ext.rest.api.annotation.FirstRequestQueryParam;
 import eu.cloudnetservice.ext.rest.api.annotation.Optional;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestBody;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestHandler;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestPathParam;
+import eu.cloudnetservice.ext.rest.api.annotation.RequestTimeout;
 import eu.cloudnetservice.ext.rest.api.auth.RestUser;
 import eu.cloudnetservice.ext.rest.api.problem.ProblemDetail;
 import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
@@ -47,6 +51,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import kong.unirest.core.Unirest;
@@ -95,6 +100,7 @@ public V3HttpHandlerModule(@NonNull ModulesHolder modulesHolder, @NonNull Module
   }
 
   @RequestHandler(path = "/api/v3/module/available")
+  @Cacheable(value = "module-available", ttlSeconds = 60)
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:module_read", "cloudnet_rest:module_list_available"})
   public @NonNull IntoResponse<?> handleModuleInstalledListRequest() {
     var modules = this.modulesHolder.entries().stream().peek(ModuleEntry::url).toList();
@@ -204,6 +210,8 @@ public V3HttpHandlerModule(@NonNull ModulesHolder modulesHolder, @NonNull Module
   }
 
   @RequestHandler(path = "/api/v3/module/{name}/install", method = HttpMethod.POST)
+  @Bulkhead(RestConfiguration.BULK_IO_BULKHEAD)
+  @RequestTimeout(value = 5, unit = TimeUnit.MINUTES)
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:module_write", "cloudnet_rest:module_install"})
   public @NonNull IntoResponse<?> handleModuleInstallRequest(
     @NonNull @RequestPathParam("name") String name,
@@ -37,6 +37,7 @@
 import eu.cloudnetservice.ext.rest.api.annotation.RequestHandler;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestTypedBody;
 import eu.cloudnetservice.ext.rest.api.auth.RestUser;
+import eu.cloudnetservice.ext.rest.api.metrics.PrometheusMetricsHandler;
 import eu.cloudnetservice.ext.rest.api.problem.ProblemDetail;
 import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
 import eu.cloudnetservice.ext.rest.api.response.type.JsonResponse;
@@ -107,6 +108,12 @@ public V3HttpHandlerNode(
     return HttpResponseCode.NO_CONTENT;
   }
 
+  @RequestHandler(path = "/api/v3/node/metrics")
+  @Authentication(providers = {"basic", "jwt"}, scopes = {"cloudnet_rest:node_read", "cloudnet_rest:node_metrics"})
+  public @NonNull IntoResponse<?> handleNodeMetricsRequest(@NonNull HttpContext context) {
+    return PrometheusMetricsHandler.INSTANCE.handle(context);
+  }
+
   @RequestHandler(path = "/api/v3/node")
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:node_read", "cloudnet_rest:node_info"})
   public @NonNull IntoResponse<?> handleNodeInfoRequest() {
@@ -23,6 +23,7 @@
 import eu.cloudnetservice.driver.service.ServiceConfiguration;
 import eu.cloudnetservice.driver.service.ServiceCreateResult;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.ext.modules.rest.config.RestConfiguration;
 import eu.cloudnetservice.ext.modules.rest.dto.service.ServiceConfigurationDto;
 import eu.cloudnetservice.ext.modules.rest.dto.service.ServiceDeploymentDto;
 import eu.cloudnetservice.ext.modules.rest.dto.service.ServiceRemoteInclusionDto;
@@ -32,6 +33,9 @@
 import eu.cloudnetservice.ext.rest.api.HttpMethod;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.annotation.Authentication;
+import eu.cloudnetservice.ext.rest.api.annotation.Bulkhead;
+import eu.cloudnetservice.ext.rest.api.annotation.Coalesce;
+import eu.cloudnetservice.ext.rest.api.annotation.ETag;
 import eu.cloudnetservice.ext.rest.api.annotation.FirstRequestQueryParam;
 import eu.cloudnetservice.ext.rest.api.annotation.Optional;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestHandler;
@@ -82,18 +86,22 @@ public V3HttpHandlerService(
   }
 
   @RequestHandler(path = "/api/v3/service")
+  @Coalesce
+  @ETag
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:service_read", "cloudnet_rest:service_list"})
   public @NonNull IntoResponse<?> handleServiceListRequest() {
     return JsonResponse.builder().body(Map.of("services", this.serviceManager.services()));
   }
 
   @RequestHandler(path = "/api/v3/service/{id}")
+  @ETag
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:service_read", "cloudnet_rest:service_get"})
   public @NonNull IntoResponse<?> handleServiceGetRequest(@NonNull @RequestPathParam("id") String id) {
     return this.handleServiceContext(id, service -> JsonResponse.builder().body(service));
   }
 
   @RequestHandler(path = "/api/v3/service/{id}", method = HttpMethod.DELETE)
+  @Bulkhead(RestConfiguration.CLUSTER_WRITE_BULKHEAD)
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:service_write", "cloudnet_rest:service_delete"})
   public @NonNull IntoResponse<?> handleServiceDeleteRequest(@NonNull @RequestPathParam("id") String id) {
     return this.handleEmptyServiceProviderContext(id, SpecificCloudServiceProvider::delete);
@@ -106,6 +114,7 @@ public V3HttpHandlerService(
   }
 
   @RequestHandler(path = "/api/v3/service/{id}/lifecycle", method = HttpMethod.PATCH)
+  @Bulkhead(RestConfiguration.CLUSTER_WRITE_BULKHEAD)
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:service_write", "cloudnet_rest:service_lifecycle"})
   public @NonNull IntoResponse<?> handleServiceLifecycleRequest(
     @NonNull @RequestPathParam("id") String id,
@@ -180,6 +189,7 @@ public V3HttpHandlerService(
   }
 
   @RequestHandler(path = "/api/v3/service/{id}/deployResources", method = HttpMethod.POST)
+  @Bulkhead(RestConfiguration.BULK_IO_BULKHEAD)
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:service_write", "cloudnet_rest:service_deploy_resources"})
   public @NonNull IntoResponse<?> handleServiceDeployRequest(
     @NonNull @RequestPathParam("id") String id,
@@ -233,6 +243,7 @@ public V3HttpHandlerService(
 
   @EnableValidation
   @RequestHandler(path = "/api/v3/service/create/serviceConfig", method = HttpMethod.POST)
+  @Bulkhead(RestConfiguration.CLUSTER_WRITE_BULKHEAD)
   @Authentication(
     providers = "jwt",
     scopes = {"cloudnet_rest:service_write", "cloudnet_rest:service_create_service_config"})
@@ -253,6 +264,7 @@ public V3HttpHandlerService(
 
   @EnableValidation
   @RequestHandler(path = "/api/v3/service/create/task", method = HttpMethod.POST)
+  @Bulkhead(RestConfiguration.CLUSTER_WRITE_BULKHEAD)
   @Authentication(
     providers = "jwt",
     scopes = {"cloudnet_rest:service_write", "cloudnet_rest:service_create_task"})
@@ -273,6 +285,7 @@ public V3HttpHandlerService(
   }
 
   @RequestHandler(path = "/api/v3/service/create/taskName", method = HttpMethod.POST)
+  @Bulkhead(RestConfiguration.CLUSTER_WRITE_BULKHEAD)
   @Authentication(
     providers = "jwt",
     scopes = {"cloudnet_rest:service_write", "cloudnet_rest:service_create_task_name"})
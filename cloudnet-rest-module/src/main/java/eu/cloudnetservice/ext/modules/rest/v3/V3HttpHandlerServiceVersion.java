@@ -19,15 +19,20 @@
 import eu.cloudnetservice.common.io.FileUtil;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.ext.modules.rest.config.RestConfiguration;
 import eu.cloudnetservice.ext.modules.rest.dto.version.ServiceEnvironmentTypeDto;
 import eu.cloudnetservice.ext.modules.rest.dto.version.ServiceVersionTypeDto;
 import eu.cloudnetservice.ext.rest.api.HttpMethod;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.annotation.Authentication;
+import eu.cloudnetservice.ext.rest.api.annotation.Bulkhead;
+import eu.cloudnetservice.ext.rest.api.annotation.CacheInvalidate;
+import eu.cloudnetservice.ext.rest.api.annotation.Cacheable;
 import eu.cloudnetservice.ext.rest.api.annotation.FirstRequestQueryParam;
 import eu.cloudnetservice.ext.rest.api.annotation.Optional;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestHandler;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestPathParam;
+import eu.cloudnetservice.ext.rest.api.annotation.RequestTimeout;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestTypedBody;
 import eu.cloudnetservice.ext.rest.api.problem.ProblemDetail;
 import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
@@ -44,6 +49,7 @@
 import jakarta.validation.Valid;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -64,6 +70,7 @@ public V3HttpHandlerServiceVersion(
   }
 
   @RequestHandler(path = "/api/v3/serviceVersion")
+  @Cacheable(value = "service-version", ttlSeconds = 30)
   @Authentication(
     providers = "jwt",
     scopes = {"cloudnet_rest:service_version_read", "cloudnet_rest:service_version_list"})
@@ -72,6 +79,7 @@ public V3HttpHandlerServiceVersion(
   }
 
   @RequestHandler(path = "/api/v3/serviceVersion", method = HttpMethod.POST)
+  @CacheInvalidate("service-version")
   @Authentication(
     providers = "jwt",
     scopes = {"cloudnet_rest:service_version_write", "cloudnet_rest:service_version_register"})
@@ -101,6 +109,7 @@ public V3HttpHandlerServiceVersion(
   }
 
   @RequestHandler(path = "/api/v3/serviceVersion/environment")
+  @Cacheable(value = "service-version", ttlSeconds = 30)
   @Authentication(
     providers = "jwt",
     scopes = {"cloudnet_rest:service_version_read", "cloudnet_rest:service_version_list_environments"})
@@ -109,6 +118,7 @@ public V3HttpHandlerServiceVersion(
   }
 
   @RequestHandler(path = "/api/v3/serviceVersion/environment", method = HttpMethod.POST)
+  @CacheInvalidate("service-version")
   @Authentication(
     providers = "jwt",
     scopes = {"cloudnet_rest:service_version_write", "cloudnet_rest:service_version_environment"})
@@ -128,6 +138,7 @@ public V3HttpHandlerServiceVersion(
   }
 
   @RequestHandler(path = "/api/v3/serviceVersion/{version}")
+  @Cacheable(value = "service-version", ttlSeconds = 30)
   @Authentication(
     providers = "jwt",
     scopes = {"cloudnet_rest:service_version_read", "cloudnet_rest:service_version_get"})
@@ -145,6 +156,7 @@ public V3HttpHandlerServiceVersion(
   }
 
   @RequestHandler(path = "/api/v3/serviceVersion/load", method = HttpMethod.POST)
+  @CacheInvalidate("service-version")
   @Authentication(
     providers = "jwt",
     scopes = {"cloudnet_rest:service_version_write", "cloudnet_rest:service_version_load"})
@@ -175,6 +187,8 @@ public V3HttpHandlerServiceVersion(
   }
 
   @RequestHandler(path = "/api/v3/serviceVersion/install", method = HttpMethod.POST)
+  @Bulkhead(RestConfiguration.BULK_IO_BULKHEAD)
+  @RequestTimeout(value = 5, unit = TimeUnit.MINUTES)
   @Authentication(
     providers = "jwt",
     scopes = {"cloudnet_rest:service_version_write", "cloudnet_rest:service_version_install"})
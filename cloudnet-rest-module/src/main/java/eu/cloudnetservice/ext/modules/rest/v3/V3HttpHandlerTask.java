@@ -21,6 +21,9 @@
 import eu.cloudnetservice.ext.rest.api.HttpMethod;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.annotation.Authentication;
+import eu.cloudnetservice.ext.rest.api.annotation.CacheInvalidate;
+import eu.cloudnetservice.ext.rest.api.annotation.Cacheable;
+import eu.cloudnetservice.ext.rest.api.annotation.ETag;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestHandler;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestPathParam;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestTypedBody;
@@ -45,12 +48,16 @@ public V3HttpHandlerTask(@NonNull ServiceTaskProvider taskProvider) {
   }
 
   @RequestHandler(path = "/api/v3/task")
+  @ETag
+  @Cacheable(value = "task", ttlSeconds = 5)
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:task_read", "cloudnet_rest:task_list"})
   public @NonNull IntoResponse<?> handleTaskListRequest() {
     return JsonResponse.builder().body(Map.of("tasks", this.taskProvider.serviceTasks()));
   }
 
   @RequestHandler(path = "/api/v3/task/{name}")
+  @ETag
+  @Cacheable(value = "task", ttlSeconds = 5)
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:task_read", "cloudnet_rest:task_get"})
   public @NonNull IntoResponse<?> handleTaskGetRequest(@NonNull @RequestPathParam("name") String name) {
     var task = this.taskProvider.serviceTask(name);
@@ -63,6 +70,7 @@ public V3HttpHandlerTask(@NonNull ServiceTaskProvider taskProvider) {
 
   @EnableValidation
   @RequestHandler(path = "/api/v3/task", method = HttpMethod.POST)
+  @CacheInvalidate("task")
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:task_write", "cloudnet_rest:task_create"})
   public @NonNull IntoResponse<?> handleTaskCreateRequest(@Valid @RequestTypedBody ServiceTaskDto serviceTask) {
     if (serviceTask == null) {
@@ -78,6 +86,7 @@ public V3HttpHandlerTask(@NonNull ServiceTaskProvider taskProvider) {
   }
 
   @RequestHandler(path = "/api/v3/task/{name}", method = HttpMethod.DELETE)
+  @CacheInvalidate("task")
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:task_write", "cloudnet_rest:task_delete"})
   public @NonNull IntoResponse<?> handleTaskDeleteRequest(@NonNull @RequestPathParam("name") String name) {
     var task = this.taskProvider.serviceTask(name);
@@ -20,9 +20,11 @@
 import com.google.common.net.MediaType;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
 import eu.cloudnetservice.driver.template.TemplateStorage;
+import eu.cloudnetservice.ext.modules.rest.config.RestConfiguration;
 import eu.cloudnetservice.ext.rest.api.HttpMethod;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.annotation.Authentication;
+import eu.cloudnetservice.ext.rest.api.annotation.Bulkhead;
 import eu.cloudnetservice.ext.rest.api.annotation.FirstRequestQueryParam;
 import eu.cloudnetservice.ext.rest.api.annotation.Optional;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestBody;
@@ -47,6 +49,7 @@ public final class V3HttpHandlerTemplate {
   private static final Logger LOGGER = LoggerFactory.getLogger(V3HttpHandlerTemplate.class);
 
   @RequestHandler(path = "/api/v3/template/{storage}/{prefix}/{name}/download")
+  @Bulkhead(RestConfiguration.BULK_IO_BULKHEAD)
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:template_read", "cloudnet_rest:template_download"})
   public @NonNull IntoResponse<?> handleTemplateDownloadRequest(
     @NonNull @RequestPathParam("storage") String storageName,
@@ -68,6 +71,7 @@ public final class V3HttpHandlerTemplate {
   }
 
   @RequestHandler(path = "/api/v3/template/{storage}/{prefix}/{name}/file/download")
+  @Bulkhead(RestConfiguration.BULK_IO_BULKHEAD)
   @Authentication(providers = "jwt", scopes = {"cloudnet_rest:template_read", "cloudnet_rest:template_file_download"})
   public @NonNull IntoResponse<?> handleTemplateFileDownloadRequest(
     @NonNull @RequestPathParam("storage") String storageName,
@@ -273,6 +277,7 @@ public final class V3HttpHandlerTemplate {
   }
 
   @RequestHandler(path = "/api/v3/template/{storage}/{prefix}/{name}/deploy", method = HttpMethod.POST)
+  @Bulkhead(RestConfiguration.BULK_IO_BULKHEAD)
   @Authentication(
     providers = "jwt",
     scopes = {"cloudnet_rest:template_write", "cloudnet_rest:template_deploy"})
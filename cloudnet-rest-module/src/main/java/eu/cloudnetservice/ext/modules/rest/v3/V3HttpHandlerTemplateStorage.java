@@ -19,6 +19,7 @@
 import eu.cloudnetservice.driver.template.TemplateStorageProvider;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.annotation.Authentication;
+import eu.cloudnetservice.ext.rest.api.annotation.Cacheable;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestHandler;
 import eu.cloudnetservice.ext.rest.api.annotation.RequestPathParam;
 import eu.cloudnetservice.ext.rest.api.problem.ProblemDetail;
@@ -40,6 +41,7 @@ public V3HttpHandlerTemplateStorage(@NonNull TemplateStorageProvider storageProv
   }
 
   @RequestHandler(path = "/api/v3/templateStorage")
+  @Cacheable(value = "template-storage", ttlSeconds = 30)
   @Authentication(
     providers = "jwt",
     scopes = {"cloudnet_rest:template_storage_read", "cloudnet_rest:template_storage_list"})
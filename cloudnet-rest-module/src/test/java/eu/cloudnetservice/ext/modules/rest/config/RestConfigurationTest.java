@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.modules.rest.config;
+
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class RestConfigurationTest {
+
+  private static RestConfiguration loadWithout(String... properties) {
+    // simulates a configuration that was written before the given properties were introduced
+    var document = DocumentFactory.json().newDocument(RestConfiguration.DEFAULT);
+    for (var property : properties) {
+      document.remove(property);
+    }
+
+    return DocumentFactory.json().parse(document.serializeToString()).toInstanceOf(RestConfiguration.class);
+  }
+
+  @Test
+  public void testMissingBulkheadsUseDefaults() {
+    var config = loadWithout("bulkheads");
+    Assertions.assertEquals(RestConfiguration.DEFAULT.bulkheads(), config.bulkheads());
+
+    var componentConfig = config.toComponentConfig();
+    componentConfig.executorService().shutdown();
+    Assertions.assertTrue(componentConfig.bulkheads().containsKey(RestConfiguration.BULK_IO_BULKHEAD));
+    Assertions.assertTrue(componentConfig.bulkheads().containsKey(RestConfiguration.CLUSTER_WRITE_BULKHEAD));
+  }
+
+  @Test
+  public void testMissingRequestTimeoutUsesDefault() {
+    var config = loadWithout("requestTimeoutSeconds");
+    Assertions.assertEquals(60, config.requestTimeoutSeconds());
+
+    var componentConfig = config.toComponentConfig();
+    componentConfig.executorService().shutdown();
+    Assertions.assertEquals(Duration.ofSeconds(60), componentConfig.requestTimeout());
+  }
+
+  @Test
+  public void testZeroRequestTimeoutDisablesDeadline() {
+    var document = DocumentFactory.json().newDocument(RestConfiguration.DEFAULT).append("requestTimeoutSeconds", 0);
+    var config = document.toInstanceOf(RestConfiguration.class);
+
+    var componentConfig = config.toComponentConfig();
+    componentConfig.executorService().shutdown();
+    Assertions.assertNull(componentConfig.requestTimeout());
+  }
+
+  @Test
+  public void testMissingSlowRequestThresholdUsesDefault() {
+    var config = loadWithout("slowRequestThresholdSeconds");
+    Assertions.assertEquals(10, config.slowRequestThresholdSeconds());
+
+    var componentConfig = config.toComponentConfig();
+    componentConfig.executorService().shutdown();
+    Assertions.assertEquals(Duration.ofSeconds(10), componentConfig.slowRequestThreshold());
+  }
+}
@@ -16,8 +16,10 @@
 
 package eu.cloudnetservice.ext.rest.api;
 
+import eu.cloudnetservice.ext.rest.api.auth.ChannelAuthenticationMemo;
 import eu.cloudnetservice.ext.rest.api.util.HostAndPort;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A http channel represented in the most basic form. The channel only provides basic information about the connection
@@ -48,6 +50,17 @@ public interface HttpChannel extends AutoCloseable {
    */
   @NonNull HostAndPort clientAddress();
 
+  /**
+   * Gets the memo of the last successful authentication on this channel. The memo is used to skip the authentication
+   * process for requests that supply the same credentials as the previous request. Implementations that do not keep
+   * channels alive between requests should return null.
+   *
+   * @return the authentication memo of this channel, null if not supported by this channel.
+   */
+  default @Nullable ChannelAuthenticationMemo authenticationMemo() {
+    return null;
+  }
+
   /**
    * Closes the underlying connection of the client to the server. After the close this channel cannot be used anymore.
    */
@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.ext.rest.api.annotation.parser.HttpAnnotationParser;
 import eu.cloudnetservice.ext.rest.api.config.ComponentConfig;
+import eu.cloudnetservice.ext.rest.api.metrics.HttpServerMetrics;
 import eu.cloudnetservice.ext.rest.api.registry.HttpHandlerRegistry;
 import lombok.NonNull;
 
@@ -61,4 +62,12 @@
    * @return the associated http handler registry instance.
    */
   @NonNull HttpHandlerRegistry handlerRegistry();
+
+  /**
+   * Gets the metrics that are collected for the requests handled by this component. The metrics can be exported in the
+   * prometheus text format by registering the {@link eu.cloudnetservice.ext.rest.api.metrics.PrometheusMetricsHandler}.
+   *
+   * @return the metrics of this component.
+   */
+  @NonNull HttpServerMetrics metrics();
 }
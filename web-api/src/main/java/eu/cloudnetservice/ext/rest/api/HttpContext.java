@@ -16,7 +16,9 @@
 
 package eu.cloudnetservice.ext.rest.api;
 
+import eu.cloudnetservice.ext.rest.api.auth.RestUser;
 import eu.cloudnetservice.ext.rest.api.connection.BasicHttpConnectionInfo;
+import eu.cloudnetservice.ext.rest.api.metrics.RequestTimings;
 import eu.cloudnetservice.ext.rest.api.websocket.WebSocketChannel;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
@@ -105,6 +107,39 @@ public interface HttpContext {
    */
   @NonNull BasicHttpConnectionInfo connectionInfo();
 
+  /**
+   * Gets the timings of the processing stages of the request wrapped by this context. The timings are only recorded if
+   * enabled in the component config or when the request timing flight recorder event is enabled.
+   *
+   * @return the timings of the processing stages of the request.
+   */
+  @NonNull RequestTimings timings();
+
+  /**
+   * Gets the deadline until which the handling of the request wrapped by this context must complete. The deadline is
+   * resolved once the handler of the request was found, taking into account the global request timeout, the timeout of
+   * the handler and the timeout requested by the client.
+   *
+   * @return the deadline of the request, null if the request is not (yet) bound to a deadline.
+   */
+  @Nullable RequestDeadline deadline();
+
+  /**
+   * Gets the user that was authenticated while handling the request wrapped by this context. The user is set by the
+   * authentication processing of annotated handlers once the request was authenticated successfully.
+   *
+   * @return the user that was authenticated while handling the request, null if the request was not authenticated.
+   */
+  @Nullable RestUser authenticatedUser();
+
+  /**
+   * Sets the user that was authenticated while handling the request wrapped by this context.
+   *
+   * @param user the user that was authenticated while handling the request.
+   * @return the same instance of the context as used to call the method, for chaining.
+   */
+  @NonNull HttpContext authenticatedUser(@Nullable RestUser user);
+
   /**
    * Sets whether the connection to client should be closed after the last handler in the chain. This defaults to false.
    * If set to false, the connection will not be closed and the {@code connection} header will automatically be set to
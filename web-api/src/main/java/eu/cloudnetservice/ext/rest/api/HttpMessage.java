@@ -99,7 +99,8 @@
 
   /**
    * Gets the body as a streamable content source to reduce the heap load when reading the body content. This method
-   * returns null if no http body is provided in the message.
+   * returns null if no http body is provided in the message. Implementations may allow to obtain the stream multiple
+   * times, each returned stream starts at the beginning of the body in that case.
    *
    * @return the body as a content stream, or null if the message has no http body.
    */
@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.ext.rest.api;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import lombok.NonNull;
@@ -77,4 +78,24 @@ public interface HttpRequest extends HttpMessage<HttpRequest> {
    * @return the query parameters supplied in the request uri.
    */
   @NonNull Map<String, List<String>> queryParameters();
+
+  /**
+   * Gets a read-only view of the request body, without copying the body if possible. The returned buffer is
+   * independent of other views, its position and limit can be changed freely. The view is only valid while the request
+   * is handled and must not be used after the handler returned, as the memory backing the body is released once the
+   * handling of the request completed.
+   *
+   * @return a read-only view of the request body, empty if the request has no body.
+   */
+  @NonNull ByteBuffer bodyBuffer();
+
+  /**
+   * Gets the request body as utf-8 decoded character sequence. Bodies that only consist of ascii characters are not
+   * decoded, the returned sequence is a view of the body instead. The same restrictions as for {@link #bodyBuffer()}
+   * apply to the returned sequence: it must not be used after the handler returned. Use {@link #bodyAsString()} to
+   * obtain a copy that can be retained.
+   *
+   * @return the request body as character sequence, empty if the request has no body.
+   */
+  @NonNull CharSequence bodyAsCharSequence();
 }
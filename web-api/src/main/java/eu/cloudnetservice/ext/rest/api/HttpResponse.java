@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.ext.rest.api;
 
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResponse;
 import lombok.NonNull;
 
 /**
@@ -43,4 +44,17 @@ public interface HttpResponse extends HttpMessage<HttpResponse> {
    * @throws NullPointerException if the given response code is null.
    */
   @NonNull HttpResponse status(@NonNull HttpResponseCode code);
+
+  /**
+   * Sets the body of this response to the encoded body of the given static response. By default, the encoded body is
+   * copied into this response. Implementations may override this method to share the encoded body between all
+   * responses the static response is written to instead.
+   *
+   * @param response the static response to take the encoded body from.
+   * @return the same instance as used to call the method, for chaining.
+   * @throws NullPointerException if the given response is null.
+   */
+  default @NonNull HttpResponse body(@NonNull StaticResponse<?> response) {
+    return this.body(response.encodedBody());
+  }
 }
@@ -438,6 +438,7 @@ public enum HttpResponseCode implements IntoResponse<Void> {
   }
 
   private final int code;
+  private volatile Response<Void> response;
 
   /**
    * Constructs a new http response code.
@@ -474,4 +475,20 @@ public int code() {
   public @NonNull Response.Builder<Void, ?> intoResponseBuilder() {
     return RawResponse.builder().responseCode(this);
   }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The response only consists of the status code and is therefore created once and reused for all following calls.
+   */
+  @Override
+  public @NonNull Response<Void> intoResponse() {
+    var response = this.response;
+    if (response == null) {
+      response = this.intoResponseBuilder().build();
+      this.response = response;
+    }
+
+    return response;
+  }
 }
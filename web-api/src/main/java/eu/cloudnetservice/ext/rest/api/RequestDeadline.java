@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.cloudnetservice.ext.rest.api;
+
+import java.time.Duration;
+import lombok.NonNull;
+
+/**
+ * The deadline until which the handling of a request must complete. When the deadline is exceeded the request is
+ * answered with {@code 504 Gateway Timeout}, the thread handling the request is interrupted and the late result of
+ * the handler is discarded. Handlers waiting for remote operations can use the remaining time to bound their waits.
+ *
+ * @since 1.0
+ */
+public interface RequestDeadline {
+
+  /**
+   * The name of the request header that clients can use to request a shorter timeout, in milliseconds. A client can
+   * only shorten the timeout configured for the handler, never extend it.
+   */
+  String TIMEOUT_HEADER = "Request-Timeout";
+
+  /**
+   * Gets the deadline of the request, as a {@link System#nanoTime()} timestamp.
+   *
+   * @return the deadline of the request.
+   */
+  long deadlineNanos();
+
+  /**
+   * Gets the time remaining until the deadline of the request is exceeded.
+   *
+   * @return the time remaining until the deadline is exceeded, zero if the deadline is already exceeded.
+   */
+  default @NonNull Duration remaining() {
+    return Duration.ofNanos(Math.max(0, this.deadlineNanos() - System.nanoTime()));
+  }
+
+  /**
+   * Gets if the deadline of the request is exceeded.
+   *
+   * @return true if the deadline of the request is exceeded, false otherwise.
+   */
+  default boolean exceeded() {
+    return System.nanoTime() - this.deadlineNanos() >= 0;
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.cloudnetservice.ext.rest.api.accesslog;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An asynchronous access log. Entries are put into a bounded ring buffer by the request handling threads and are
+ * written by a single background thread, which keeps the cost of the access log on the request path to a single
+ * allocation and a compare-and-set. If the writer cannot keep up and the buffer is full, new entries are dropped and
+ * counted instead of blocking the request handling.
+ *
+ * @since 1.0
+ */
+public final class AccessLog implements AutoCloseable {
+
+  public static final int DEFAULT_CAPACITY = 8192;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AccessLog.class);
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+  private final AccessLogWriter writer;
+  private final MpscRingBuffer<AccessLogEntry> buffer;
+  private final LongAdder droppedEntries = new LongAdder();
+
+  private final Thread writerThread;
+  private volatile boolean writerParked;
+  private volatile boolean closed;
+
+  /**
+   * Constructs a new access log and starts the background writer thread.
+   *
+   * @param capacity the amount of entries that can be buffered before new entries are dropped.
+   * @param writer   the writer to write the buffered entries with.
+   * @throws NullPointerException     if the given writer is null.
+   * @throws IllegalArgumentException if the given capacity is not positive.
+   */
+  public AccessLog(int capacity, @NonNull AccessLogWriter writer) {
+    this.writer = writer;
+    this.buffer = new MpscRingBuffer<>(capacity);
+    this.writerThread = Thread.ofPlatform()
+      .daemon(true)
+      .name("rest-access-log-writer")
+      .start(this::drainUntilClosed);
+  }
+
+  /**
+   * Adds the given entry to the access log. This method never blocks, if the buffer is full the entry is dropped.
+   *
+   * @param entry the entry to add.
+   * @return true if the entry was added, false if it was dropped.
+   * @throws NullPointerException if the given entry is null.
+   */
+  public boolean log(@NonNull AccessLogEntry entry) {
+    if (this.closed || !this.buffer.offer(entry)) {
+      this.droppedEntries.increment();
+      return false;
+    }
+
+    // only wake up the writer if it is waiting for new entries
+    if (this.writerParked) {
+      LockSupport.unpark(this.writerThread);
+    }
+
+    return true;
+  }
+
+  /**
+   * Get the total amount of entries that were dropped because the buffer was full.
+   *
+   * @return the total amount of dropped entries.
+   */
+  public long droppedEntries() {
+    return this.droppedEntries.sum();
+  }
+
+  /**
+   * Stops accepting new entries and waits for the writer to write all buffered entries.
+   */
+  @Override
+  public void close() {
+    this.closed = true;
+    LockSupport.unpark(this.writerThread);
+    try {
+      this.writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void drainUntilClosed() {
+    while (true) {
+      var closed = this.closed;
+      this.drain();
+      if (closed) {
+        return;
+      }
+
+      // announce that the writer is about to wait, then re-check to not miss an entry that was published concurrently
+      this.writerParked = true;
+      if (!this.buffer.isEmpty()) {
+        this.writerParked = false;
+        continue;
+      }
+
+      // the park is bounded as a safety net for entries that are published while the writer is going to sleep
+      LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+      this.writerParked = false;
+    }
+  }
+
+  private void drain() {
+    AccessLogEntry entry;
+    while ((entry = this.buffer.poll()) != null) {
+      try {
+        this.writer.write(entry);
+      } catch (Exception exception) {
+        LOGGER.error("Unable to write access log entry", exception);
+      }
+    }
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.cloudnetservice.ext.rest.api.accesslog;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A single entry in the access log, describing a request that was completed.
+ *
+ * @param method        the http method of the request.
+ * @param route         the path template of the handler that handled the request.
+ * @param status        the status code that was sent to the client.
+ * @param bytes         the size of the response body in bytes, -1 if the body was streamed to the client.
+ * @param durationNanos the time between receiving the request and writing the response, in nanoseconds.
+ * @param username      the name of the user that was authenticated during the request, null if not authenticated.
+ * @param clientAddress the address of the client that sent the request.
+ * @since 1.0
+ */
+public record AccessLogEntry(
+  @NonNull String method,
+  @NonNull String route,
+  int status,
+  long bytes,
+  long durationNanos,
+  @Nullable String username,
+  @NonNull String clientAddress
+) {
+
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.cloudnetservice.ext.rest.api.accesslog;
+
+import lombok.NonNull;
+
+/**
+ * A writer for access log entries. The writer is only called from the background writer thread of an access log.
+ *
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface AccessLogWriter {
+
+  /**
+   * Writes the given access log entry.
+   *
+   * @param entry the entry to write.
+   * @throws NullPointerException if the given entry is null.
+   */
+  void write(@NonNull AccessLogEntry entry);
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.cloudnetservice.ext.rest.api.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A bounded, lock-free ring buffer which supports multiple concurrent producers but only a single consumer. Producers
+ * claim a slot by advancing the producer index and publish their element into the slot afterwards, the consumer
+ * treats an unpublished slot the same as an empty buffer.
+ *
+ * @param <T> the type of elements in the buffer.
+ * @since 1.0
+ */
+final class MpscRingBuffer<T> {
+
+  private final int mask;
+  private final int capacity;
+  private final AtomicReferenceArray<T> slots;
+
+  private final AtomicLong producerIndex = new AtomicLong();
+  private final AtomicLong consumerIndex = new AtomicLong();
+
+  /**
+   * Constructs a new ring buffer with the given capacity, rounded up to the next power of two.
+   *
+   * @param capacity the minimum capacity of the buffer.
+   * @throws IllegalArgumentException if the given capacity is not positive or too large.
+   */
+  public MpscRingBuffer(int capacity) {
+    if (capacity <= 0 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("Invalid ring buffer capacity " + capacity);
+    }
+
+    this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.mask = this.capacity - 1;
+    this.slots = new AtomicReferenceArray<>(this.capacity);
+  }
+
+  /**
+   * Tries to add the given element to this buffer. This method can be called from multiple threads concurrently.
+   *
+   * @param element the element to add.
+   * @return true if the element was added, false if the buffer is full.
+   * @throws NullPointerException if the given element is null.
+   */
+  public boolean offer(@NonNull T element) {
+    long index;
+    do {
+      index = this.producerIndex.get();
+      if (index - this.consumerIndex.get() >= this.capacity) {
+        return false;
+      }
+    } while (!this.producerIndex.compareAndSet(index, index + 1));
+
+    this.slots.setRelease((int) index & this.mask, element);
+    return true;
+  }
+
+  /**
+   * Removes the next element from this buffer. This method must only be called from a single consumer thread.
+   *
+   * @return the next element in this buffer, null if the buffer is empty.
+   */
+  public @Nullable T poll() {
+    var index = this.consumerIndex.getPlain();
+    var slot = (int) index & this.mask;
+    var element = this.slots.getAcquire(slot);
+    if (element != null) {
+      // clear the slot before releasing it to the producers
+      this.slots.setPlain(slot, null);
+      this.consumerIndex.setRelease(index + 1);
+    }
+
+    return element;
+  }
+
+  /**
+   * Checks if this buffer has no published element to poll. This method must only be called from the consumer thread.
+   *
+   * @return true if there is no element to poll, false otherwise.
+   */
+  public boolean isEmpty() {
+    var slot = (int) this.consumerIndex.getPlain() & this.mask;
+    return this.slots.getAcquire(slot) == null;
+  }
+
+  /**
+   * Get the capacity of this buffer.
+   *
+   * @return the capacity of this buffer.
+   */
+  public int capacity() {
+    return this.capacity;
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.cloudnetservice.ext.rest.api.accesslog;
+
+import java.util.Locale;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An access log writer that writes each entry as a single line in logfmt to a dedicated slf4j logger.
+ *
+ * @since 1.0
+ */
+public final class Slf4jAccessLogWriter implements AccessLogWriter {
+
+  /**
+   * The name of the logger access log entries are written to.
+   */
+  public static final String LOGGER_NAME = "eu.cloudnetservice.ext.rest.access";
+
+  private final Logger logger;
+
+  /**
+   * Constructs a new writer that writes to the default access log logger.
+   */
+  public Slf4jAccessLogWriter() {
+    this(LoggerFactory.getLogger(LOGGER_NAME));
+  }
+
+  /**
+   * Constructs a new writer that writes to the given logger.
+   *
+   * @param logger the logger to write the entries to.
+   * @throws NullPointerException if the given logger is null.
+   */
+  public Slf4jAccessLogWriter(@NonNull Logger logger) {
+    this.logger = logger;
+  }
+
+  /**
+   * Formats the given entry into a single logfmt line.
+   *
+   * @param entry the entry to format.
+   * @return the formatted entry.
+   * @throws NullPointerException if the given entry is null.
+   */
+  public static @NonNull String format(@NonNull AccessLogEntry entry) {
+    var builder = new StringBuilder(128)
+      .append("client=").append(entry.clientAddress())
+      .append(" user=").append(entry.username() == null ? "-" : quoteIfNeeded(entry.username()))
+      .append(" method=").append(entry.method())
+      .append(" route=").append(quoteIfNeeded(entry.route()))
+      .append(" status=").append(entry.status())
+      .append(" bytes=");
+    if (entry.bytes() < 0) {
+      builder.append('-');
+    } else {
+      builder.append(entry.bytes());
+    }
+
+    return builder
+      .append(" duration_ms=").append(String.format(Locale.ROOT, "%.3f", entry.durationNanos() / 1e6))
+      .toString();
+  }
+
+  private static @NonNull String quoteIfNeeded(@NonNull String value) {
+    for (var index = 0; index < value.length(); index++) {
+      var c = value.charAt(index);
+      if (c <= ' ' || c == '"' || c == '=' || c == '\\') {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + '"';
+      }
+    }
+
+    return value;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void write(@NonNull AccessLogEntry entry) {
+    if (this.logger.isInfoEnabled()) {
+      this.logger.info(format(entry));
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Assigns the annotated http handler to a bulkhead configured in the component config. Requests to the handler are
+ * routed on the shared request executor as usual, but the handler itself is invoked in the executor pool of the
+ * bulkhead. If no bulkhead with the given name is configured, the handler is invoked on the shared request executor.
+ *
+ * @see eu.cloudnetservice.ext.rest.api.config.BulkheadConfig
+ * @since 1.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+  /**
+   * The name of the bulkhead to invoke the handler in.
+   *
+   * @return the name of the bulkhead to invoke the handler in.
+   */
+  String value();
+}
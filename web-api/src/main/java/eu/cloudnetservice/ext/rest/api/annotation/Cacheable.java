@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code GET} http handler as cacheable. Successful responses of the handler are encoded once and stored in the
+ * response cache of the annotation processor for the given time, requests that hit a cached response are answered
+ * without invoking the handler or serializing its response again. Authentication is still performed for each request.
+ * <p>
+ * Only responses with the status code {@code 200 OK} and a body that is not streamed are cached. Cached responses of a
+ * cache can be dropped explicitly by annotating the handlers that modify the underlying data with
+ * {@link CacheInvalidate}, or by using the response cache directly.
+ *
+ * @since 1.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cacheable {
+
+  /**
+   * The name of the cache to store the responses of the handler in. Multiple handlers can share a cache, which allows
+   * to invalidate all of them at once.
+   *
+   * @return the name of the cache to store the responses of the handler in.
+   */
+  String value();
+
+  /**
+   * The time in seconds a response is cached before the handler is invoked again.
+   *
+   * @return the time in seconds a response is cached.
+   */
+  long ttlSeconds() default 10;
+
+  /**
+   * The parts of the request that are used to build the cache key in addition to the request path. A response is only
+   * reused for requests that have the same values for all parts.
+   *
+   * @return the parts of the request that are used to build the cache key.
+   */
+  KeyPart[] key() default {KeyPart.QUERY, KeyPart.SCOPES};
+
+  /**
+   * The parts of a request that can be included in the cache key.
+   *
+   * @since 1.0
+   */
+  enum KeyPart {
+
+    /**
+     * The query parameters of the request, independent of their order.
+     */
+    QUERY,
+    /**
+     * The scopes of the authenticated user.
+     */
+    SCOPES,
+  }
+}
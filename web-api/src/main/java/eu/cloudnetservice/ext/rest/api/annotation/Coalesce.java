@@ -0,0 +1,41 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Coalesces identical concurrent requests to a {@code GET} http handler. While a request is processed by the handler,
+ * identical requests wait for it and are answered with its encoded response instead of invoking the handler and
+ * serializing the response again. Requests are identical if they target the same path with the same query parameters
+ * and the authenticated users have the same scopes.
+ * <p>
+ * Unlike {@link Cacheable} no response is kept once the request completed, requests never receive stale data. The
+ * annotation can therefore not be combined with {@link Cacheable}.
+ *
+ * @since 1.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesce {
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables conditional request handling for a {@code GET} http handler. Successful responses get a strong entity tag
+ * computed from the encoded response body, unless the handler sets an entity tag itself. Requests whose
+ * {@code If-None-Match} or {@code If-Modified-Since} header matches the current representation are answered with
+ * {@code 304 Not Modified} without a body.
+ * <p>
+ * Handlers that can cheaply compute a version of their data should set the entity tag or last modification date on the
+ * response themselves, in that case the response body is not serialized for matching requests.
+ *
+ * @since 1.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ETag {
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the rate at which requests are accepted by the annotated http handler. Each client (or user) can issue up to
+ * the given amount of permits in a burst, after that the permits are refilled evenly over the given period. Requests
+ * that exceed the limit are answered with {@code 429 Too Many Requests} and a {@code Retry-After} header.
+ *
+ * @since 1.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+
+  /**
+   * The maximum amount of requests that are allowed during the given period.
+   *
+   * @return the maximum amount of requests that are allowed during the given period.
+   */
+  long permits();
+
+  /**
+   * The period in seconds in which the given amount of permits are refilled.
+   *
+   * @return the period in seconds in which the given amount of permits are refilled.
+   */
+  long periodSeconds() default 60;
+
+  /**
+   * The key to which the rate limit is applied. When using {@link KeyType#USER} the handler must require
+   * authentication, the limit is checked directly after the user was successfully authenticated.
+   *
+   * @return the key to which the rate limit is applied.
+   */
+  KeyType key() default KeyType.CLIENT_ADDRESS;
+
+  /**
+   * The keys that can be used to apply a rate limit to.
+   *
+   * @since 1.0
+   */
+  enum KeyType {
+
+    /**
+     * The rate limit is applied per client address, as resolved by the connection info resolver of the component.
+     */
+    CLIENT_ADDRESS,
+    /**
+     * The rate limit is applied per authenticated user.
+     */
+    USER,
+  }
+}
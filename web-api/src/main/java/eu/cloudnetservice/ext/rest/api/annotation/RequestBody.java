@@ -30,7 +30,11 @@
  *   <li>{@link java.nio.ByteBuffer}
  *   <li>{@link java.io.InputStream}
  *   <li>{@link java.io.Reader}
+ *   <li>{@link CharSequence}
  * </ul>
+ * <p>
+ * {@link java.nio.ByteBuffer} and {@link CharSequence} parameters are views of the request body which must not be
+ * retained after the handler returned, see {@link eu.cloudnetservice.ext.rest.api.HttpRequest#bodyBuffer()}.
  *
  * @since 1.0
  */
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.cloudnetservice.ext.rest.api.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overrides the global request timeout of the component for the annotated http handler. If the handling of a request
+ * does not complete within the timeout, the request is answered with {@code 504 Gateway Timeout}, the thread handling
+ * the request is interrupted and the late result of the handler is discarded.
+ *
+ * @since 1.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequestTimeout {
+
+  /**
+   * The time after which the handling of a request times out, in the given unit. A value of 0 or less disables the
+   * timeout for the handler, even if a global request timeout is configured.
+   *
+   * @return the time after which the handling of a request times out.
+   */
+  long value();
+
+  /**
+   * The unit of the timeout value.
+   *
+   * @return the unit of the timeout value.
+   */
+  TimeUnit unit() default TimeUnit.SECONDS;
+}
@@ -20,6 +20,7 @@
 import eu.cloudnetservice.ext.rest.api.HttpHandleException;
 import eu.cloudnetservice.ext.rest.api.HttpHandler;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.AnnotationHandleExceptionBuilder;
+import eu.cloudnetservice.ext.rest.api.metrics.RequestTimings;
 import eu.cloudnetservice.ext.rest.api.problem.StandardProblemDetail;
 import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
 import java.lang.invoke.WrongMethodTypeException;
@@ -61,8 +62,14 @@ private HttpHandlerMethodContext(
     var methodParameters = new Object[this.targetMethodParamCount];
 
     // resolve the method parameters and call all argument interceptors
+    var timings = context.timings();
+    var resolveBegin = timings.begin();
     this.paramResolver.resolveMethodParameter(context, this.targetMethod, methodParameters);
+    timings.end(RequestTimings.Stage.PARAMETERS, resolveBegin);
+
+    var interceptBegin = timings.begin();
     this.paramInterceptor.interceptMethodParameters(this.targetMethod, methodParameters);
+    timings.end(RequestTimings.Stage.VALIDATION, interceptBegin);
 
     var methodCallResult = this.callHandlerMethod(methodParameters);
 
@@ -21,14 +21,20 @@
 import eu.cloudnetservice.ext.rest.api.annotation.invoke.HttpHandlerMethodContextDecorator;
 import eu.cloudnetservice.ext.rest.api.annotation.invoke.HttpHandlerMethodDescriptor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.AuthenticationProcessor;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.BulkheadProcessor;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.CacheableProcessor;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.CoalesceProcessor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.ContentTypeProcessor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.CrossOriginProcessor;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.ETagProcessor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.FirstRequestQueryParamProcessor;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.RateLimitProcessor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.RequestBodyProcessor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.RequestHeaderProcessor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.RequestPathParamProcessor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.RequestPathProcessor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.RequestQueryParamProcessor;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.RequestTimeoutProcessor;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.processor.RequestTypedBodyProcessor;
 import eu.cloudnetservice.ext.rest.api.auth.RestUserManagementLoader;
 import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
@@ -111,7 +117,13 @@ public DefaultHttpAnnotationParser(@NonNull HttpHandlerRegistry httpHandlerRegis
       .registerAnnotationProcessor(new RequestPathParamProcessor())
       .registerAnnotationProcessor(new RequestQueryParamProcessor())
       .registerAnnotationProcessor(new FirstRequestQueryParamProcessor())
-      .registerAnnotationProcessor(new AuthenticationProcessor(RestUserManagementLoader::load));
+      .registerAnnotationProcessor(new RateLimitProcessor())
+      .registerAnnotationProcessor(new RequestTimeoutProcessor())
+      .registerAnnotationProcessor(new BulkheadProcessor())
+      .registerAnnotationProcessor(new AuthenticationProcessor(RestUserManagementLoader::load))
+      .registerAnnotationProcessor(new CacheableProcessor())
+      .registerAnnotationProcessor(new CoalesceProcessor())
+      .registerAnnotationProcessor(new ETagProcessor());
   }
 
   /**
@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.ext.rest.api.annotation.parser.processor;
 
+import com.google.common.net.HttpHeaders;
 import eu.cloudnetservice.ext.rest.api.HttpContext;
 import eu.cloudnetservice.ext.rest.api.HttpHandler;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
@@ -29,21 +30,25 @@
 import eu.cloudnetservice.ext.rest.api.auth.AuthenticationResult;
 import eu.cloudnetservice.ext.rest.api.auth.RestUser;
 import eu.cloudnetservice.ext.rest.api.auth.RestUserManagement;
+import eu.cloudnetservice.ext.rest.api.auth.ScopeSet;
 import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
 import eu.cloudnetservice.ext.rest.api.config.HttpHandlerInterceptor;
+import eu.cloudnetservice.ext.rest.api.metrics.RequestTimings;
 import eu.cloudnetservice.ext.rest.api.problem.ProblemDetail;
 import eu.cloudnetservice.ext.rest.api.problem.ProblemHttpHandleException;
+import eu.cloudnetservice.ext.rest.api.ratelimit.RateLimiter;
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Supplier;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 public final class AuthenticationProcessor implements HttpAnnotationProcessor {
 
+  private static final String AUTHENTICATED_PARAMETER_HINT_KEY = "authentication_processor_authenticated_parameter";
+
   private static final ProblemDetail AUTH_METHOD_UNKNOWN = ProblemDetail.builder()
     .title("Auth Method Unknown")
     .status(HttpResponseCode.BAD_REQUEST)
@@ -99,13 +104,28 @@ public void buildPreprocessor(
     @NonNull Method method,
     @NonNull Object handlerInstance
   ) {
+    // user rate limits can only be checked once we know the user, the limit is applied after a successful auth
+    var userRateLimiter = RateLimitProcessor.userRateLimiter(method);
     var hints = HttpAnnotationProcessorUtil.mapParameters(
       method,
       Authentication.class,
       (param, annotation) -> {
-        var scopes = Set.of(annotation.scopes());
+        var scopes = ScopeSet.of(annotation.scopes());
         var provider = resolveProviders(annotation);
-        return context -> this.tryAuthenticateRequest(context, provider, scopes);
+        var parameterToken = new Object();
+        return context -> {
+          // the parameter might have been resolved already, for example before looking up a cached response. only
+          // reuse users that were authenticated for this parameter, as they passed the provider and scope checks
+          for (var hint : context.invocationHints(AUTHENTICATED_PARAMETER_HINT_KEY)) {
+            if (hint instanceof AuthenticatedParameter parameter && parameter.token() == parameterToken) {
+              return parameter.user();
+            }
+          }
+
+          var user = this.tryAuthenticateRequest(context, provider, scopes, userRateLimiter);
+          context.addInvocationHint(AUTHENTICATED_PARAMETER_HINT_KEY, new AuthenticatedParameter(parameterToken, user));
+          return user;
+        };
       });
 
     // the auth annotation should only be at one parameter, there is no point in supplying it multiple times
@@ -123,7 +143,7 @@ public void buildPreprocessor(
       var provider = authentication != null ? resolveProviders(authentication) : null;
       if (provider != null) {
         // there were declared auth providers, register a pre-processor to handle authentication
-        var scopes = Set.of(authentication.scopes());
+        var scopes = ScopeSet.of(authentication.scopes());
         config.addHandlerInterceptor(new HttpHandlerInterceptor() {
           @Override
           public boolean preProcess(
@@ -131,7 +151,7 @@ public boolean preProcess(
             @NonNull HttpHandler handler,
             @NonNull HttpHandlerConfig config
           ) {
-            AuthenticationProcessor.this.tryAuthenticateRequest(context, provider, scopes);
+            AuthenticationProcessor.this.tryAuthenticateRequest(context, provider, scopes, userRateLimiter);
             return true;
           }
         });
@@ -155,23 +175,89 @@ public boolean preProcess(
   private @NonNull RestUser tryAuthenticateRequest(
     @NonNull HttpContext context,
     @NonNull List<? extends AuthProvider> provider,
-    @NonNull Set<String> scopes
+    @NonNull ScopeSet scopes,
+    @Nullable RateLimiter userRateLimiter
   ) {
+    var timings = context.timings();
+    var authBegin = timings.begin();
+    try {
+      var user = this.authenticateRequest(context, provider, scopes, userRateLimiter);
+      context.authenticatedUser(user);
+      return user;
+    } finally {
+      timings.end(RequestTimings.Stage.AUTHENTICATION, authBegin);
+    }
+  }
+
+  private @NonNull RestUser authenticateRequest(
+    @NonNull HttpContext context,
+    @NonNull List<? extends AuthProvider> provider,
+    @NonNull ScopeSet scopes,
+    @Nullable RateLimiter userRateLimiter
+  ) {
+    // check if the same credentials were already used to authenticate a previous request on the connection
+    var management = this.management.get();
+    var memo = context.channel().authenticationMemo();
+    var credentials = memo == null ? null : context.request().headers().firstValue(HttpHeaders.AUTHORIZATION);
+    if (credentials != null) {
+      var memoizedUser = memo.lookup(credentials, provider, management);
+      if (memoizedUser != null) {
+        return this.acceptAuthenticatedUser(memoizedUser, scopes, userRateLimiter);
+      }
+    }
+
     // try all requested auth providers until we find one that can handle the authentication process
+    AuthProvider authProvider = null;
     AuthenticationResult authenticationResult = AuthenticationResult.Constant.PROCEED;
-    for (var authProvider : provider) {
-      authenticationResult = authProvider.tryAuthenticate(context, this.management.get(), scopes);
+    for (var candidate : provider) {
+      authProvider = candidate;
+      authenticationResult = candidate.tryAuthenticate(context, management, scopes);
       if (authenticationResult != AuthenticationResult.Constant.PROCEED) {
         break;
       }
     }
 
     return switch (authenticationResult) {
-      case AuthenticationResult.Success success -> success.restUser();
+      case AuthenticationResult.Success success -> {
+        var user = this.acceptAuthenticatedUser(success.restUser(), scopes, userRateLimiter);
+        if (credentials != null && success.reusableUntil() != null) {
+          memo.remember(credentials, authProvider, user, management, success.reusableUntil());
+        }
+
+        yield user;
+      }
       case AuthenticationResult.Constant.PROCEED -> throw new ProblemHttpHandleException(AUTH_METHOD_UNKNOWN);
       case AuthenticationResult.Constant.MISSING_REQUIRED_SCOPES ->
         throw new ProblemHttpHandleException(AUTH_REQUIRED_SCOPE_MISSING);
       default -> throw new ProblemHttpHandleException(AUTH_INVALID);
     };
   }
+
+  private @NonNull RestUser acceptAuthenticatedUser(
+    @NonNull RestUser user,
+    @NonNull ScopeSet scopes,
+    @Nullable RateLimiter userRateLimiter
+  ) {
+    // ensure that the user has one of the required scopes, not all providers are checking them
+    if (!user.hasOneScopeOf(scopes)) {
+      throw new ProblemHttpHandleException(AUTH_REQUIRED_SCOPE_MISSING);
+    }
+
+    if (userRateLimiter != null) {
+      userRateLimiter.acquireOrThrow(user.id());
+    }
+
+    return user;
+  }
+
+  /**
+   * A user that was authenticated when resolving an authentication parameter of a handler.
+   *
+   * @param token the token identifying the parameter the user was authenticated for.
+   * @param user  the authenticated user.
+   * @since 1.0
+   */
+  private record AuthenticatedParameter(@NonNull Object token, @NonNull RestUser user) {
+
+  }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.annotation.parser.processor;
+
+import eu.cloudnetservice.ext.rest.api.annotation.Bulkhead;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.HttpAnnotationProcessor;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
+import java.lang.reflect.Method;
+import lombok.NonNull;
+
+/**
+ * A processor for the {@code @Bulkhead} annotation.
+ *
+ * @since 1.0
+ */
+public final class BulkheadProcessor implements HttpAnnotationProcessor {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void buildPreprocessor(
+    @NonNull HttpHandlerConfig.Builder config,
+    @NonNull Method method,
+    @NonNull Object handlerInstance
+  ) {
+    var annotation = method.getAnnotation(Bulkhead.class);
+    if (annotation != null) {
+      config.bulkhead(annotation.value());
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.annotation.parser.processor;
+
+import eu.cloudnetservice.ext.rest.api.HttpMethod;
+import eu.cloudnetservice.ext.rest.api.annotation.CacheInvalidate;
+import eu.cloudnetservice.ext.rest.api.annotation.Cacheable;
+import eu.cloudnetservice.ext.rest.api.annotation.ETag;
+import eu.cloudnetservice.ext.rest.api.annotation.RequestHandler;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.AnnotationHandleExceptionBuilder;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.HttpAnnotationProcessor;
+import eu.cloudnetservice.ext.rest.api.cache.ResponseCache;
+import eu.cloudnetservice.ext.rest.api.cache.ResponseCacheInterceptor;
+import eu.cloudnetservice.ext.rest.api.cache.ResponseCacheInvalidator;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * A processor for the {@code @Cacheable} and {@code @CacheInvalidate} annotations. All handlers processed by the same
+ * processor share one response cache. The processor must be registered after the processors that register the
+ * authentication of handlers, as cached responses are only served to authenticated requests.
+ *
+ * @since 1.0
+ */
+public final class CacheableProcessor implements HttpAnnotationProcessor {
+
+  private final ResponseCache responseCache;
+
+  /**
+   * Constructs a new cacheable processor storing the responses in a response cache with the default size.
+   */
+  public CacheableProcessor() {
+    this(new ResponseCache(ResponseCache.DEFAULT_MAX_BYTES));
+  }
+
+  /**
+   * Constructs a new cacheable processor storing the responses in the given response cache.
+   *
+   * @param responseCache the response cache to store the responses in.
+   * @throws NullPointerException if the given response cache is null.
+   */
+  public CacheableProcessor(@NonNull ResponseCache responseCache) {
+    this.responseCache = responseCache;
+  }
+
+  /**
+   * Gets the response cache in which the responses of the handlers processed by this processor are stored.
+   *
+   * @return the response cache of this processor.
+   */
+  public @NonNull ResponseCache responseCache() {
+    return this.responseCache;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void buildPreprocessor(
+    @NonNull HttpHandlerConfig.Builder config,
+    @NonNull Method method,
+    @NonNull Object handlerInstance
+  ) {
+    var cacheable = method.getAnnotation(Cacheable.class);
+    if (cacheable != null) {
+      var handler = method.getAnnotation(RequestHandler.class);
+      if (handler == null || handler.method() != HttpMethod.GET) {
+        throw AnnotationHandleExceptionBuilder.forIssueDuringRegistration()
+          .handlerMethod(method)
+          .annotationType(Cacheable.class)
+          .debugDescription("Only responses of GET handlers can be cached")
+          .build();
+      }
+
+      if (cacheable.ttlSeconds() <= 0) {
+        throw AnnotationHandleExceptionBuilder.forIssueDuringRegistration()
+          .handlerMethod(method)
+          .annotationType(Cacheable.class)
+          .debugDescription("The time to live of cached responses must be positive")
+          .build();
+      }
+
+      var keyParts = Arrays.asList(cacheable.key());
+      config.addHandlerInterceptor(new ResponseCacheInterceptor(
+        this.responseCache,
+        cacheable.value(),
+        Duration.ofSeconds(cacheable.ttlSeconds()),
+        keyParts.contains(Cacheable.KeyPart.QUERY),
+        keyParts.contains(Cacheable.KeyPart.SCOPES),
+        method.isAnnotationPresent(ETag.class)));
+    }
+
+    var invalidate = method.getAnnotation(CacheInvalidate.class);
+    if (invalidate != null) {
+      config.addHandlerInterceptor(new ResponseCacheInvalidator(this.responseCache, List.of(invalidate.value())));
+    }
+  }
+}
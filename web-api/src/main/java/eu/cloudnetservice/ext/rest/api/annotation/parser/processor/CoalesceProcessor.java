@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.annotation.parser.processor;
+
+import eu.cloudnetservice.ext.rest.api.HttpMethod;
+import eu.cloudnetservice.ext.rest.api.annotation.Cacheable;
+import eu.cloudnetservice.ext.rest.api.annotation.Coalesce;
+import eu.cloudnetservice.ext.rest.api.annotation.ETag;
+import eu.cloudnetservice.ext.rest.api.annotation.RequestHandler;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.AnnotationHandleExceptionBuilder;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.HttpAnnotationProcessor;
+import eu.cloudnetservice.ext.rest.api.cache.CoalescingInterceptor;
+import eu.cloudnetservice.ext.rest.api.cache.RequestCoalescer;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
+import java.lang.reflect.Method;
+import lombok.NonNull;
+
+/**
+ * A processor for the {@code @Coalesce} annotation. Each handler gets its own request coalescer, requests to different
+ * handlers are never coalesced. The processor must be registered after the processors that register the authentication
+ * of handlers.
+ *
+ * @since 1.0
+ */
+public final class CoalesceProcessor implements HttpAnnotationProcessor {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void buildPreprocessor(
+    @NonNull HttpHandlerConfig.Builder config,
+    @NonNull Method method,
+    @NonNull Object handlerInstance
+  ) {
+    if (method.isAnnotationPresent(Coalesce.class)) {
+      var handler = method.getAnnotation(RequestHandler.class);
+      if (handler == null || handler.method() != HttpMethod.GET) {
+        throw AnnotationHandleExceptionBuilder.forIssueDuringRegistration()
+          .handlerMethod(method)
+          .annotationType(Coalesce.class)
+          .debugDescription("Only requests to GET handlers can be coalesced")
+          .build();
+      }
+
+      if (method.isAnnotationPresent(Cacheable.class)) {
+        throw AnnotationHandleExceptionBuilder.forIssueDuringRegistration()
+          .handlerMethod(method)
+          .annotationType(Coalesce.class)
+          .debugDescription("Requests to cached handlers cannot be coalesced")
+          .build();
+      }
+
+      var generateETag = method.isAnnotationPresent(ETag.class);
+      config.addHandlerInterceptor(new CoalescingInterceptor(new RequestCoalescer(), generateETag));
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.annotation.parser.processor;
+
+import eu.cloudnetservice.ext.rest.api.annotation.Authentication;
+import eu.cloudnetservice.ext.rest.api.annotation.RateLimit;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.AnnotationHandleExceptionBuilder;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.HttpAnnotationProcessor;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
+import eu.cloudnetservice.ext.rest.api.ratelimit.ClientRateLimitInterceptor;
+import eu.cloudnetservice.ext.rest.api.ratelimit.RateLimiter;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A processor for the {@code @RateLimit} annotation. Rate limits per client address are applied before any other
+ * processing of the request, rate limits per user are applied by the {@link AuthenticationProcessor}.
+ *
+ * @since 1.0
+ */
+public final class RateLimitProcessor implements HttpAnnotationProcessor {
+
+  /**
+   * Constructs the rate limiter for the user rate limit that is declared on the given method.
+   *
+   * @param method the method to get the user rate limiter for.
+   * @return the rate limiter for the user rate limit of the given method, null if no user rate limit is declared.
+   * @throws NullPointerException if the given method is null.
+   */
+  static @Nullable RateLimiter userRateLimiter(@NonNull Method method) {
+    var annotation = method.getAnnotation(RateLimit.class);
+    if (annotation == null || annotation.key() != RateLimit.KeyType.USER) {
+      return null;
+    }
+
+    return createRateLimiter(annotation);
+  }
+
+  private static @NonNull RateLimiter createRateLimiter(@NonNull RateLimit annotation) {
+    return new RateLimiter(annotation.permits(), Duration.ofSeconds(annotation.periodSeconds()));
+  }
+
+  private static boolean requiresAuthentication(@NonNull Method method) {
+    return method.isAnnotationPresent(Authentication.class)
+      || method.getDeclaringClass().isAnnotationPresent(Authentication.class)
+      || Arrays.stream(method.getParameters()).anyMatch(param -> param.isAnnotationPresent(Authentication.class));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void buildPreprocessor(
+    @NonNull HttpHandlerConfig.Builder config,
+    @NonNull Method method,
+    @NonNull Object handlerInstance
+  ) {
+    var annotation = method.getAnnotation(RateLimit.class);
+    if (annotation != null) {
+      if (annotation.permits() <= 0 || annotation.periodSeconds() <= 0) {
+        throw AnnotationHandleExceptionBuilder.forIssueDuringRegistration()
+          .handlerMethod(method)
+          .annotationType(RateLimit.class)
+          .debugDescription("The permits and period of a rate limit must be positive")
+          .build();
+      }
+
+      switch (annotation.key()) {
+        case CLIENT_ADDRESS -> config.addHandlerInterceptor(new ClientRateLimitInterceptor(createRateLimiter(annotation)));
+        case USER -> {
+          // user rate limits are applied by the authentication processor, ensure that the handler requires auth
+          if (!requiresAuthentication(method)) {
+            throw AnnotationHandleExceptionBuilder.forIssueDuringRegistration()
+              .handlerMethod(method)
+              .annotationType(RateLimit.class)
+              .debugDescription("User rate limits can only be applied to handlers that require authentication")
+              .build();
+          }
+        }
+      }
+    }
+  }
+}
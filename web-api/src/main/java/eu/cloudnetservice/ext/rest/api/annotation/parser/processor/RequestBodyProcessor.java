@@ -46,6 +46,7 @@ public final class RequestBodyProcessor implements HttpAnnotationProcessor {
     Reader.class,
     ByteBuffer.class,
     InputStream.class,
+    CharSequence.class,
   };
 
   /**
@@ -94,8 +95,10 @@ public void buildPreprocessor(
             return context.request().bodyAsString();
           } else if (byte[].class.isAssignableFrom(param.getType())) {
             return context.request().body();
+          } else if (CharSequence.class.isAssignableFrom(param.getType())) {
+            return context.request().bodyAsCharSequence();
           } else if (ByteBuffer.class.isAssignableFrom(param.getType())) {
-            return ByteBuffer.wrap(context.request().body());
+            return context.request().bodyBuffer();
           } else if (InputStream.class.isAssignableFrom(param.getType())) {
             return context.request().bodyStream();
           } else if (Reader.class.isAssignableFrom(param.getType())) {
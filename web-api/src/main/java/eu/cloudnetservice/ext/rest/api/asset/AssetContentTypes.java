@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.asset;
+
+import java.net.URLConnection;
+import java.util.Locale;
+import java.util.Map;
+import lombok.NonNull;
+
+/**
+ * Resolves the content types of static assets based on their file extension.
+ *
+ * @since 1.0
+ */
+final class AssetContentTypes {
+
+  private static final String FALLBACK_CONTENT_TYPE = "application/octet-stream";
+  // the jdk file name map does not know the common web asset types
+  private static final Map<String, String> CONTENT_TYPES = Map.ofEntries(
+    Map.entry("html", "text/html; charset=utf-8"),
+    Map.entry("htm", "text/html; charset=utf-8"),
+    Map.entry("css", "text/css; charset=utf-8"),
+    Map.entry("js", "text/javascript; charset=utf-8"),
+    Map.entry("mjs", "text/javascript; charset=utf-8"),
+    Map.entry("json", "application/json"),
+    Map.entry("map", "application/json"),
+    Map.entry("yaml", "application/yaml"),
+    Map.entry("yml", "application/yaml"),
+    Map.entry("txt", "text/plain; charset=utf-8"),
+    Map.entry("svg", "image/svg+xml"),
+    Map.entry("png", "image/png"),
+    Map.entry("ico", "image/x-icon"),
+    Map.entry("woff", "font/woff"),
+    Map.entry("woff2", "font/woff2"));
+
+  private AssetContentTypes() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Gets the content type of the asset at the given path.
+   *
+   * @param path the path of the asset.
+   * @return the content type of the asset at the given path.
+   * @throws NullPointerException if the given path is null.
+   */
+  static @NonNull String contentType(@NonNull String path) {
+    var extensionStart = path.lastIndexOf('.');
+    if (extensionStart != -1) {
+      var extension = path.substring(extensionStart + 1).toLowerCase(Locale.ROOT);
+      var contentType = CONTENT_TYPES.get(extension);
+      if (contentType != null) {
+        return contentType;
+      }
+    }
+
+    var guessedType = URLConnection.guessContentTypeFromName(path);
+    return guessedType == null ? FALLBACK_CONTENT_TYPE : guessedType;
+  }
+
+  /**
+   * Checks if content of the given content type is worth to be compressed.
+   *
+   * @param contentType the content type to check.
+   * @return true if content of the given type should be compressed, false otherwise.
+   * @throws NullPointerException if the given content type is null.
+   */
+  static boolean compressible(@NonNull String contentType) {
+    return contentType.startsWith("text/")
+      || contentType.startsWith("application/json")
+      || contentType.startsWith("application/yaml")
+      || contentType.startsWith("application/xml")
+      || contentType.startsWith("image/svg+xml");
+  }
+}
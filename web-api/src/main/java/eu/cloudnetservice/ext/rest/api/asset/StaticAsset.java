@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.asset;
+
+import com.google.common.net.HttpHeaders;
+import eu.cloudnetservice.ext.rest.api.HttpRequest;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
+import eu.cloudnetservice.ext.rest.api.cache.ConditionalRequests;
+import eu.cloudnetservice.ext.rest.api.response.Response;
+import eu.cloudnetservice.ext.rest.api.response.type.RawResponse;
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A static asset that was loaded into memory once. The asset holds the ready to send responses for the identity and,
+ * if the content type of the asset is compressible, the gzip encoding of its content. Each response carries a strong
+ * entity tag, the cache control header of the asset and a {@code Vary} header for the accepted encodings.
+ *
+ * @since 1.0
+ */
+public final class StaticAsset {
+
+  private static final String GZIP_ENCODING = "gzip";
+
+  private final String path;
+  private final String contentType;
+  private final Variant identity;
+  private final Variant gzip;
+
+  private StaticAsset(
+    @NonNull String path,
+    @NonNull String contentType,
+    @NonNull Variant identity,
+    @Nullable Variant gzip
+  ) {
+    this.path = path;
+    this.contentType = contentType;
+    this.identity = identity;
+    this.gzip = gzip;
+  }
+
+  /**
+   * Constructs a new static asset from the given content, pre-encoding all variants of it.
+   *
+   * @param path         the path of the asset, used to determine the content type of the asset.
+   * @param content      the content of the asset.
+   * @param cacheControl the cache control header value to send with the asset, null to not send the header.
+   * @return a new static asset for the given content.
+   * @throws NullPointerException if the given path or content is null.
+   */
+  static @NonNull StaticAsset create(@NonNull String path, byte @NonNull [] content, @Nullable String cacheControl) {
+    var contentType = AssetContentTypes.contentType(path);
+    var eTag = ConditionalRequests.computeETag(content);
+    var identity = Variant.create(content, contentType, null, eTag, cacheControl);
+
+    // only keep the gzip variant if it is worth it, already compressed formats usually grow when compressed again
+    Variant gzip = null;
+    if (AssetContentTypes.compressible(contentType)) {
+      var compressed = gzip(content);
+      if (compressed.length < content.length) {
+        // the entity tag must differ from the identity variant as the representations are different
+        var gzipETag = eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+        gzip = Variant.create(compressed, contentType, GZIP_ENCODING, gzipETag, cacheControl);
+      }
+    }
+
+    return new StaticAsset(path, contentType, identity, gzip);
+  }
+
+  private static byte @NonNull [] gzip(byte @NonNull [] content) {
+    var out = new ByteArrayOutputStream(content.length / 2);
+    try (var gzipStream = new GZIPOutputStream(out)) {
+      gzipStream.write(content);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+
+    return out.toByteArray();
+  }
+
+  private static boolean acceptsGzip(@NonNull HttpRequest request) {
+    for (var value : request.headers().values(HttpHeaders.ACCEPT_ENCODING)) {
+      for (var coding : value.split(",")) {
+        var parameters = coding.split(";");
+        var name = parameters[0].trim().toLowerCase(Locale.ROOT);
+        if (name.equals(GZIP_ENCODING) || name.equals("*")) {
+          // a quality value of zero explicitly disallows the encoding
+          return parameters.length < 2 || !parameters[1].trim().matches("q=0(\\.0{0,3})?");
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Gets the path of this asset.
+   *
+   * @return the path of this asset.
+   */
+  public @NonNull String path() {
+    return this.path;
+  }
+
+  /**
+   * Gets the content type of this asset.
+   *
+   * @return the content type of this asset.
+   */
+  public @NonNull String contentType() {
+    return this.contentType;
+  }
+
+  /**
+   * Gets the strong entity tag of the identity encoding of this asset.
+   *
+   * @return the entity tag of this asset.
+   */
+  public @NonNull String eTag() {
+    return this.identity.eTag();
+  }
+
+  /**
+   * Gets the size of the uncompressed content of this asset.
+   *
+   * @return the size of the uncompressed content of this asset.
+   */
+  public int size() {
+    return this.identity.response().encodedBodyLength();
+  }
+
+  /**
+   * Gets the approximate amount of bytes this asset occupies in memory, including all encodings of it.
+   *
+   * @return the approximate amount of bytes this asset occupies in memory.
+   */
+  public long memorySize() {
+    var size = (long) this.size();
+    return this.gzip == null ? size : size + this.gzip.response().encodedBodyLength();
+  }
+
+  /**
+   * Gets the response to send for the given request. The gzip encoding is selected if the client accepts it, if the
+   * client already has the selected representation a {@code 304 Not Modified} response is returned.
+   *
+   * @param request the request to get the response for.
+   * @return the response to send for the given request.
+   * @throws NullPointerException if the given request is null.
+   */
+  public @NonNull Response<?> responseFor(@NonNull HttpRequest request) {
+    var variant = this.gzip != null && acceptsGzip(request) ? this.gzip : this.identity;
+    if (ConditionalRequests.notModified(request, variant.response().headers())) {
+      return variant.notModified();
+    }
+
+    return variant.response();
+  }
+
+  /**
+   * A pre-encoded variant of a static asset.
+   *
+   * @param eTag        the entity tag of the variant.
+   * @param response    the response holding the encoded content of the variant.
+   * @param notModified the response to send if the client already has the variant.
+   * @since 1.0
+   */
+  private record Variant(
+    @NonNull String eTag,
+    @NonNull StaticResponse<Void> response,
+    @NonNull Response<Void> notModified
+  ) {
+
+    static @NonNull Variant create(
+      byte @NonNull [] content,
+      @NonNull String contentType,
+      @Nullable String contentEncoding,
+      @NonNull String eTag,
+      @Nullable String cacheControl
+    ) {
+      var validators = RawResponse.builder().header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING).eTag(eTag);
+      if (cacheControl != null) {
+        validators.header(HttpHeaders.CACHE_CONTROL, cacheControl);
+      }
+
+      var notModified = RawResponse.builder(validators.build()).responseCode(HttpResponseCode.NOT_MODIFIED).build();
+      var response = RawResponse.builder(validators.build()).contentType(contentType);
+      if (contentEncoding != null) {
+        response.header(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+      }
+
+      return new Variant(eTag, StaticResponse.of(response.build(), content), notModified);
+    }
+  }
+}
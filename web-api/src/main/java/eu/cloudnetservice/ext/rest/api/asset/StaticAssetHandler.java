@@ -0,0 +1,307 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.asset;
+
+import com.google.common.base.Preconditions;
+import eu.cloudnetservice.ext.rest.api.HttpContext;
+import eu.cloudnetservice.ext.rest.api.HttpHandler;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
+import eu.cloudnetservice.ext.rest.api.problem.ProblemDetail;
+import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A http handler that serves static assets from the classpath or a directory. Each asset is loaded and encoded once
+ * when it is requested the first time and then kept in memory, the encoded responses share their content between all
+ * requests. Assets are served with a strong entity tag, a cache control header and in gzip encoding if the client
+ * accepts it and the content type of the asset is compressible. Conditional requests are answered with
+ * {@code 304 Not Modified}.
+ * <p>
+ * Changes to the underlying assets are not picked up once an asset was loaded. Assets that are larger than the
+ * configured maximum asset size are not served.
+ *
+ * @since 1.0
+ */
+public final class StaticAssetHandler implements HttpHandler {
+
+  private static final ProblemDetail ASSET_NOT_FOUND = ProblemDetail.builder()
+    .type("asset-not-found")
+    .title("Asset Not Found")
+    .status(HttpResponseCode.NOT_FOUND)
+    .detail("The requested asset was not found.")
+    .build();
+
+  private final AssetSource source;
+  private final String routePrefix;
+  private final String cacheControl;
+  private final int maxAssetSize;
+  private final Map<String, StaticAsset> assets = new ConcurrentHashMap<>();
+
+  private StaticAssetHandler(
+    @NonNull AssetSource source,
+    @NonNull String routePrefix,
+    @Nullable String cacheControl,
+    int maxAssetSize
+  ) {
+    this.source = source;
+    this.routePrefix = routePrefix;
+    this.cacheControl = cacheControl;
+    this.maxAssetSize = maxAssetSize;
+  }
+
+  /**
+   * Constructs a new builder for a static asset handler.
+   *
+   * @return a new builder for a static asset handler.
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  private static @Nullable String normalizePath(@NonNull String path) {
+    var normalized = path.startsWith("/") ? path.substring(1) : path;
+    if (normalized.isEmpty() || normalized.endsWith("/") || normalized.indexOf('\\') != -1) {
+      return null;
+    }
+
+    // reject all paths that try to leave the asset root or are ambiguous
+    for (var segment : normalized.split("/")) {
+      if (segment.isEmpty() || segment.equals(".") || segment.equals("..")) {
+        return null;
+      }
+    }
+
+    return normalized;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull IntoResponse<?> handle(@NonNull HttpContext context) {
+    var request = context.request();
+    var path = request.path();
+    if (path.startsWith(this.routePrefix)) {
+      var asset = this.asset(path.substring(this.routePrefix.length()));
+      if (asset != null) {
+        return asset.responseFor(request);
+      }
+    }
+
+    return ASSET_NOT_FOUND;
+  }
+
+  /**
+   * Gets the asset at the given path relative to the asset root, loading the asset if it was not requested before.
+   *
+   * @param path the path of the asset, relative to the asset root.
+   * @return the asset at the given path, null if the path is invalid or no servable asset exists at the path.
+   * @throws NullPointerException if the given path is null.
+   * @throws UncheckedIOException if an I/O error occurs while loading the asset.
+   */
+  public @Nullable StaticAsset asset(@NonNull String path) {
+    var normalizedPath = normalizePath(path);
+    if (normalizedPath == null) {
+      return null;
+    }
+
+    // missing assets are not remembered, the amount of requested paths is controlled by clients
+    return this.assets.computeIfAbsent(normalizedPath, assetPath -> {
+      try {
+        var content = this.source.load(assetPath, this.maxAssetSize);
+        return content == null ? null : StaticAsset.create(assetPath, content, this.cacheControl);
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    });
+  }
+
+  /**
+   * Gets the approximate amount of bytes the assets that were loaded by this handler occupy in memory.
+   *
+   * @return the approximate amount of bytes the loaded assets occupy in memory.
+   */
+  public long memorySize() {
+    return this.assets.values().stream().mapToLong(StaticAsset::memorySize).sum();
+  }
+
+  /**
+   * A source to load the content of assets from.
+   *
+   * @since 1.0
+   */
+  @FunctionalInterface
+  private interface AssetSource {
+
+    /**
+     * Loads the content of the asset at the given normalized path.
+     *
+     * @param path    the normalized path of the asset to load.
+     * @param maxSize the maximum size of the asset content.
+     * @return the content of the asset, null if the asset does not exist or exceeds the maximum size.
+     * @throws IOException if an I/O error occurs while loading the asset.
+     */
+    byte @Nullable [] load(@NonNull String path, int maxSize) throws IOException;
+
+    /**
+     * Reads the content of the given stream, unless it exceeds the given maximum size.
+     *
+     * @param stream  the stream to read.
+     * @param maxSize the maximum amount of bytes to read.
+     * @return the content of the stream, null if the content exceeds the given maximum size.
+     * @throws IOException if an I/O error occurs while reading the stream.
+     */
+    static byte @Nullable [] readLimited(@NonNull InputStream stream, int maxSize) throws IOException {
+      try (stream) {
+        var content = stream.readNBytes(maxSize);
+        return stream.read() == -1 ? content : null;
+      }
+    }
+  }
+
+  /**
+   * A builder for a static asset handler.
+   *
+   * @since 1.0
+   */
+  public static final class Builder {
+
+    /**
+     * The default maximum size of a single asset.
+     */
+    public static final int DEFAULT_MAX_ASSET_SIZE = 8 * 1024 * 1024;
+
+    private AssetSource source;
+    private String routePrefix = "/";
+    private String cacheControl = "public, max-age=3600";
+    private int maxAssetSize = DEFAULT_MAX_ASSET_SIZE;
+
+    private Builder() {
+    }
+
+    /**
+     * Loads the assets from the resources of the given class loader below the given base path.
+     *
+     * @param classLoader the class loader to load the resources from.
+     * @param basePath    the path of the resource directory that contains the assets.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws NullPointerException if the given class loader or base path is null.
+     */
+    public @NonNull Builder classpath(@NonNull ClassLoader classLoader, @NonNull String basePath) {
+      var prefix = basePath.isEmpty() || basePath.endsWith("/") ? basePath : basePath + '/';
+      this.source = (path, maxSize) -> {
+        var resource = classLoader.getResource(prefix + path);
+        if (resource == null) {
+          return null;
+        }
+
+        // resources of directories in an exploded classpath resolve to a listing of the directory
+        if (resource.getProtocol().equals("file")) {
+          try {
+            if (!Files.isRegularFile(Path.of(resource.toURI()))) {
+              return null;
+            }
+          } catch (URISyntaxException exception) {
+            return null;
+          }
+        }
+
+        return AssetSource.readLimited(resource.openStream(), maxSize);
+      };
+      return this;
+    }
+
+    /**
+     * Loads the assets from the given directory.
+     *
+     * @param directory the directory that contains the assets.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws NullPointerException if the given directory is null.
+     */
+    public @NonNull Builder directory(@NonNull Path directory) {
+      var root = directory.toAbsolutePath().normalize();
+      this.source = (path, maxSize) -> {
+        var file = root.resolve(path).normalize();
+        if (!file.startsWith(root) || !Files.isRegularFile(file) || Files.size(file) > maxSize) {
+          return null;
+        }
+
+        return Files.readAllBytes(file);
+      };
+      return this;
+    }
+
+    /**
+     * Sets the path prefix of the route the handler is registered for. The prefix is removed from the request path to
+     * get the path of the requested asset, it defaults to {@code /}.
+     *
+     * @param routePrefix the path prefix of the route the handler is registered for.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws NullPointerException if the given route prefix is null.
+     */
+    public @NonNull Builder routePrefix(@NonNull String routePrefix) {
+      this.routePrefix = routePrefix;
+      return this;
+    }
+
+    /**
+     * Sets the cache control header value to send with the assets, it defaults to {@code public, max-age=3600}.
+     *
+     * @param cacheControl the cache control header value, null to not send the header.
+     * @return the same instance as used to call the method, for chaining.
+     */
+    public @NonNull Builder cacheControl(@Nullable String cacheControl) {
+      this.cacheControl = cacheControl;
+      return this;
+    }
+
+    /**
+     * Sets the maximum size of a single asset, larger assets are not served.
+     *
+     * @param maxAssetSize the maximum size of a single asset in bytes.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws IllegalArgumentException if the given size is not positive.
+     */
+    public @NonNull Builder maxAssetSize(int maxAssetSize) {
+      Preconditions.checkArgument(maxAssetSize > 0, "maxAssetSize must be greater than 0");
+
+      this.maxAssetSize = maxAssetSize;
+      return this;
+    }
+
+    /**
+     * Builds the static asset handler from this builder.
+     *
+     * @return the new static asset handler.
+     * @throws NullPointerException if no asset source was set.
+     */
+    public @NonNull StaticAssetHandler build() {
+      Preconditions.checkNotNull(this.source, "classpath or directory source is required");
+
+      return new StaticAssetHandler(this.source, this.routePrefix, this.cacheControl, this.maxAssetSize);
+    }
+  }
+}
@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.ext.rest.api.auth;
 
+import java.time.Instant;
 import java.util.Set;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -61,12 +62,28 @@ enum Constant implements AuthenticationResult {
   /**
    * A successful authentication result containing the authenticated subject.
    *
-   * @param restUser the rest user that was successfully authenticated, not null.
-   * @param tokenId  the id of the token used for auth, null in case the tokens have no id.
+   * @param restUser      the rest user that was successfully authenticated, not null.
+   * @param tokenId       the id of the token used for auth, null in case the tokens have no id.
+   * @param reusableUntil the time until the authentication can be reused for requests on the same channel that supply
+   *                      the same credentials, null if the authentication must not be reused.
    * @since 1.0
    */
-  record Success(@NonNull RestUser restUser, @Nullable String tokenId) implements AuthenticationResult {
+  record Success(
+    @NonNull RestUser restUser,
+    @Nullable String tokenId,
+    @Nullable Instant reusableUntil
+  ) implements AuthenticationResult {
 
+    /**
+     * Constructs a new successful authentication result which must not be reused for subsequent requests.
+     *
+     * @param restUser the rest user that was successfully authenticated, not null.
+     * @param tokenId  the id of the token used for auth, null in case the tokens have no id.
+     * @throws NullPointerException if the given rest user is null.
+     */
+    public Success(@NonNull RestUser restUser, @Nullable String tokenId) {
+      this(restUser, tokenId, null);
+    }
   }
 
   /**
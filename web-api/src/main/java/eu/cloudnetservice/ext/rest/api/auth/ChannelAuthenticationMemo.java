@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A memo of the last successful authentication on a connection. Clients that keep a connection alive usually send the
+ * same credentials with every request, the memo allows to skip the auth provider chain for these requests.
+ * <p>
+ * The memo only stores a digest of the supplied credentials. An entry is only reused while the credentials are valid
+ * according to the auth provider, and only as long as the rest user management still returns the same user instance
+ * that was present when the entry was stored. This means that an entry is dropped as soon as the user is modified or
+ * the cache entry of the user is invalidated.
+ *
+ * @since 1.0
+ */
+public final class ChannelAuthenticationMemo {
+
+  // bounds the reuse duration for user management implementations that don't replace user instances on change
+  private static final Duration MAX_REUSE_DURATION = Duration.ofMinutes(1);
+
+  private volatile Entry entry;
+
+  private static byte[] digestCredentials(@NonNull String credentials) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256");
+      return digest.digest(credentials.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException exception) {
+      throw new IllegalStateException("SHA-256 is not supported by the current jvm", exception);
+    }
+  }
+
+  /**
+   * Get the user that was authenticated using the given credentials, if the authentication can be reused.
+   *
+   * @param credentials the credentials that were supplied by the client.
+   * @param providers   the auth providers that are allowed to authenticate the request.
+   * @param management  the user management that is used to validate that the user was not changed.
+   * @return the user that was previously authenticated using the same credentials, null if there is none.
+   * @throws NullPointerException if the given credentials, providers or management is null.
+   */
+  public @Nullable RestUser lookup(
+    @NonNull String credentials,
+    @NonNull Collection<? extends AuthProvider> providers,
+    @NonNull RestUserManagement management
+  ) {
+    var entry = this.entry;
+    if (entry == null || !providers.contains(entry.provider())) {
+      return null;
+    }
+
+    // drop the entry if expired or if the user was invalidated since the entry was stored
+    if (System.nanoTime() - entry.expirationNanos() >= 0 || management.restUser(entry.userId()) != entry.managedUser()) {
+      this.invalidate();
+      return null;
+    }
+
+    return MessageDigest.isEqual(entry.credentialDigest(), digestCredentials(credentials))
+      ? entry.authenticatedUser()
+      : null;
+  }
+
+  /**
+   * Stores the given successful authentication in this memo, replacing the previous entry.
+   *
+   * @param credentials       the credentials that were supplied by the client.
+   * @param provider          the provider that authenticated the request.
+   * @param authenticatedUser the user that was authenticated by the provider.
+   * @param management        the user management that is used to validate that the user was not changed.
+   * @param reusableUntil     the time until the given credentials stay valid.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  public void remember(
+    @NonNull String credentials,
+    @NonNull AuthProvider provider,
+    @NonNull RestUser authenticatedUser,
+    @NonNull RestUserManagement management,
+    @NonNull Instant reusableUntil
+  ) {
+    var now = Instant.now();
+    var managedUser = management.restUser(authenticatedUser.id());
+    if (managedUser == null || !reusableUntil.isAfter(now)) {
+      return;
+    }
+
+    var reuseDuration = Duration.between(now, reusableUntil);
+    if (reuseDuration.compareTo(MAX_REUSE_DURATION) > 0) {
+      reuseDuration = MAX_REUSE_DURATION;
+    }
+
+    this.entry = new Entry(
+      digestCredentials(credentials),
+      provider,
+      authenticatedUser.id(),
+      managedUser,
+      authenticatedUser,
+      System.nanoTime() + reuseDuration.toNanos());
+  }
+
+  /**
+   * Removes the currently stored authentication from this memo.
+   */
+  public void invalidate() {
+    this.entry = null;
+  }
+
+  private record Entry(
+    byte[] credentialDigest,
+    @NonNull AuthProvider provider,
+    @NonNull UUID userId,
+    @NonNull RestUser managedUser,
+    @NonNull RestUser authenticatedUser,
+    long expirationNanos
+  ) {
+
+  }
+}
@@ -93,7 +93,8 @@ public interface RestUser extends AuditedUser, IntoResponse<Map<String, Object>>
   boolean hasScope(@NonNull String scope);
 
   /**
-   * Checks whether the user has at least one of the given scopes.
+   * Checks whether the user has at least one of the given scopes. The given set is usually a compiled
+   * {@link ScopeSet}, implementations should make use of the bitwise operations provided by it if possible.
    *
    * @param scopes the scopes to check.
    * @return true if the user has at least one of the given scopes.
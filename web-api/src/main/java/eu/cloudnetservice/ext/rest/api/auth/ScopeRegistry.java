@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.auth;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.NonNull;
+
+/**
+ * A jvm-wide registry that interns scope names into dense indices. The indices are used as bit positions in a
+ * {@link ScopeSet}, which allows scope checks to be done using bitwise operations instead of string comparisons.
+ * <p>
+ * Scope names are lower cased before being interned. Once a scope is interned it keeps its index for the whole jvm
+ * lifetime, therefore compiled scope sets never become stale.
+ *
+ * @since 1.0
+ */
+public final class ScopeRegistry {
+
+  private static final List<String> SCOPE_NAMES = new CopyOnWriteArrayList<>();
+  private static final Map<String, Integer> SCOPE_INDICES = new ConcurrentHashMap<>();
+
+  private ScopeRegistry() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Interns the given scope name into this registry, returning the index of the scope. If the scope is already known
+   * the existing index is returned.
+   *
+   * @param scope the name of the scope to intern.
+   * @return the index of the given scope in this registry.
+   * @throws NullPointerException if the given scope is null.
+   */
+  public static int intern(@NonNull String scope) {
+    var index = SCOPE_INDICES.get(scope);
+    if (index != null) {
+      return index;
+    }
+
+    var lowerScope = scope.toLowerCase(Locale.ROOT);
+    synchronized (SCOPE_NAMES) {
+      index = SCOPE_INDICES.get(lowerScope);
+      if (index == null) {
+        index = SCOPE_NAMES.size();
+        SCOPE_NAMES.add(lowerScope);
+        SCOPE_INDICES.put(lowerScope, index);
+      }
+
+      return index;
+    }
+  }
+
+  /**
+   * Get the index of the given scope in this registry without interning the scope.
+   *
+   * @param scope the name of the scope to get the index of.
+   * @return the index of the given scope or -1 if the scope is not known to this registry.
+   * @throws NullPointerException if the given scope is null.
+   */
+  public static int indexOf(@NonNull String scope) {
+    var index = SCOPE_INDICES.get(scope);
+    if (index == null) {
+      index = SCOPE_INDICES.get(scope.toLowerCase(Locale.ROOT));
+    }
+
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Get the name of the scope that was interned at the given index.
+   *
+   * @param index the index of the scope to get the name of.
+   * @return the lower cased name of the scope at the given index.
+   * @throws IndexOutOfBoundsException if no scope was interned at the given index.
+   */
+  public static @NonNull String scopeName(int index) {
+    return SCOPE_NAMES.get(index);
+  }
+}
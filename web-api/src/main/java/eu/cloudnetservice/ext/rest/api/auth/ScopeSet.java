@@ -0,0 +1,239 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.auth;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import lombok.NonNull;
+
+/**
+ * An immutable set of scopes which is backed by a bitset. Each scope is represented by the index it was interned at in
+ * the {@link ScopeRegistry}. Checking if two scope sets share at least one scope is a single bitwise test.
+ * <p>
+ * This set can be passed everywhere a set of scope names is expected, for example as the required scopes to an
+ * {@link AuthProvider}. Implementations can check if a given set is a scope set and use the bitwise operations in that
+ * case.
+ *
+ * @since 1.0
+ */
+public final class ScopeSet extends AbstractSet<String> {
+
+  /**
+   * A scope set that does not contain any scopes.
+   */
+  public static final ScopeSet EMPTY = new ScopeSet(new long[0]);
+
+  private final long[] words;
+  private final int size;
+
+  private ScopeSet(long[] words) {
+    this.words = words;
+    this.size = Arrays.stream(words).mapToInt(Long::bitCount).sum();
+  }
+
+  /**
+   * Compiles the given scope names into a scope set, interning all unknown scopes into the {@link ScopeRegistry}.
+   *
+   * @param scopes the scope names to compile.
+   * @return a scope set containing all the given scopes.
+   * @throws NullPointerException if the given scope array or one of the scopes is null.
+   */
+  public static @NonNull ScopeSet of(@NonNull String... scopes) {
+    return of(Arrays.asList(scopes));
+  }
+
+  /**
+   * Compiles the given scope names into a scope set, interning all unknown scopes into the {@link ScopeRegistry}. If
+   * the given collection already is a scope set, the same instance is returned.
+   *
+   * @param scopes the scope names to compile.
+   * @return a scope set containing all the given scopes.
+   * @throws NullPointerException if the given scope collection or one of the scopes is null.
+   */
+  public static @NonNull ScopeSet of(@NonNull Collection<String> scopes) {
+    if (scopes instanceof ScopeSet scopeSet) {
+      return scopeSet;
+    }
+
+    if (scopes.isEmpty()) {
+      return EMPTY;
+    }
+
+    var words = new long[0];
+    for (var scope : scopes) {
+      var index = ScopeRegistry.intern(scope);
+      var wordIndex = index >>> 6;
+      if (wordIndex >= words.length) {
+        words = Arrays.copyOf(words, wordIndex + 1);
+      }
+
+      words[wordIndex] |= 1L << index;
+    }
+
+    return new ScopeSet(words);
+  }
+
+  /**
+   * Checks if this set and the given set share at least one scope.
+   *
+   * @param other the other scope set to check.
+   * @return true if at least one scope is present in both sets, false otherwise.
+   * @throws NullPointerException if the given scope set is null.
+   */
+  public boolean intersects(@NonNull ScopeSet other) {
+    var length = Math.min(this.words.length, other.words.length);
+    for (var index = 0; index < length; index++) {
+      if ((this.words[index] & other.words[index]) != 0) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Creates a new scope set which only contains the scopes that are present in both this set and the given set.
+   *
+   * @param other the other scope set to intersect with.
+   * @return a scope set containing the scopes present in both sets.
+   * @throws NullPointerException if the given scope set is null.
+   */
+  public @NonNull ScopeSet intersection(@NonNull ScopeSet other) {
+    var length = Math.min(this.words.length, other.words.length);
+    var intersection = new long[length];
+    for (var index = 0; index < length; index++) {
+      intersection[index] = this.words[index] & other.words[index];
+    }
+
+    return new ScopeSet(intersection);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean contains(Object scope) {
+    if (!(scope instanceof String scopeName)) {
+      return false;
+    }
+
+    var index = ScopeRegistry.indexOf(scopeName);
+    return index != -1 && this.containsIndex(index);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Iterator<String> iterator() {
+    return new Iterator<>() {
+
+      private int nextIndex = ScopeSet.this.nextSetIndex(0);
+
+      @Override
+      public boolean hasNext() {
+        return this.nextIndex != -1;
+      }
+
+      @Override
+      public String next() {
+        if (this.nextIndex == -1) {
+          throw new NoSuchElementException();
+        }
+
+        var scope = ScopeRegistry.scopeName(this.nextIndex);
+        this.nextIndex = ScopeSet.this.nextSetIndex(this.nextIndex + 1);
+        return scope;
+      }
+    };
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean equals(Object other) {
+    if (other instanceof ScopeSet scopeSet) {
+      var length = Math.max(this.words.length, scopeSet.words.length);
+      for (var index = 0; index < length; index++) {
+        if (this.word(index) != scopeSet.word(index)) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    return super.equals(other);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  private boolean containsIndex(int index) {
+    return (this.word(index >>> 6) & (1L << index)) != 0;
+  }
+
+  private long word(int wordIndex) {
+    return wordIndex < this.words.length ? this.words[wordIndex] : 0L;
+  }
+
+  private int nextSetIndex(int fromIndex) {
+    var wordIndex = fromIndex >>> 6;
+    if (wordIndex >= this.words.length) {
+      return -1;
+    }
+
+    // mask out all bits before the given index in the first word
+    var word = this.words[wordIndex] & (-1L << fromIndex);
+    while (true) {
+      if (word != 0) {
+        return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+      }
+
+      if (++wordIndex == this.words.length) {
+        return -1;
+      }
+
+      word = this.words[wordIndex];
+    }
+  }
+}
@@ -105,6 +105,29 @@ public boolean hasScope(@NonNull String scope) {
     return (this.scopes.isEmpty() || this.scopes.contains(scope)) && this.delegate.hasScope(scope);
   }
 
+  /**
+   * Checks if the user has at least one of the given scopes. If the user is from a scoped auth context only the
+   * required scopes that are also provided by the auth token are checked against the actual user.
+   *
+   * @param scopes the scopes to check.
+   * @return true if the user has at least one of the given scopes.
+   * @throws NullPointerException if the given scopes set is null.
+   */
+  @Override
+  public boolean hasOneScopeOf(@NonNull Set<String> scopes) {
+    if (scopes.isEmpty()) {
+      return true;
+    }
+
+    if (this.scopes.isEmpty()) {
+      return this.delegate.hasOneScopeOf(scopes);
+    }
+
+    // only the required scopes which are granted by the auth token need to be checked against the actual user
+    var candidateScopes = ScopeSet.of(scopes).intersection(ScopeSet.of(this.scopes));
+    return !candidateScopes.isEmpty() && this.delegate.hasOneScopeOf(candidateScopes);
+  }
+
   /**
    * {@inheritDoc}
    */
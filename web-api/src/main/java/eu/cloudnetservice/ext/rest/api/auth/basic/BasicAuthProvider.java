@@ -24,6 +24,7 @@
 import eu.cloudnetservice.ext.rest.api.auth.RestUser;
 import eu.cloudnetservice.ext.rest.api.auth.RestUserManagement;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Set;
@@ -98,8 +99,8 @@ public boolean supportsTokenGeneration() {
       var suppliedValidPassword = this.validatePassword(extractedUser, passwordBytes);
       Arrays.fill(passwordBytes, (byte) 0);
       if (suppliedValidPassword) {
-        // valid user and password
-        return new AuthenticationResult.Success(extractedUser, null);
+        // valid user and password, the credentials stay valid until the user is changed
+        return new AuthenticationResult.Success(extractedUser, null, Instant.MAX);
       } else {
         // invalid password
         return AuthenticationResult.Constant.INVALID_CREDENTIALS;
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.cache;
+
+import eu.cloudnetservice.ext.rest.api.HttpContext;
+import eu.cloudnetservice.ext.rest.api.HttpHandler;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerInterceptor;
+import eu.cloudnetservice.ext.rest.api.response.Response;
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResponse;
+import java.util.concurrent.CompletableFuture;
+import lombok.NonNull;
+
+/**
+ * A http handler interceptor that coalesces identical concurrent requests. The first request invokes the handler, all
+ * identical requests that arrive while it is in flight wait for it and are answered with its encoded response. Requests
+ * are identical if they target the same path with the same query parameters and the authenticated users have the same
+ * scopes. If the first request fails or its body is streamed, the waiting requests invoke the handler themselves.
+ * <p>
+ * This interceptor must be registered after the interceptors that authenticate the request and serializes the
+ * response itself, therefore it must be the last interceptor of a handler.
+ *
+ * @param coalescer    the coalescer which tracks the requests in flight.
+ * @param generateETag if entity tags should be generated for responses and conditional requests should be handled.
+ * @since 1.0
+ */
+public record CoalescingInterceptor(
+  @NonNull RequestCoalescer coalescer,
+  boolean generateETag
+) implements HttpHandlerInterceptor {
+
+  private static final String FLIGHT_HINT = "__COALESCED_REQUEST_FLIGHT__";
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean preProcess(
+    @NonNull HttpContext context,
+    @NonNull HttpHandler handler,
+    @NonNull HttpHandlerConfig config
+  ) throws Exception {
+    SharedResponses.authenticate(context);
+    var key = SharedResponses.requestKey(context, true, true);
+
+    var flight = new CompletableFuture<StaticResponse<?>>();
+    var leadingFlight = this.coalescer.joinOrLead(key, flight);
+    if (leadingFlight == null) {
+      // this request leads the flight, the response is shared once the handler completed
+      context.addInvocationHint(FLIGHT_HINT, new Flight(key, flight));
+      return true;
+    }
+
+    // wait interruptibly, the request deadline interrupts the thread once it expired
+    var sharedResponse = leadingFlight.get();
+    if (sharedResponse == null) {
+      return true;
+    }
+
+    SharedResponses.write(context, sharedResponse, this.generateETag);
+    return false;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean postProcess(
+    @NonNull HttpContext context,
+    @NonNull HttpHandler handler,
+    @NonNull HttpHandlerConfig config,
+    @NonNull Response<?> response
+  ) {
+    var flights = context.invocationHints(FLIGHT_HINT);
+    if (flights.isEmpty()) {
+      return true;
+    }
+
+    var flight = (Flight) flights.iterator().next();
+    var encoded = SharedResponses.encode(context, response, this.generateETag);
+    this.coalescer.complete(flight.key(), flight.future(), encoded);
+
+    if (this.generateETag) {
+      ConditionalRequests.applyPreconditions(context);
+    }
+
+    // the response was serialized already
+    return false;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void afterCompletion(
+    @NonNull HttpContext context,
+    @NonNull HttpHandler handler,
+    @NonNull HttpHandlerConfig config
+  ) {
+    // release the waiting requests if the handler failed before the response could be shared
+    for (var hint : context.invocationHints(FLIGHT_HINT)) {
+      var flight = (Flight) hint;
+      if (!flight.future().isDone()) {
+        this.coalescer.complete(flight.key(), flight.future(), null);
+      }
+    }
+  }
+
+  /**
+   * A request flight that was started by a request.
+   *
+   * @param key    the key of the flight.
+   * @param future the future that is completed with the shared response.
+   * @since 1.0
+   */
+  private record Flight(@NonNull String key, @NonNull CompletableFuture<StaticResponse<?>> future) {
+
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.cache;
+
+import com.google.common.hash.Hashing;
+import com.google.common.net.HttpHeaders;
+import eu.cloudnetservice.ext.rest.api.HttpContext;
+import eu.cloudnetservice.ext.rest.api.HttpRequest;
+import eu.cloudnetservice.ext.rest.api.HttpResponse;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
+import eu.cloudnetservice.ext.rest.api.header.HttpHeaderMap;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.NonNull;
+
+/**
+ * Utilities to generate entity tags for responses and to evaluate the {@code If-None-Match} and
+ * {@code If-Modified-Since} preconditions of conditional {@code GET} requests.
+ *
+ * @since 1.0
+ */
+public final class ConditionalRequests {
+
+  private static final byte[] EMPTY_BODY = new byte[0];
+  private static final Base64.Encoder ETAG_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private ConditionalRequests() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Computes a strong entity tag for the given encoded response body. The same body always results in the same tag.
+   *
+   * @param body the encoded response body to compute the entity tag for.
+   * @return the quoted entity tag for the given body.
+   * @throws NullPointerException if the given body is null.
+   */
+  public static @NonNull String computeETag(byte @NonNull [] body) {
+    // a truncated sha-256 is collision resistant enough to identify versions of a single resource
+    var hash = Hashing.sha256().newHasher().putBytes(body).hash();
+    var tag = new byte[16];
+    hash.writeBytesTo(tag, 0, tag.length);
+    return '"' + ETAG_ENCODER.encodeToString(tag) + '"';
+  }
+
+  /**
+   * Checks if the representation described by the given response headers was not modified according to the
+   * preconditions of the given request. The {@code If-Modified-Since} header is only evaluated if the request does not
+   * contain an {@code If-None-Match} header, as defined by RFC 9110.
+   *
+   * @param request         the request to evaluate the preconditions of.
+   * @param responseHeaders the headers of the response that would be sent to the client.
+   * @return true if the client already has the current representation, false otherwise.
+   * @throws NullPointerException if the given request or response headers are null.
+   */
+  public static boolean notModified(@NonNull HttpRequest request, @NonNull HttpHeaderMap responseHeaders) {
+    var requestHeaders = request.headers();
+    var ifNoneMatch = requestHeaders.values(HttpHeaders.IF_NONE_MATCH);
+    if (!ifNoneMatch.isEmpty()) {
+      var eTag = responseHeaders.firstValue(HttpHeaders.ETAG);
+      return eTag != null && ifNoneMatch.stream().anyMatch(value -> matchesETag(value, eTag));
+    }
+
+    var ifModifiedSince = requestHeaders.firstValue(HttpHeaders.IF_MODIFIED_SINCE);
+    var lastModified = responseHeaders.firstValue(HttpHeaders.LAST_MODIFIED);
+    if (ifModifiedSince != null && lastModified != null) {
+      try {
+        var since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME);
+        var modified = ZonedDateTime.parse(lastModified, DateTimeFormatter.RFC_1123_DATE_TIME);
+        return !modified.isAfter(since);
+      } catch (DateTimeParseException exception) {
+        // invalid dates must be ignored
+        return false;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Turns the given response into a {@code 304 Not Modified} response. The validator and caching headers that were set
+   * on the response are kept, the body and its content type are removed.
+   *
+   * @param response the response to turn into a not modified response.
+   * @throws NullPointerException if the given response is null.
+   */
+  public static void writeNotModified(@NonNull HttpResponse response) {
+    response.status(HttpResponseCode.NOT_MODIFIED);
+    response.headers().remove(HttpHeaders.CONTENT_TYPE);
+    response.body(EMPTY_BODY);
+  }
+
+  /**
+   * Evaluates the preconditions of the request in the given context against the response that was serialized into the
+   * context. A strong entity tag is generated from the response body if the response has no entity tag yet and the body
+   * is not streamed. If the client already has the current representation the response is turned into a
+   * {@code 304 Not Modified} response.
+   *
+   * @param context the context of the request to evaluate the preconditions of.
+   * @return true if the response was turned into a not modified response, false otherwise.
+   * @throws NullPointerException if the given context is null.
+   */
+  public static boolean applyPreconditions(@NonNull HttpContext context) {
+    var response = context.response();
+    if (response.status() != HttpResponseCode.OK) {
+      return false;
+    }
+
+    var headers = response.headers();
+    if (!headers.contains(HttpHeaders.ETAG) && response.bodyStream() == null) {
+      headers.set(HttpHeaders.ETAG, computeETag(response.body()));
+    }
+
+    if (notModified(context.request(), headers)) {
+      writeNotModified(response);
+      return true;
+    }
+
+    return false;
+  }
+
+  private static boolean matchesETag(@NonNull String headerValue, @NonNull String eTag) {
+    // if-none-match uses the weak comparison, the weakness indicator is ignored on both sides
+    var opaqueTag = stripWeakness(eTag);
+    for (var candidate : headerValue.split(",")) {
+      var trimmed = candidate.trim();
+      if (trimmed.equals("*") || stripWeakness(trimmed).equals(opaqueTag)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static @NonNull String stripWeakness(@NonNull String eTag) {
+    return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.cache;
+
+import com.google.common.net.HttpHeaders;
+import eu.cloudnetservice.ext.rest.api.HttpContext;
+import eu.cloudnetservice.ext.rest.api.HttpHandler;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerInterceptor;
+import eu.cloudnetservice.ext.rest.api.metrics.RequestTimings;
+import eu.cloudnetservice.ext.rest.api.response.Response;
+import lombok.NonNull;
+
+/**
+ * A http handler interceptor that answers conditional requests with {@code 304 Not Modified}. If the handler supplied
+ * an entity tag or last modification date the preconditions are evaluated before the response is serialized, otherwise
+ * a strong entity tag is computed from the serialized response body.
+ * <p>
+ * This interceptor serializes the response itself and must therefore be the last interceptor of a handler.
+ *
+ * @since 1.0
+ */
+public final class ETagInterceptor implements HttpHandlerInterceptor {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean postProcess(
+    @NonNull HttpContext context,
+    @NonNull HttpHandler handler,
+    @NonNull HttpHandlerConfig config,
+    @NonNull Response<?> response
+  ) {
+    if (response.responseCode() != HttpResponseCode.OK) {
+      return true;
+    }
+
+    // handler supplied validators can be checked without serializing the response body
+    var httpResponse = context.response();
+    var responseHeaders = response.headers();
+    if (responseHeaders.contains(HttpHeaders.ETAG) || responseHeaders.contains(HttpHeaders.LAST_MODIFIED)) {
+      if (ConditionalRequests.notModified(context.request(), responseHeaders)) {
+        httpResponse.headers().add(responseHeaders);
+        ConditionalRequests.writeNotModified(httpResponse);
+        return false;
+      }
+    }
+
+    var timings = context.timings();
+    var serializationBegin = timings.begin();
+    response.serializeIntoResponse(httpResponse);
+    timings.end(RequestTimings.Stage.SERIALIZATION, serializationBegin);
+
+    ConditionalRequests.applyPreconditions(context);
+    return false;
+  }
+}
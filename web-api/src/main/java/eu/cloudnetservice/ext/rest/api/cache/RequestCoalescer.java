@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.cache;
+
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResponse;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of the requests that are currently being processed, allowing identical requests that arrive while a
+ * request is in flight to wait for and share its encoded response instead of invoking the handler again. Responses are
+ * only shared with requests that arrived while the first request was in flight, unlike a response cache no response is
+ * kept once the request completed.
+ *
+ * @since 1.0
+ */
+public final class RequestCoalescer {
+
+  private final Map<String, CompletableFuture<StaticResponse<?>>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * Registers the given flight for the given key unless another request with the same key is already in flight. If this
+   * method returns null the caller is responsible to complete the flight by calling {@link #complete(String,
+   * CompletableFuture, StaticResponse)} once the response is available.
+   *
+   * @param key    the key that identifies identical requests.
+   * @param flight the flight of the calling request to register.
+   * @return the flight of the request with the same key that is already in flight, null if the given flight was
+   * registered.
+   * @throws NullPointerException if the given key or flight is null.
+   */
+  public @Nullable CompletableFuture<StaticResponse<?>> joinOrLead(
+    @NonNull String key,
+    @NonNull CompletableFuture<StaticResponse<?>> flight
+  ) {
+    return this.inFlight.putIfAbsent(key, flight);
+  }
+
+  /**
+   * Completes the given flight with the given response. The flight is unregistered first, requests that arrive after
+   * this method was called start a new flight and are not answered with the given response.
+   *
+   * @param key      the key the flight was registered with.
+   * @param flight   the flight to complete.
+   * @param response the response to share with the waiting requests, null if the waiting requests should invoke the
+   *                 handler themselves.
+   * @throws NullPointerException if the given key or flight is null.
+   */
+  public void complete(
+    @NonNull String key,
+    @NonNull CompletableFuture<StaticResponse<?>> flight,
+    @Nullable StaticResponse<?> response
+  ) {
+    this.inFlight.remove(key, flight);
+    flight.complete(response);
+  }
+
+  /**
+   * Gets the amount of requests that are currently in flight.
+   *
+   * @return the amount of requests that are currently in flight.
+   */
+  public int inFlightCount() {
+    return this.inFlight.size();
+  }
+}
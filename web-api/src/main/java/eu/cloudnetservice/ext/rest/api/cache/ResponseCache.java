@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.cache;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResponse;
+import java.time.Duration;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A bounded cache of encoded responses. The cache is bounded by the approximate amount of bytes the stored responses
+ * occupy, the least recently used responses are evicted first once the limit is reached. Each response is stored with
+ * its own time to live and is grouped into a named cache, which allows to invalidate related responses at once.
+ *
+ * @since 1.0
+ */
+public final class ResponseCache {
+
+  /**
+   * The default maximum amount of bytes the responses stored in a response cache are allowed to occupy.
+   */
+  public static final long DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+
+  // the estimated overhead of a single cache entry and of each response header
+  private static final int ENTRY_OVERHEAD = 128;
+  private static final int HEADER_OVERHEAD = 64;
+
+  private final Cache<Key, Entry> entries;
+
+  /**
+   * Constructs a new response cache whose responses are allowed to occupy the given amount of bytes.
+   *
+   * @param maxBytes the maximum amount of bytes the stored responses are allowed to occupy.
+   * @throws IllegalArgumentException if the given amount of bytes is not positive.
+   */
+  public ResponseCache(long maxBytes) {
+    Preconditions.checkArgument(maxBytes > 0, "maxBytes must be positive");
+    this.entries = CacheBuilder.newBuilder()
+      .maximumWeight(maxBytes)
+      .weigher((Key key, Entry entry) -> entry.weight())
+      .build();
+  }
+
+  /**
+   * Gets the response that is stored for the given key in the given cache, if it did not expire yet.
+   *
+   * @param cacheName the name of the cache the response is stored in.
+   * @param key       the key of the response in the cache.
+   * @return the response stored for the given key, null if no response is stored or the response expired.
+   * @throws NullPointerException if the given cache name or key is null.
+   */
+  public @Nullable StaticResponse<?> get(@NonNull String cacheName, @NonNull String key) {
+    var cacheKey = new Key(cacheName, key);
+    var entry = this.entries.getIfPresent(cacheKey);
+    if (entry == null) {
+      return null;
+    }
+
+    if (entry.expiresAt() - System.nanoTime() <= 0) {
+      // only remove the entry we looked at, it might have been replaced concurrently
+      this.entries.asMap().remove(cacheKey, entry);
+      return null;
+    }
+
+    return entry.response();
+  }
+
+  /**
+   * Stores the given response for the given key in the given cache, replacing the response that was previously stored.
+   *
+   * @param cacheName  the name of the cache to store the response in.
+   * @param key        the key of the response in the cache.
+   * @param response   the response to store.
+   * @param timeToLive the time after which the stored response expires.
+   * @throws NullPointerException     if the given cache name, key, response or time to live is null.
+   * @throws IllegalArgumentException if the given time to live is not positive.
+   */
+  public void put(
+    @NonNull String cacheName,
+    @NonNull String key,
+    @NonNull StaticResponse<?> response,
+    @NonNull Duration timeToLive
+  ) {
+    Preconditions.checkArgument(timeToLive.isPositive(), "timeToLive must be positive");
+
+    var weight = ENTRY_OVERHEAD
+      + cacheName.length()
+      + key.length()
+      + response.encodedBodyLength()
+      + response.headers().size() * HEADER_OVERHEAD;
+    var expiresAt = System.nanoTime() + timeToLive.toNanos();
+    this.entries.put(new Key(cacheName, key), new Entry(response, expiresAt, weight));
+  }
+
+  /**
+   * Drops all responses stored in the given cache.
+   *
+   * @param cacheName the name of the cache to drop all responses of.
+   * @throws NullPointerException if the given cache name is null.
+   */
+  public void invalidate(@NonNull String cacheName) {
+    this.entries.asMap().keySet().removeIf(key -> key.cacheName().equals(cacheName));
+  }
+
+  /**
+   * Drops the response that is stored for the given key in the given cache.
+   *
+   * @param cacheName the name of the cache the response is stored in.
+   * @param key       the key of the response in the cache.
+   * @throws NullPointerException if the given cache name or key is null.
+   */
+  public void invalidate(@NonNull String cacheName, @NonNull String key) {
+    this.entries.invalidate(new Key(cacheName, key));
+  }
+
+  /**
+   * Drops all responses stored in this response cache.
+   */
+  public void invalidateAll() {
+    this.entries.invalidateAll();
+  }
+
+  /**
+   * Gets the amount of responses that are currently stored in this cache, including responses that expired but were not
+   * removed yet.
+   *
+   * @return the amount of responses that are currently stored in this cache.
+   */
+  public long size() {
+    return this.entries.size();
+  }
+
+  /**
+   * The key of a response in the response cache.
+   *
+   * @param cacheName the name of the cache the response is stored in.
+   * @param key       the key of the response in the cache.
+   * @since 1.0
+   */
+  private record Key(@NonNull String cacheName, @NonNull String key) {
+
+  }
+
+  /**
+   * A response stored in the response cache.
+   *
+   * @param response  the stored response.
+   * @param expiresAt the nano time at which the response expires.
+   * @param weight    the approximate amount of bytes the entry occupies.
+   * @since 1.0
+   */
+  private record Entry(@NonNull StaticResponse<?> response, long expiresAt, int weight) {
+
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.cache;
+
+import eu.cloudnetservice.ext.rest.api.HttpContext;
+import eu.cloudnetservice.ext.rest.api.HttpHandler;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerInterceptor;
+import eu.cloudnetservice.ext.rest.api.response.Response;
+import java.time.Duration;
+import lombok.NonNull;
+
+/**
+ * A http handler interceptor that answers requests from a response cache. If a response for the request is cached the
+ * cached response is sent without invoking the handler, otherwise the response of the handler is encoded once and
+ * stored in the cache. Only responses with the status code {@code 200 OK} and a body that is not streamed are cached.
+ * <p>
+ * This interceptor must be registered after the interceptors that authenticate the request, as the authentication
+ * must not be bypassed by a cached response. Authentication that is requested by a handler parameter is performed by
+ * this interceptor before the cache lookup.
+ * <p>
+ * If entity tags are enabled the entity tag of a response is computed once when storing it, conditional requests are
+ * then answered with {@code 304 Not Modified} for both cached and fresh responses.
+ *
+ * @param responseCache the response cache to store the responses in.
+ * @param cacheName     the name of the cache to store the responses in.
+ * @param timeToLive    the time after which a cached response expires.
+ * @param keyByQuery    if the query of the request should be part of the cache key.
+ * @param keyByScopes   if the scopes of the authenticated user should be part of the cache key.
+ * @param generateETag  if entity tags should be generated for responses and conditional requests should be handled.
+ * @since 1.0
+ */
+public record ResponseCacheInterceptor(
+  @NonNull ResponseCache responseCache,
+  @NonNull String cacheName,
+  @NonNull Duration timeToLive,
+  boolean keyByQuery,
+  boolean keyByScopes,
+  boolean generateETag
+) implements HttpHandlerInterceptor {
+
+  private static final String CACHE_KEY_HINT = "__RESPONSE_CACHE_KEY__";
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean preProcess(
+    @NonNull HttpContext context,
+    @NonNull HttpHandler handler,
+    @NonNull HttpHandlerConfig config
+  ) {
+    SharedResponses.authenticate(context);
+    var key = SharedResponses.requestKey(context, this.keyByQuery, this.keyByScopes);
+    var cached = this.responseCache.get(this.cacheName, key);
+    if (cached != null) {
+      SharedResponses.write(context, cached, this.generateETag);
+      return false;
+    }
+
+    context.addInvocationHint(CACHE_KEY_HINT, key);
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean postProcess(
+    @NonNull HttpContext context,
+    @NonNull HttpHandler handler,
+    @NonNull HttpHandlerConfig config,
+    @NonNull Response<?> response
+  ) {
+    var keyHints = context.invocationHints(CACHE_KEY_HINT);
+    if (response.responseCode() != HttpResponseCode.OK || keyHints.isEmpty()) {
+      return true;
+    }
+
+    // serialize the response once to get the encoded form of it, the encoded form is then reused for cache hits
+    var encoded = SharedResponses.encode(context, response, this.generateETag);
+    if (encoded != null) {
+      var key = (String) keyHints.iterator().next();
+      this.responseCache.put(this.cacheName, key, encoded, this.timeToLive);
+    }
+
+    if (this.generateETag) {
+      ConditionalRequests.applyPreconditions(context);
+    }
+
+    // the response was serialized already
+    return false;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.cache;
+
+import eu.cloudnetservice.ext.rest.api.HttpContext;
+import eu.cloudnetservice.ext.rest.api.HttpHandler;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerInterceptor;
+import eu.cloudnetservice.ext.rest.api.response.Response;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * A http handler interceptor that drops all responses of the given caches once the handler completed with a successful
+ * status code. This should be registered for handlers that modify data returned by cached handlers.
+ *
+ * @param responseCache the response cache to drop the responses from.
+ * @param cacheNames    the names of the caches to drop all responses of.
+ * @since 1.0
+ */
+public record ResponseCacheInvalidator(
+  @NonNull ResponseCache responseCache,
+  @NonNull List<String> cacheNames
+) implements HttpHandlerInterceptor {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean postProcess(
+    @NonNull HttpContext context,
+    @NonNull HttpHandler handler,
+    @NonNull HttpHandlerConfig config,
+    @NonNull Response<?> response
+  ) {
+    var code = response.responseCode().code();
+    if (code >= 200 && code < 300) {
+      for (var cacheName : this.cacheNames) {
+        this.responseCache.invalidate(cacheName);
+      }
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.cache;
+
+import com.google.common.net.HttpHeaders;
+import eu.cloudnetservice.ext.rest.api.HttpContext;
+import eu.cloudnetservice.ext.rest.api.annotation.Authentication;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.DefaultHttpAnnotationParser;
+import eu.cloudnetservice.ext.rest.api.annotation.parser.ParameterInvocationHint;
+import eu.cloudnetservice.ext.rest.api.metrics.RequestTimings;
+import eu.cloudnetservice.ext.rest.api.response.Response;
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResponse;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.TreeMap;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Shared steps of the interceptors that answer multiple requests with the same encoded response.
+ *
+ * @since 1.0
+ */
+final class SharedResponses {
+
+  private SharedResponses() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Authenticates the request in the given context if the authentication is requested by a handler parameter. Such
+   * authentication is usually resolved while invoking the handler, but must happen before a shared response is used.
+   * The authenticated user is remembered in the context and reused when invoking the handler.
+   *
+   * @param context the context of the request to authenticate.
+   * @throws NullPointerException if the given context is null.
+   */
+  static void authenticate(@NonNull HttpContext context) {
+    for (var hint : context.invocationHints(DefaultHttpAnnotationParser.PARAM_INVOCATION_HINT_KEY)) {
+      if (hint instanceof ParameterInvocationHint parameterHint
+        && parameterHint.target().isAnnotationPresent(Authentication.class)) {
+        parameterHint.resolveValue(context);
+      }
+    }
+  }
+
+  /**
+   * Builds the key which identifies requests that can be answered with the same response. The key consists of the
+   * request path and optionally the query parameters sorted by name and the sorted scopes of the authenticated user.
+   * All parts are url encoded, the separators between them can therefore not be contained in one of the parts.
+   *
+   * @param context     the context of the request to build the key for.
+   * @param keyByQuery  if the query parameters should be part of the key.
+   * @param keyByScopes if the scopes of the authenticated user should be part of the key.
+   * @return the key for the request in the given context.
+   * @throws NullPointerException if the given context is null.
+   */
+  static @NonNull String requestKey(@NonNull HttpContext context, boolean keyByQuery, boolean keyByScopes) {
+    var request = context.request();
+    var key = new StringBuilder(URLEncoder.encode(request.path(), StandardCharsets.UTF_8));
+    if (keyByQuery) {
+      var separator = '?';
+      for (var parameter : new TreeMap<>(request.queryParameters()).entrySet()) {
+        var name = URLEncoder.encode(parameter.getKey(), StandardCharsets.UTF_8);
+        for (var value : parameter.getValue()) {
+          key.append(separator).append(name).append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+          separator = '&';
+        }
+      }
+    }
+
+    var user = context.authenticatedUser();
+    if (keyByScopes && user != null) {
+      key.append('#');
+      user.scopes().stream()
+        .sorted()
+        .forEach(scope -> key.append(URLEncoder.encode(scope, StandardCharsets.UTF_8)).append(','));
+    }
+
+    return key.toString();
+  }
+
+  /**
+   * Serializes the given response into the response of the given context and returns the encoded form of it. If entity
+   * tags are requested and the response has none, the tag is computed from the encoded body and stored in the encoded
+   * form, so that it does not need to be computed again when reusing the encoded form.
+   *
+   * @param context      the context to serialize the response into.
+   * @param response     the response to serialize.
+   * @param generateETag if an entity tag should be generated for the response.
+   * @return the encoded form of the response, null if the body of the response is streamed.
+   * @throws NullPointerException if the given context or response is null.
+   */
+  static @Nullable StaticResponse<?> encode(
+    @NonNull HttpContext context,
+    @NonNull Response<?> response,
+    boolean generateETag
+  ) {
+    var httpResponse = context.response();
+    var timings = context.timings();
+    var serializationBegin = timings.begin();
+    response.serializeIntoResponse(httpResponse);
+    timings.end(RequestTimings.Stage.SERIALIZATION, serializationBegin);
+
+    // streamed bodies can only be consumed once and cannot be shared
+    if (httpResponse.bodyStream() != null) {
+      return null;
+    }
+
+    var body = httpResponse.body();
+    if (generateETag && !response.headers().contains(HttpHeaders.ETAG)) {
+      var eTag = ConditionalRequests.computeETag(body);
+      httpResponse.headers().set(HttpHeaders.ETAG, eTag);
+      return StaticResponse.of(response.intoResponseBuilder().header(HttpHeaders.ETAG, eTag).build(), body);
+    }
+
+    return StaticResponse.of(response, body);
+  }
+
+  /**
+   * Writes the given shared response into the response of the given context. If entity tags are enabled and the
+   * preconditions of the request match the shared response, a not modified response is written instead.
+   *
+   * @param context      the context to write the response into.
+   * @param response     the shared response to write.
+   * @param generateETag if conditional requests should be handled.
+   * @throws NullPointerException if the given context or response is null.
+   */
+  static void write(@NonNull HttpContext context, @NonNull StaticResponse<?> response, boolean generateETag) {
+    var httpResponse = context.response();
+    if (generateETag && ConditionalRequests.notModified(context.request(), response.headers())) {
+      httpResponse.headers().add(response.headers());
+      ConditionalRequests.writeNotModified(httpResponse);
+    } else {
+      response.serializeIntoResponse(httpResponse);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.config;
+
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+/**
+ * The configuration of a bulkhead, a named executor pool with its own concurrency and queue limits to which http
+ * handlers can be assigned. Requests to handlers assigned to a bulkhead are isolated from the requests to all other
+ * handlers, a burst of expensive requests can therefore only exhaust the resources of their own bulkhead. Requests
+ * that neither fit into the running nor into the queued requests of a bulkhead are rejected.
+ *
+ * @param name           the name of the bulkhead, used to assign http handlers to it.
+ * @param maxConcurrency the maximum amount of requests that are handled concurrently in the bulkhead.
+ * @param maxQueueSize   the maximum amount of requests waiting for handling, 0 to reject requests immediately.
+ * @since 1.0
+ */
+public record BulkheadConfig(@NonNull String name, int maxConcurrency, int maxQueueSize) {
+
+  /**
+   * Constructs a new bulkhead configuration.
+   *
+   * @param name           the name of the bulkhead, used to assign http handlers to it.
+   * @param maxConcurrency the maximum amount of requests that are handled concurrently in the bulkhead.
+   * @param maxQueueSize   the maximum amount of requests waiting for handling, 0 to reject requests immediately.
+   * @throws NullPointerException     if the given name is null.
+   * @throws IllegalArgumentException if the name is blank, the concurrency is not positive or the queue size negative.
+   */
+  public BulkheadConfig {
+    Preconditions.checkArgument(!name.isBlank(), "name must not be blank");
+    Preconditions.checkArgument(maxConcurrency > 0, "maxConcurrency must be greater than 0");
+    Preconditions.checkArgument(maxQueueSize >= 0, "maxQueueSize must not be negative");
+  }
+}
@@ -25,13 +25,26 @@
 import eu.cloudnetservice.ext.rest.api.connection.HttpConnectionInfoResolver;
 import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
 import eu.cloudnetservice.ext.rest.api.response.type.PlainTextResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 public record ComponentConfig(
   int maxContentLength,
+  int maxPipelinedRequests,
   boolean disableNativeTransport,
+  boolean serverTimingHeader,
+  boolean connectionMetrics,
+  boolean accessLog,
+  @Nullable Duration eventLoopStallThreshold,
+  @Nullable Duration slowRequestThreshold,
+  @Nullable Duration requestTimeout,
+  @NonNull Map<String, BulkheadConfig> bulkheads,
   @NonNull CorsConfig corsConfig,
   @NonNull HttpProxyMode haProxyMode,
   @NonNull HttpHandler fallbackHttpHandler,
@@ -41,6 +54,9 @@ public record ComponentConfig(
 ) {
 
   public static final int DEFAULT_MAX_CONTENT_LENGTH = 5 * 1024 * 1024;
+  public static final int DEFAULT_MAX_PIPELINED_REQUESTS = 16;
+  public static final Duration DEFAULT_EVENT_LOOP_STALL_THRESHOLD = Duration.ofMillis(500);
+  public static final Duration DEFAULT_SLOW_REQUEST_THRESHOLD = Duration.ofSeconds(10);
 
   private static final HttpHandler DEFAULT_FALLBACK_HANDLER = new HttpHandler() {
     @Override
@@ -55,7 +71,15 @@ public record ComponentConfig(
 
   public static @NonNull Builder builder(@NonNull ComponentConfig componentConfig) {
     return new Builder()
+      .maxPipelinedRequests(componentConfig.maxPipelinedRequests())
       .disableNativeTransport(componentConfig.disableNativeTransport())
+      .serverTimingHeader(componentConfig.serverTimingHeader())
+      .connectionMetrics(componentConfig.connectionMetrics())
+      .accessLog(componentConfig.accessLog())
+      .eventLoopStallThreshold(componentConfig.eventLoopStallThreshold())
+      .slowRequestThreshold(componentConfig.slowRequestThreshold())
+      .requestTimeout(componentConfig.requestTimeout())
+      .bulkheads(componentConfig.bulkheads().values())
       .corsConfig(componentConfig.corsConfig())
       .haProxyMode(componentConfig.haProxyMode())
       .fallbackHttpHandler(componentConfig.fallbackHttpHandler())
@@ -66,7 +90,15 @@ public record ComponentConfig(
   public static final class Builder {
 
     private int maxContentLength = DEFAULT_MAX_CONTENT_LENGTH;
+    private int maxPipelinedRequests = DEFAULT_MAX_PIPELINED_REQUESTS;
     private boolean disableNativeTransport;
+    private boolean serverTimingHeader;
+    private boolean connectionMetrics = true;
+    private boolean accessLog;
+    private Duration eventLoopStallThreshold = DEFAULT_EVENT_LOOP_STALL_THRESHOLD;
+    private Duration slowRequestThreshold = DEFAULT_SLOW_REQUEST_THRESHOLD;
+    private Duration requestTimeout;
+    private Map<String, BulkheadConfig> bulkheads = new LinkedHashMap<>();
     private HttpHandler fallbackHttpHandler = DEFAULT_FALLBACK_HANDLER;
     private ExecutorService executorService;
     private SslConfiguration sslConfiguration;
@@ -81,11 +113,74 @@ public static final class Builder {
       return this;
     }
 
+    public @NonNull Builder maxPipelinedRequests(int maxPipelinedRequests) {
+      Preconditions.checkArgument(maxPipelinedRequests > 0, "maxPipelinedRequests must be greater than 0");
+
+      this.maxPipelinedRequests = maxPipelinedRequests;
+      return this;
+    }
+
     public @NonNull Builder disableNativeTransport(boolean disableNativeTransport) {
       this.disableNativeTransport = disableNativeTransport;
       return this;
     }
 
+    public @NonNull Builder serverTimingHeader(boolean serverTimingHeader) {
+      this.serverTimingHeader = serverTimingHeader;
+      return this;
+    }
+
+    public @NonNull Builder connectionMetrics(boolean connectionMetrics) {
+      this.connectionMetrics = connectionMetrics;
+      return this;
+    }
+
+    public @NonNull Builder accessLog(boolean accessLog) {
+      this.accessLog = accessLog;
+      return this;
+    }
+
+    public @NonNull Builder eventLoopStallThreshold(@Nullable Duration eventLoopStallThreshold) {
+      Preconditions.checkArgument(
+        eventLoopStallThreshold == null || eventLoopStallThreshold.isPositive(),
+        "eventLoopStallThreshold must be positive");
+
+      this.eventLoopStallThreshold = eventLoopStallThreshold;
+      return this;
+    }
+
+    public @NonNull Builder slowRequestThreshold(@Nullable Duration slowRequestThreshold) {
+      Preconditions.checkArgument(
+        slowRequestThreshold == null || slowRequestThreshold.isPositive(),
+        "slowRequestThreshold must be positive");
+
+      this.slowRequestThreshold = slowRequestThreshold;
+      return this;
+    }
+
+    public @NonNull Builder requestTimeout(@Nullable Duration requestTimeout) {
+      Preconditions.checkArgument(
+        requestTimeout == null || requestTimeout.isPositive(),
+        "requestTimeout must be positive");
+
+      this.requestTimeout = requestTimeout;
+      return this;
+    }
+
+    public @NonNull Builder bulkhead(@NonNull BulkheadConfig bulkhead) {
+      this.bulkheads.put(bulkhead.name(), bulkhead);
+      return this;
+    }
+
+    public @NonNull Builder bulkheads(@NonNull Collection<BulkheadConfig> bulkheads) {
+      this.bulkheads = new LinkedHashMap<>();
+      for (var bulkhead : bulkheads) {
+        this.bulkheads.put(bulkhead.name(), bulkhead);
+      }
+
+      return this;
+    }
+
     public @NonNull Builder fallbackHttpHandler(@NonNull HttpHandler fallbackHttpHandler) {
       this.fallbackHttpHandler = fallbackHttpHandler;
       return this;
@@ -131,7 +226,15 @@ public static final class Builder {
 
       return new ComponentConfig(
         this.maxContentLength,
+        this.maxPipelinedRequests,
         this.disableNativeTransport,
+        this.serverTimingHeader,
+        this.connectionMetrics,
+        this.accessLog,
+        this.eventLoopStallThreshold,
+        this.slowRequestThreshold,
+        this.requestTimeout,
+        Collections.unmodifiableMap(new LinkedHashMap<>(this.bulkheads)),
         this.corsConfigBuilder.build(),
         this.haProxyMode,
         this.fallbackHttpHandler,
@@ -21,6 +21,7 @@
 import eu.cloudnetservice.ext.rest.api.HttpHandler;
 import eu.cloudnetservice.ext.rest.api.HttpMethod;
 import eu.cloudnetservice.ext.rest.api.response.Response;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -31,7 +32,9 @@
 public record HttpHandlerConfig(
   @NonNull HttpMethod httpMethod,
   @Nullable CorsConfig corsConfig,
-  @NonNull List<HttpHandlerInterceptor> handlerInterceptors
+  @NonNull List<HttpHandlerInterceptor> handlerInterceptors,
+  @Nullable Duration timeout,
+  @Nullable String bulkhead
 ) {
 
   public static @NonNull Builder builder() {
@@ -42,7 +45,9 @@ public record HttpHandlerConfig(
     return builder()
       .httpMethod(config.httpMethod())
       .corsConfiguration(config.corsConfig())
-      .handlerInterceptors(config.handlerInterceptors());
+      .handlerInterceptors(config.handlerInterceptors())
+      .timeout(config.timeout())
+      .bulkhead(config.bulkhead());
   }
 
   public boolean invokePreProcessors(
@@ -83,11 +88,23 @@ public void invokeExceptionallyPostProcessors(
     }
   }
 
+  public void invokeCompletionProcessors(
+    @NonNull HttpContext context,
+    @NonNull HttpHandler handler,
+    @NonNull HttpHandlerConfig config
+  ) throws Exception {
+    for (var interceptor : this.handlerInterceptors) {
+      interceptor.afterCompletion(context, handler, config);
+    }
+  }
+
   public static final class Builder {
 
     private HttpMethod httpMethod;
     private CorsConfig corsConfig;
     private List<HttpHandlerInterceptor> handlerInterceptors = new LinkedList<>();
+    private Duration timeout;
+    private String bulkhead;
 
     private Builder() {
     }
@@ -118,13 +135,27 @@ private Builder() {
       return this;
     }
 
+    public @NonNull Builder timeout(@Nullable Duration timeout) {
+      Preconditions.checkArgument(timeout == null || !timeout.isNegative(), "timeout must not be negative");
+
+      this.timeout = timeout;
+      return this;
+    }
+
+    public @NonNull Builder bulkhead(@Nullable String bulkhead) {
+      this.bulkhead = bulkhead;
+      return this;
+    }
+
     public @NonNull HttpHandlerConfig build() {
       Preconditions.checkNotNull(this.httpMethod, "http method is required");
 
       return new HttpHandlerConfig(
         this.httpMethod,
         this.corsConfig,
-        Arrays.asList(this.handlerInterceptors.toArray(HttpHandlerInterceptor[]::new)));
+        Arrays.asList(this.handlerInterceptors.toArray(HttpHandlerInterceptor[]::new)),
+        this.timeout,
+        this.bulkhead);
     }
   }
 }
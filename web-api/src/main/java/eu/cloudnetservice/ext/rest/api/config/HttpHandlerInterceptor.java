@@ -61,4 +61,22 @@ default void postProcessExceptionally(
     @NonNull Throwable exception
   ) throws Exception {
   }
+
+  /**
+   * Called once the processing of the given context by the associated handler completed, regardless of whether the
+   * handler completed successfully, threw an exception or was not invoked at all because a preprocessor dropped the
+   * request. This method is called for all interceptors of the handler and can be used to release resources that were
+   * acquired while preprocessing the context.
+   *
+   * @param context the current context of the request.
+   * @param handler the handler that was associated with the request.
+   * @param config  the config of the handler.
+   * @throws NullPointerException if the given context, handler or config is null.
+   */
+  default void afterCompletion(
+    @NonNull HttpContext context,
+    @NonNull HttpHandler handler,
+    @NonNull HttpHandlerConfig config
+  ) throws Exception {
+  }
 }
@@ -17,6 +17,8 @@
 package eu.cloudnetservice.ext.rest.api.cors;
 
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.net.HttpHeaders;
 import eu.cloudnetservice.ext.rest.api.HttpContext;
 import eu.cloudnetservice.ext.rest.api.HttpMethod;
@@ -26,10 +28,13 @@
 import eu.cloudnetservice.ext.rest.api.config.CorsConfig;
 import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
 import eu.cloudnetservice.ext.rest.api.connection.BasicHttpConnectionInfo;
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResponse;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -44,6 +49,22 @@ public final class DefaultCorsRequestProcessor implements CorsRequestProcessor {
   private static final String ACCESS_CONTROL_REQUEST_PRIVATE_NETWORK = "Access-Control-Request-Private-Network";
   private static final Splitter REQUEST_HEADERS_SPLITTER = Splitter.on(',').omitEmptyStrings().trimResults();
 
+  private static final int MAX_CACHED_ORIGINS = 256;
+  private static final String VARY_HEADER_VALUE = String.join(
+    ", ",
+    HttpHeaders.ORIGIN,
+    HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD,
+    HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+  private static final StaticResponse<Void> REJECTED_RESPONSE = StaticResponse.of(
+    HttpResponseCode.FORBIDDEN.intoResponse(),
+    "Provided information does not match CORS rules".getBytes(StandardCharsets.UTF_8));
+
+  // the handler configs are weakly referenced, which drops the policy of a handler once it gets re-registered
+  private final Cache<HttpHandlerConfig, CorsPolicy> policies = CacheBuilder.newBuilder().weakKeys().build();
+  private final Cache<String, ParsedOrigin> parsedOrigins = CacheBuilder.newBuilder()
+    .maximumSize(MAX_CACHED_ORIGINS)
+    .build();
+
   /**
    * {@inheritDoc}
    */
@@ -90,8 +111,7 @@ public void processPreflightRequest(
     }
 
     // ensure that a corsConfig configuration is present in order to process the CORS request
-    var corsConfig = httpHandlerConfig != null ? httpHandlerConfig.corsConfig() : null;
-    if (corsConfig == null) {
+    if (httpHandlerConfig == null || httpHandlerConfig.corsConfig() == null) {
       this.rejectRequest(context.response());
       return;
     }
@@ -99,9 +119,8 @@ public void processPreflightRequest(
     this.filterAndPreprocessCorsRequest(
       preflightRequestInfo.origin(),
       preflightRequestInfo.requestMethod(),
-      httpHandlerConfig.httpMethod(),
       preflightRequestInfo.requestHeaders(),
-      corsConfig,
+      this.policy(httpHandlerConfig),
       context.request(),
       context.response(),
       true);
@@ -119,8 +138,7 @@ public boolean processNormalRequest(@NonNull HttpContext context, @NonNull HttpH
     }
 
     // check if a cors config is present for the handler
-    var corsConfig = httpHandlerConfig.corsConfig();
-    if (corsConfig == null) {
+    if (httpHandlerConfig.corsConfig() == null) {
       return true;
     }
 
@@ -132,9 +150,8 @@ public boolean processNormalRequest(@NonNull HttpContext context, @NonNull HttpH
     return this.filterAndPreprocessCorsRequest(
       crossOrigin,
       request.method(),
-      httpHandlerConfig.httpMethod(),
       headerNames,
-      corsConfig,
+      this.policy(httpHandlerConfig),
       request,
       context.response(),
       false);
@@ -143,34 +160,31 @@ public boolean processNormalRequest(@NonNull HttpContext context, @NonNull HttpH
   private boolean filterAndPreprocessCorsRequest(
     @NonNull String origin,
     @NonNull String method,
-    @NonNull HttpMethod allowedMethod,
     @NonNull Collection<String> headerNames,
-    @NonNull CorsConfig corsConfig,
+    @NonNull CorsPolicy policy,
     @NonNull HttpRequest httpRequest,
     @NonNull HttpResponse httpResponse,
     boolean preflight
   ) {
     // append information about the headers that on change might lead to a different handling result
-    httpResponse.headers().add(HttpHeaders.VARY, HttpHeaders.ORIGIN);
-    httpResponse.headers().add(HttpHeaders.VARY, HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD);
-    httpResponse.headers().add(HttpHeaders.VARY, HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+    httpResponse.headers().add(HttpHeaders.VARY, VARY_HEADER_VALUE);
 
     // check if the given origin is valid
-    var validOrigin = corsConfig.findMatchingOrigin(origin);
+    var validOrigin = policy.matchOrigin(origin);
     if (validOrigin == null) {
       this.rejectRequest(httpResponse);
       return false;
     }
 
     // check if the used request method is valid
-    if (!method.equalsIgnoreCase(allowedMethod.name())) {
+    if (!method.equalsIgnoreCase(policy.allowedMethod)) {
       this.rejectRequest(httpResponse);
       return false;
     }
 
     if (preflight) {
       // validate that the supplied headers are allowed
-      var filteredHeaders = corsConfig.filterHeaders(headerNames);
+      var filteredHeaders = policy.corsConfig.filterHeaders(headerNames);
       if (filteredHeaders == null) {
         this.rejectRequest(httpResponse);
         return false;
@@ -183,21 +197,17 @@ private boolean filterAndPreprocessCorsRequest(
       }
 
       // add info about the allowed method for the request
-      httpResponse.headers().add(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, allowedMethod.name());
+      httpResponse.headers().add(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, policy.allowedMethod);
 
       // add info about the max time the preflight response can be cached, if provided
-      var maxAge = corsConfig.maxAge();
-      if (maxAge != -1) {
-        httpResponse.headers().add(HttpHeaders.ACCESS_CONTROL_MAX_AGE, Long.toString(maxAge));
+      if (policy.maxAge != null) {
+        httpResponse.headers().add(HttpHeaders.ACCESS_CONTROL_MAX_AGE, policy.maxAge);
       }
 
       // indicates to the browser is requests from public networks to private networks are allowed
       // https://developer.chrome.com/blog/private-network-access-preflight
       if (httpRequest.headers().contains(ACCESS_CONTROL_REQUEST_PRIVATE_NETWORK)) {
-        var privateNetworkAllowed = Boolean.TRUE.equals(corsConfig.allowPrivateNetworks());
-        httpResponse.headers().add(
-          HttpHeaders.ACCESS_CONTROL_ALLOW_PRIVATE_NETWORK,
-          Boolean.toString(privateNetworkAllowed));
+        httpResponse.headers().add(HttpHeaders.ACCESS_CONTROL_ALLOW_PRIVATE_NETWORK, policy.allowPrivateNetwork);
       }
 
       // preflight requests are answered with 204 (no content)
@@ -208,14 +218,12 @@ private boolean filterAndPreprocessCorsRequest(
     httpResponse.headers().add(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, validOrigin);
 
     // add the exposed headers to the response in case there are any
-    var exposedHeaders = corsConfig.exposedHeaders();
-    if (!exposedHeaders.isEmpty()) {
-      var exposedHeadersString = String.join(", ", exposedHeaders);
-      httpResponse.headers().add(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, exposedHeadersString);
+    if (policy.exposedHeaders != null) {
+      httpResponse.headers().add(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, policy.exposedHeaders);
     }
 
     // mark credentials to be allowed if configured
-    if (Boolean.TRUE.equals(corsConfig.allowCredentials())) {
+    if (policy.allowCredentials) {
       httpResponse.headers().add(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, "true");
     }
 
@@ -224,7 +232,11 @@ private boolean filterAndPreprocessCorsRequest(
 
   private void rejectRequest(@NonNull HttpResponse response) {
     response.status(HttpResponseCode.FORBIDDEN);
-    response.body("Provided information does not match CORS rules");
+    response.body(REJECTED_RESPONSE);
+  }
+
+  private @NonNull CorsPolicy policy(@NonNull HttpHandlerConfig httpHandlerConfig) {
+    return this.policies.asMap().computeIfAbsent(httpHandlerConfig, CorsPolicy::new);
   }
 
   private @Nullable String extractCrossOrigin(
@@ -238,19 +250,16 @@ private void rejectRequest(@NonNull HttpResponse response) {
     }
 
     // extract the origin (request) information
-    var parsedOrigin = URI.create(origin);
-    var originScheme = parsedOrigin.getScheme();
-    var originHost = parsedOrigin.getHost();
-    var originPort = this.portOrDefault(originScheme, parsedOrigin.getPort());
+    var parsedOrigin = this.parsedOrigins.asMap().computeIfAbsent(origin, this::parseOrigin);
 
     // get the service information
     var serverScheme = connectionInfo.scheme();
     var serverHost = connectionInfo.hostAddress().host();
     var serverPort = connectionInfo.hostAddress().port();
 
-    if (Objects.equals(originScheme, serverScheme)
-      && Objects.equals(originHost, serverHost)
-      && originPort == serverPort) {
+    if (Objects.equals(parsedOrigin.scheme(), serverScheme)
+      && Objects.equals(parsedOrigin.host(), serverHost)
+      && parsedOrigin.port() == serverPort) {
       // request is from the same origin, no CORS needed
       return null;
     } else {
@@ -259,6 +268,13 @@ private void rejectRequest(@NonNull HttpResponse response) {
     }
   }
 
+  private @NonNull ParsedOrigin parseOrigin(@NonNull String origin) {
+    var parsedOrigin = URI.create(origin);
+    var originScheme = parsedOrigin.getScheme();
+    var originPort = this.portOrDefault(originScheme, parsedOrigin.getPort());
+    return new ParsedOrigin(originScheme, parsedOrigin.getHost(), originPort);
+  }
+
   private int portOrDefault(@NonNull String scheme, int port) {
     if (port == -1) {
       if (scheme.equalsIgnoreCase("http") || scheme.equalsIgnoreCase("ws")) {
@@ -269,4 +285,64 @@ private int portOrDefault(@NonNull String scheme, int port) {
     }
     return port;
   }
+
+  /**
+   * The scheme, host and port of an origin sent by a client.
+   *
+   * @param scheme the scheme of the origin.
+   * @param host   the host of the origin.
+   * @param port   the port of the origin, defaulted based on the scheme if not given.
+   * @since 1.0
+   */
+  private record ParsedOrigin(@Nullable String scheme, @Nullable String host, int port) {
+
+  }
+
+  /**
+   * The cors information of a handler config that is computed once and reused for all requests to the handler,
+   * including a bounded cache of the decisions for the origins that requested the handler.
+   *
+   * @since 1.0
+   */
+  private static final class CorsPolicy {
+
+    private final CorsConfig corsConfig;
+    private final String allowedMethod;
+    private final String exposedHeaders;
+    private final String maxAge;
+    private final boolean allowCredentials;
+    private final String allowPrivateNetwork;
+    private final Cache<String, Optional<String>> matchedOrigins;
+
+    /**
+     * Constructs a new cors policy for the given handler config.
+     *
+     * @param httpHandlerConfig the handler config to construct the policy for, must have a cors config.
+     * @throws NullPointerException if the given handler config is null.
+     */
+    private CorsPolicy(@NonNull HttpHandlerConfig httpHandlerConfig) {
+      this.corsConfig = Objects.requireNonNull(httpHandlerConfig.corsConfig());
+      this.allowedMethod = httpHandlerConfig.httpMethod().name();
+
+      var exposedHeaders = this.corsConfig.exposedHeaders();
+      this.exposedHeaders = exposedHeaders.isEmpty() ? null : String.join(", ", exposedHeaders);
+      this.maxAge = this.corsConfig.maxAge() == -1 ? null : Long.toString(this.corsConfig.maxAge());
+      this.allowCredentials = Boolean.TRUE.equals(this.corsConfig.allowCredentials());
+      this.allowPrivateNetwork = Boolean.toString(Boolean.TRUE.equals(this.corsConfig.allowPrivateNetworks()));
+      this.matchedOrigins = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_ORIGINS).build();
+    }
+
+    /**
+     * Gets the allowed origin that matches the given origin, using the cached decision for the origin if present.
+     *
+     * @param origin the origin sent by the client.
+     * @return the allowed origin matching the given origin, null if the origin is not allowed.
+     * @throws NullPointerException if the given origin is null.
+     */
+    private @Nullable String matchOrigin(@NonNull String origin) {
+      return this.matchedOrigins.asMap()
+        .computeIfAbsent(origin, ignored -> Optional.ofNullable(this.corsConfig.findMatchingOrigin(origin)))
+        .orElse(null);
+    }
+  }
 }
@@ -0,0 +1,600 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.header;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
+
+/**
+ * The default implementation of the http header map which stores the header pairs in flat arrays. Header names are
+ * compared case-insensitive, the case-insensitive hash of each name is cached to speed up lookups. Adding a header pair
+ * which is already present in the map has no effect.
+ * <p>
+ * Clones of this map share the underlying arrays with the map they were created from, the arrays are only copied once
+ * either of the maps gets modified (copy-on-write). This makes clones (especially unmodifiable ones) very cheap.
+ *
+ * @see HttpHeaderMap
+ * @since 1.0
+ */
+final class ArrayHttpHeaderMap implements HttpHeaderMap {
+
+  private static final int MIN_CAPACITY = 4;
+
+  private final boolean unmodifiable;
+
+  private String[] names;
+  private String[] values;
+  private int[] hashes;
+  private int size;
+  private boolean shared;
+
+  /**
+   * Constructs a new empty, modifiable array http header map.
+   *
+   * @param sizeHint the amount of header pairs the map should be able to hold without resizing.
+   */
+  public ArrayHttpHeaderMap(int sizeHint) {
+    var capacity = Math.max(sizeHint, MIN_CAPACITY);
+    this.names = new String[capacity];
+    this.values = new String[capacity];
+    this.hashes = new int[capacity];
+    this.unmodifiable = false;
+  }
+
+  /**
+   * Constructs a new array http header map which shares the arrays of the given map.
+   *
+   * @param source       the map to share the arrays with.
+   * @param unmodifiable if the constructed map should be unmodifiable.
+   * @throws NullPointerException if the given source map is null.
+   */
+  private ArrayHttpHeaderMap(@NonNull ArrayHttpHeaderMap source, boolean unmodifiable) {
+    this.names = source.names;
+    this.values = source.values;
+    this.hashes = source.hashes;
+    this.size = source.size;
+    this.unmodifiable = unmodifiable;
+
+    // both maps need to copy the arrays before modifying them
+    this.shared = true;
+    source.shared = true;
+  }
+
+  /**
+   * Computes the case-insensitive hash of the given header name.
+   *
+   * @param name the header name to compute the hash of.
+   * @return the case-insensitive hash of the given header name.
+   * @throws NullPointerException if the given name is null.
+   */
+  private static int hashName(@NonNull String name) {
+    var hash = 0;
+    for (var index = 0; index < name.length(); index++) {
+      var character = name.charAt(index);
+      if (character >= 'A' && character <= 'Z') {
+        character += 'a' - 'A';
+      }
+
+      hash = 31 * hash + character;
+    }
+
+    return hash;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("MethodDoesntCallSuperMethod")
+  public @NonNull HttpHeaderMap clone() {
+    return new ArrayHttpHeaderMap(this, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap unmodifiableClone() {
+    return this.unmodifiable ? this : new ArrayHttpHeaderMap(this, true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean contains(@NonNull String headerName) {
+    return this.indexOf(headerName, hashName(headerName), 0) != -1;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean contains(@NonNull String headerName, @NonNull String headerValue) {
+    return this.indexOf(headerName, headerValue) != -1;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable String firstValue(@NonNull String headerName) {
+    return this.firstValue(headerName, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @UnknownNullability String firstValue(@NonNull String headerName, @Nullable String defaultValue) {
+    var index = this.indexOf(headerName, hashName(headerName), 0);
+    return index == -1 ? defaultValue : this.values[index];
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Collection<String> values(@NonNull String headerName) {
+    var hash = hashName(headerName);
+    var index = this.indexOf(headerName, hash, 0);
+    if (index == -1) {
+      return List.of();
+    }
+
+    List<String> headerValues = new ArrayList<>(2);
+    do {
+      headerValues.add(this.values[index]);
+      index = this.indexOf(headerName, hash, index + 1);
+    } while (index != -1);
+
+    return Collections.unmodifiableList(headerValues);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Set<String> names() {
+    return Collections.unmodifiableSet(this.asMap().keySet());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap add(@NonNull HttpHeaderMap headerMap) {
+    if (this.size == 0 && headerMap instanceof ArrayHttpHeaderMap arrayHeaderMap) {
+      return this.shareWith(arrayHeaderMap);
+    }
+
+    headerMap.forEachHeader(this::add);
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap add(@NonNull Map<String, ? extends Iterable<String>> headers) {
+    for (var entry : headers.entrySet()) {
+      this.add(entry.getKey(), entry.getValue());
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap add(@NonNull String headerName, @NonNull String headerValue) {
+    this.ensureModifiable();
+    if (this.indexOf(headerName, headerValue) == -1) {
+      this.prepareModification(1);
+      this.names[this.size] = headerName;
+      this.values[this.size] = headerValue;
+      this.hashes[this.size] = hashName(headerName);
+      this.size++;
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap add(@NonNull String headerName, @NonNull String... headerValues) {
+    for (var headerValue : headerValues) {
+      this.add(headerName, headerValue);
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap add(@NonNull String headerName, @NonNull Iterable<String> headerValues) {
+    for (var headerValue : headerValues) {
+      this.add(headerName, headerValue);
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap set(@NonNull HttpHeaderMap headerMap) {
+    if (headerMap == this) {
+      return this;
+    }
+
+    if (this.size == 0 && headerMap instanceof ArrayHttpHeaderMap arrayHeaderMap) {
+      return this.shareWith(arrayHeaderMap);
+    }
+
+    for (var headerName : headerMap.names()) {
+      this.remove(headerName);
+    }
+    return this.add(headerMap);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap set(@NonNull Map<String, ? extends Iterable<String>> headers) {
+    for (var entry : headers.entrySet()) {
+      this.set(entry.getKey(), entry.getValue());
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap set(@NonNull String headerName, @NonNull String headerValue) {
+    return this.remove(headerName).add(headerName, headerValue);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap set(@NonNull String headerName, @NonNull String... headerValues) {
+    return this.remove(headerName).add(headerName, headerValues);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap set(@NonNull String headerName, @NonNull Iterable<String> headerValues) {
+    return this.remove(headerName).add(headerName, headerValues);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap setIfAbsent(@NonNull String headerName, @NonNull String headerValue) {
+    this.ensureModifiable();
+    if (!this.contains(headerName)) {
+      return this.add(headerName, headerValue);
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap setIfAbsent(@NonNull String headerName, @NonNull String... headerValues) {
+    this.ensureModifiable();
+    if (!this.contains(headerName)) {
+      return this.add(headerName, headerValues);
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap setIfAbsent(@NonNull String headerName, @NonNull Iterable<String> headerValues) {
+    this.ensureModifiable();
+    if (!this.contains(headerName)) {
+      return this.add(headerName, headerValues);
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap clear() {
+    this.ensureModifiable();
+    if (this.shared) {
+      // no need to copy the shared arrays, just start over with new ones
+      this.names = new String[MIN_CAPACITY];
+      this.values = new String[MIN_CAPACITY];
+      this.hashes = new int[MIN_CAPACITY];
+      this.shared = false;
+    } else {
+      Arrays.fill(this.names, 0, this.size, null);
+      Arrays.fill(this.values, 0, this.size, null);
+    }
+
+    this.size = 0;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap remove(@NonNull String headerName) {
+    this.ensureModifiable();
+    var hash = hashName(headerName);
+    var index = this.indexOf(headerName, hash, 0);
+    while (index != -1) {
+      this.removeAt(index);
+      index = this.indexOf(headerName, hash, index);
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpHeaderMap remove(@NonNull String headerName, @NonNull String headerValue) {
+    this.ensureModifiable();
+    var index = this.indexOf(headerName, headerValue);
+    if (index != -1) {
+      this.removeAt(index);
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void forEachHeader(@NonNull BiConsumer<String, String> consumer) {
+    // capture the current state, the consumer might modify this map. marking the arrays as shared ensures that a
+    // modification during the iteration copies them first, the captured arrays are never changed
+    this.shared = true;
+    var names = this.names;
+    var values = this.values;
+    var size = this.size;
+    for (var index = 0; index < size; index++) {
+      consumer.accept(names[index], values[index]);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Stream<Map.Entry<String, String>> stream() {
+    return StreamSupport.stream(this.spliterator(), false);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Collection<Map.Entry<String, String>> entries() {
+    List<Map.Entry<String, String>> entries = new ArrayList<>(this.size);
+    this.forEachHeader((name, value) -> entries.add(Map.entry(name, value)));
+    return Collections.unmodifiableList(entries);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Map<String, ? extends Collection<String>> asMap() {
+    Map<String, List<String>> headers = new LinkedHashMap<>();
+    for (var index = 0; index < this.size; index++) {
+      // use the first occurrence of a header name as the key for all values associated with the name
+      var firstIndex = this.indexOf(this.names[index], this.hashes[index], 0);
+      headers.computeIfAbsent(this.names[firstIndex], ignored -> new ArrayList<>(2)).add(this.values[index]);
+    }
+
+    return Collections.unmodifiableMap(headers);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Iterator<Map.Entry<String, String>> iterator() {
+    // capture the current state, modifications during the iteration are not reflected as the arrays are copied
+    // before modifying them once they are marked as shared
+    this.shared = true;
+    var names = this.names;
+    var values = this.values;
+    var size = this.size;
+    return new Iterator<>() {
+
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return this.index < size;
+      }
+
+      @Override
+      public @NonNull Map.Entry<String, String> next() {
+        if (this.index >= size) {
+          throw new NoSuchElementException();
+        }
+
+        var entry = Map.entry(names[this.index], values[this.index]);
+        this.index++;
+        return entry;
+      }
+    };
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Spliterator<Map.Entry<String, String>> spliterator() {
+    return Spliterators.spliterator(this.iterator(), this.size, Spliterator.SIZED | Spliterator.NONNULL);
+  }
+
+  /**
+   * Gets the index of the first header pair whose name equals the given name (ignoring case), starting the search at
+   * the given index.
+   *
+   * @param headerName the header name to search for.
+   * @param hash       the case-insensitive hash of the given header name.
+   * @param fromIndex  the index to start the search at.
+   * @return the index of the first matching header pair, -1 if no pair matches.
+   * @throws NullPointerException if the given header name is null.
+   */
+  private int indexOf(@NonNull String headerName, int hash, int fromIndex) {
+    for (var index = fromIndex; index < this.size; index++) {
+      if (this.hashes[index] == hash && this.names[index].equalsIgnoreCase(headerName)) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Gets the index of the header pair with the given name (ignoring case) and value.
+   *
+   * @param headerName  the header name to search for.
+   * @param headerValue the header value to search for.
+   * @return the index of the matching header pair, -1 if no pair matches.
+   * @throws NullPointerException if the given header name or value is null.
+   */
+  private int indexOf(@NonNull String headerName, @NonNull String headerValue) {
+    var hash = hashName(headerName);
+    var index = this.indexOf(headerName, hash, 0);
+    while (index != -1 && !this.values[index].equals(headerValue)) {
+      index = this.indexOf(headerName, hash, index + 1);
+    }
+
+    return index;
+  }
+
+  /**
+   * Removes the header pair at the given index, shifting all following pairs one position to the left.
+   *
+   * @param index the index of the header pair to remove.
+   */
+  private void removeAt(int index) {
+    this.prepareModification(0);
+    var moved = this.size - index - 1;
+    if (moved > 0) {
+      System.arraycopy(this.names, index + 1, this.names, index, moved);
+      System.arraycopy(this.values, index + 1, this.values, index, moved);
+      System.arraycopy(this.hashes, index + 1, this.hashes, index, moved);
+    }
+
+    this.size--;
+    this.names[this.size] = null;
+    this.values[this.size] = null;
+  }
+
+  /**
+   * Lets this empty map share the arrays of the given map instead of copying all header pairs of it.
+   *
+   * @param source the map to share the arrays with.
+   * @return the same instance as used to call the method, for chaining.
+   * @throws NullPointerException          if the given source map is null.
+   * @throws UnsupportedOperationException if this map is unmodifiable.
+   */
+  private @NonNull HttpHeaderMap shareWith(@NonNull ArrayHttpHeaderMap source) {
+    this.ensureModifiable();
+    this.names = source.names;
+    this.values = source.values;
+    this.hashes = source.hashes;
+    this.size = source.size;
+
+    this.shared = true;
+    source.shared = true;
+    return this;
+  }
+
+  /**
+   * Prepares the arrays of this map for a modification. The arrays are copied if they are shared with another map or if
+   * they are not able to hold the given amount of additional header pairs.
+   *
+   * @param additional the amount of header pairs that are about to be added.
+   * @throws UnsupportedOperationException if this map is unmodifiable.
+   */
+  private void prepareModification(int additional) {
+    this.ensureModifiable();
+
+    var requiredCapacity = this.size + additional;
+    if (this.shared || requiredCapacity > this.names.length) {
+      var capacity = requiredCapacity > this.names.length
+        ? Math.max(requiredCapacity, this.names.length << 1)
+        : this.names.length;
+      this.names = Arrays.copyOf(this.names, capacity);
+      this.values = Arrays.copyOf(this.values, capacity);
+      this.hashes = Arrays.copyOf(this.hashes, capacity);
+      this.shared = false;
+    }
+  }
+
+  /**
+   * Ensures that this map is modifiable.
+   *
+   * @throws UnsupportedOperationException if this map is unmodifiable.
+   */
+  private void ensureModifiable() {
+    if (this.unmodifiable) {
+      throw new UnsupportedOperationException("this header map is unmodifiable");
+    }
+  }
+}
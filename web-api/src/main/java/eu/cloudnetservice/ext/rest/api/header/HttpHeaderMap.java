@@ -19,6 +19,7 @@
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -36,7 +37,8 @@
 public interface HttpHeaderMap extends Iterable<Map.Entry<String, String>>, Cloneable {
 
   /**
-   * Constructs a new empty http header map with an initial size of 16.
+   * Constructs a new empty http header map with an initial size of 16. Header names in the returned map are compared
+   * case-insensitive.
    *
    * @return a new empty http header map.
    */
@@ -51,7 +53,7 @@ public interface HttpHeaderMap extends Iterable<Map.Entry<String, String>>, Clon
    * @return a new empty http header map.
    */
   static @NonNull HttpHeaderMap newHeaderMap(int sizeHint) {
-    return new HashHttpHeaderMap(sizeHint);
+    return new ArrayHttpHeaderMap(sizeHint);
   }
 
   /**
@@ -288,6 +290,19 @@ public interface HttpHeaderMap extends Iterable<Map.Entry<String, String>>, Clon
    */
   @NonNull HttpHeaderMap remove(@NonNull String headerName, @NonNull String headerValue);
 
+  /**
+   * Calls the given consumer for each key-value pair in this map. Implementations should prefer this method over the
+   * iteration of the entries of this map, as no entry objects need to be allocated.
+   *
+   * @param consumer the consumer to call with the header name and value of each pair.
+   * @throws NullPointerException if the given consumer is null.
+   */
+  default void forEachHeader(@NonNull BiConsumer<String, String> consumer) {
+    for (var entry : this) {
+      consumer.accept(entry.getKey(), entry.getValue());
+    }
+  }
+
   /**
    * Streams all key-value pairs in this map.
    *
@@ -21,6 +21,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -279,6 +280,14 @@ public boolean contains(@NonNull String headerName, @NonNull String headerValue)
     throw new UnsupportedOperationException("this header map is unmodifiable");
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void forEachHeader(@NonNull BiConsumer<String, String> consumer) {
+    this.delegate.forEachHeader(consumer);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+
+/**
+ * The network level metrics collected for the connections accepted by a single listener of a http server.
+ *
+ * @since 1.0
+ */
+public final class ConnectionMetrics {
+
+  private final LongAdder openedConnections = new LongAdder();
+  private final LongAdder closedConnections = new LongAdder();
+
+  private final LongAdder bytesRead = new LongAdder();
+  private final LongAdder bytesWritten = new LongAdder();
+
+  private final LongAdder failedTlsHandshakes = new LongAdder();
+  private final LatencyHistogram tlsHandshakeLatency = new LatencyHistogram();
+
+  private final LongAdder idleTimeouts = new LongAdder();
+  private final LongAdder oversizedRequests = new LongAdder();
+
+  /**
+   * Records that a connection was accepted by the listener.
+   */
+  public void recordConnectionOpened() {
+    this.openedConnections.increment();
+  }
+
+  /**
+   * Records that a connection accepted by the listener was closed.
+   */
+  public void recordConnectionClosed() {
+    this.closedConnections.increment();
+  }
+
+  /**
+   * Records that the given amount of bytes was read from a connection.
+   *
+   * @param bytes the amount of bytes that were read.
+   */
+  public void recordBytesRead(long bytes) {
+    this.bytesRead.add(bytes);
+  }
+
+  /**
+   * Records that the given amount of bytes was written to a connection.
+   *
+   * @param bytes the amount of bytes that were written.
+   */
+  public void recordBytesWritten(long bytes) {
+    this.bytesWritten.add(bytes);
+  }
+
+  /**
+   * Records that a tls handshake completed. Only the duration of successful handshakes is recorded.
+   *
+   * @param durationNanos the time between accepting the connection and completing the handshake, in nanoseconds.
+   * @param success       if the handshake completed successfully.
+   */
+  public void recordTlsHandshake(long durationNanos, boolean success) {
+    if (success) {
+      this.tlsHandshakeLatency.record(durationNanos);
+    } else {
+      this.failedTlsHandshakes.increment();
+    }
+  }
+
+  /**
+   * Records that a connection was closed because the client was idle for too long.
+   */
+  public void recordIdleTimeout() {
+    this.idleTimeouts.increment();
+  }
+
+  /**
+   * Records that a request was rejected because its body exceeded the maximum content length.
+   */
+  public void recordOversizedRequest() {
+    this.oversizedRequests.increment();
+  }
+
+  /**
+   * Get the total amount of connections that were accepted by the listener.
+   *
+   * @return the total amount of connections that were accepted by the listener.
+   */
+  public long openedConnections() {
+    return this.openedConnections.sum();
+  }
+
+  /**
+   * Get the total amount of connections accepted by the listener that were closed.
+   *
+   * @return the total amount of connections accepted by the listener that were closed.
+   */
+  public long closedConnections() {
+    return this.closedConnections.sum();
+  }
+
+  /**
+   * Get the amount of connections that are currently open. As both counters are not read atomically the returned
+   * value is only an estimate while connections are opened or closed concurrently.
+   *
+   * @return the amount of connections that are currently open.
+   */
+  public long activeConnections() {
+    return Math.max(0, this.openedConnections.sum() - this.closedConnections.sum());
+  }
+
+  /**
+   * Get the total amount of bytes that were read from connections, including the bytes of tls records.
+   *
+   * @return the total amount of bytes that were read from connections.
+   */
+  public long bytesRead() {
+    return this.bytesRead.sum();
+  }
+
+  /**
+   * Get the total amount of bytes that were written to connections, including the bytes of tls records.
+   *
+   * @return the total amount of bytes that were written to connections.
+   */
+  public long bytesWritten() {
+    return this.bytesWritten.sum();
+  }
+
+  /**
+   * Get the total amount of tls handshakes that failed.
+   *
+   * @return the total amount of tls handshakes that failed.
+   */
+  public long failedTlsHandshakes() {
+    return this.failedTlsHandshakes.sum();
+  }
+
+  /**
+   * Get the latency histogram of the successful tls handshakes.
+   *
+   * @return the latency histogram of the successful tls handshakes.
+   */
+  public @NonNull LatencyHistogram tlsHandshakeLatency() {
+    return this.tlsHandshakeLatency;
+  }
+
+  /**
+   * Get the total amount of connections that were closed because the client was idle for too long.
+   *
+   * @return the total amount of connections that were closed because the client was idle for too long.
+   */
+  public long idleTimeouts() {
+    return this.idleTimeouts.sum();
+  }
+
+  /**
+   * Get the total amount of requests that were rejected because their body exceeded the maximum content length.
+   *
+   * @return the total amount of requests that were rejected because their body exceeded the maximum content length.
+   */
+  public long oversizedRequests() {
+    return this.oversizedRequests.sum();
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.metrics;
+
+import eu.cloudnetservice.ext.rest.api.util.HostAndPort;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import lombok.NonNull;
+
+/**
+ * The metrics collected by a http component. Per route metrics are collected for each path template and method of the
+ * registered handlers, all requests that are not handled by a registered handler are collected into a single route.
+ * Network level metrics are collected for each listener of the component.
+ * Other components can register sampled metrics which are read when the metrics are exported.
+ *
+ * @since 1.0
+ */
+public final class HttpServerMetrics {
+
+  /**
+   * The path template used for all requests that were not handled by a registered handler.
+   */
+  public static final String UNMATCHED_ROUTE = "<unmatched>";
+
+  private final LongAdder activeRequests = new LongAdder();
+  private final RouteMetrics unmatchedRoute = new RouteMetrics();
+  private final Map<RouteKey, RouteMetrics> routes = new ConcurrentHashMap<>();
+  private final Map<HostAndPort, ConnectionMetrics> listeners = new ConcurrentHashMap<>();
+  private final Collection<SampledMetric> sampledMetrics = new CopyOnWriteArrayList<>();
+
+  /**
+   * Get the metrics of the route with the given http method and path template, creating them if needed.
+   *
+   * @param method       the http method of the route.
+   * @param pathTemplate the path template of the route, as registered to the handler registry.
+   * @return the metrics of the route with the given http method and path template.
+   * @throws NullPointerException if the given method or path template is null.
+   */
+  public @NonNull RouteMetrics route(@NonNull String method, @NonNull String pathTemplate) {
+    return this.routes.computeIfAbsent(new RouteKey(method, pathTemplate), key -> new RouteMetrics());
+  }
+
+  /**
+   * Get the metrics of all requests that were not handled by a registered handler.
+   *
+   * @return the metrics of all requests that were not handled by a registered handler.
+   */
+  public @NonNull RouteMetrics unmatchedRoute() {
+    return this.unmatchedRoute;
+  }
+
+  /**
+   * Get an unmodifiable view of the metrics of all routes that received at least one request.
+   *
+   * @return the metrics of all routes that received at least one request.
+   */
+  public @NonNull Map<RouteKey, RouteMetrics> routes() {
+    return Collections.unmodifiableMap(this.routes);
+  }
+
+  /**
+   * Get the network level metrics of the given listener, creating them if needed.
+   *
+   * @param listener the address of the listener.
+   * @return the network level metrics of the given listener.
+   * @throws NullPointerException if the given listener is null.
+   */
+  public @NonNull ConnectionMetrics listener(@NonNull HostAndPort listener) {
+    return this.listeners.computeIfAbsent(listener, key -> new ConnectionMetrics());
+  }
+
+  /**
+   * Get an unmodifiable view of the network level metrics of all listeners that collect them.
+   *
+   * @return the network level metrics of all listeners that collect them.
+   */
+  public @NonNull Map<HostAndPort, ConnectionMetrics> listeners() {
+    return Collections.unmodifiableMap(this.listeners);
+  }
+
+  /**
+   * Marks that the processing of a request started.
+   */
+  public void requestStarted() {
+    this.activeRequests.increment();
+  }
+
+  /**
+   * Marks that the processing of a request completed and records the request into the given route metrics.
+   *
+   * @param route         the metrics of the route that handled the request.
+   * @param statusCode    the status code that was sent to the client.
+   * @param durationNanos the duration of the request, in nanoseconds.
+   * @throws NullPointerException if the given route is null.
+   */
+  public void requestCompleted(@NonNull RouteMetrics route, int statusCode, long durationNanos) {
+    this.activeRequests.decrement();
+    route.record(statusCode, durationNanos);
+  }
+
+  /**
+   * Get the amount of requests that are currently processed.
+   *
+   * @return the amount of requests that are currently processed.
+   */
+  public long activeRequests() {
+    return this.activeRequests.sum();
+  }
+
+  /**
+   * Registers a gauge which is sampled from the given supplier when the metrics are exported.
+   *
+   * @param name     the name of the gauge.
+   * @param help     a description of the gauge.
+   * @param labels   the labels of the gauge sample.
+   * @param supplier the supplier of the current gauge value.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  public void registerGauge(
+    @NonNull String name,
+    @NonNull String help,
+    @NonNull Map<String, String> labels,
+    @NonNull LongSupplier supplier
+  ) {
+    this.sampledMetrics.add(new SampledMetric(MetricType.GAUGE, name, help, Map.copyOf(labels), supplier));
+  }
+
+  /**
+   * Registers a monotonic counter which is sampled from the given supplier when the metrics are exported.
+   *
+   * @param name     the name of the counter.
+   * @param help     a description of the counter.
+   * @param labels   the labels of the counter sample.
+   * @param supplier the supplier of the current counter value.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  public void registerCounter(
+    @NonNull String name,
+    @NonNull String help,
+    @NonNull Map<String, String> labels,
+    @NonNull LongSupplier supplier
+  ) {
+    this.sampledMetrics.add(new SampledMetric(MetricType.COUNTER, name, help, Map.copyOf(labels), supplier));
+  }
+
+  /**
+   * Get an unmodifiable view of all sampled metrics that were registered.
+   *
+   * @return all sampled metrics that were registered.
+   */
+  public @NonNull Collection<SampledMetric> sampledMetrics() {
+    return Collections.unmodifiableCollection(this.sampledMetrics);
+  }
+
+  /**
+   * The type of sampled metric.
+   *
+   * @since 1.0
+   */
+  public enum MetricType {
+
+    /**
+     * A value that can go up and down.
+     */
+    GAUGE,
+    /**
+     * A value that only increases over the lifetime of the component.
+     */
+    COUNTER,
+  }
+
+  /**
+   * The key that identifies a route.
+   *
+   * @param method       the http method of the route.
+   * @param pathTemplate the path template of the route.
+   * @since 1.0
+   */
+  public record RouteKey(@NonNull String method, @NonNull String pathTemplate) {
+
+  }
+
+  /**
+   * A metric of which the value is sampled when the metrics are exported.
+   *
+   * @param type     the type of the metric.
+   * @param name     the name of the metric.
+   * @param help     a description of the metric.
+   * @param labels   the labels of the metric sample.
+   * @param supplier the supplier of the current metric value.
+   * @since 1.0
+   */
+  public record SampledMetric(
+    @NonNull MetricType type,
+    @NonNull String name,
+    @NonNull String help,
+    @NonNull Map<String, String> labels,
+    @NonNull LongSupplier supplier
+  ) {
+
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with fixed bucket bounds. Recording a value only increments striped counters, which
+ * keeps the overhead on the request path to a minimum even under high contention.
+ *
+ * @since 1.0
+ */
+public final class LatencyHistogram {
+
+  /**
+   * The upper bounds (inclusive) of the buckets in nanoseconds. Values exceeding the last bound are counted in the
+   * overflow bucket.
+   */
+  static final long[] BUCKET_BOUNDS_NANOS = {
+    TimeUnit.MICROSECONDS.toNanos(50),
+    TimeUnit.MICROSECONDS.toNanos(100),
+    TimeUnit.MICROSECONDS.toNanos(250),
+    TimeUnit.MICROSECONDS.toNanos(500),
+    TimeUnit.MILLISECONDS.toNanos(1),
+    TimeUnit.MICROSECONDS.toNanos(2500),
+    TimeUnit.MILLISECONDS.toNanos(5),
+    TimeUnit.MILLISECONDS.toNanos(10),
+    TimeUnit.MILLISECONDS.toNanos(25),
+    TimeUnit.MILLISECONDS.toNanos(50),
+    TimeUnit.MILLISECONDS.toNanos(100),
+    TimeUnit.MILLISECONDS.toNanos(250),
+    TimeUnit.MILLISECONDS.toNanos(500),
+    TimeUnit.SECONDS.toNanos(1),
+    TimeUnit.MILLISECONDS.toNanos(2500),
+    TimeUnit.SECONDS.toNanos(5),
+    TimeUnit.SECONDS.toNanos(10),
+    TimeUnit.SECONDS.toNanos(30),
+    TimeUnit.SECONDS.toNanos(60),
+  };
+
+  private final LongAdder sumNanos = new LongAdder();
+  private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_NANOS.length + 1];
+
+  /**
+   * Constructs a new, empty latency histogram.
+   */
+  public LatencyHistogram() {
+    Arrays.setAll(this.buckets, index -> new LongAdder());
+  }
+
+  /**
+   * Records the given duration into this histogram. Negative durations are recorded as zero.
+   *
+   * @param durationNanos the duration to record, in nanoseconds.
+   */
+  public void record(long durationNanos) {
+    var duration = Math.max(0, durationNanos);
+    var index = Arrays.binarySearch(BUCKET_BOUNDS_NANOS, duration);
+    // binary search returns (-(insertion point) - 1) if the value is not exactly a bucket bound
+    this.buckets[index >= 0 ? index : -index - 1].increment();
+    this.sumNanos.add(duration);
+  }
+
+  /**
+   * Takes a snapshot of the current state of this histogram. As recording is not blocked while taking the snapshot,
+   * the snapshot might include values that were recorded concurrently only partially.
+   *
+   * @return a snapshot of the current state of this histogram.
+   */
+  public Snapshot snapshot() {
+    var counts = new long[this.buckets.length];
+    for (var index = 0; index < counts.length; index++) {
+      counts[index] = this.buckets[index].sum();
+    }
+
+    return new Snapshot(counts, this.sumNanos.sum());
+  }
+
+  /**
+   * A snapshot of the state of a latency histogram.
+   *
+   * @param bucketCounts the count of values in each bucket, the last bucket contains all values exceeding the bounds.
+   * @param sumNanos     the sum of all recorded values, in nanoseconds.
+   * @since 1.0
+   */
+  public record Snapshot(long[] bucketCounts, long sumNanos) {
+
+    /**
+     * Get the upper bounds (inclusive) of the buckets in nanoseconds, excluding the overflow bucket.
+     *
+     * @return the upper bounds of the buckets in nanoseconds.
+     */
+    public static long[] bucketBoundsNanos() {
+      return BUCKET_BOUNDS_NANOS.clone();
+    }
+
+    /**
+     * Get the total count of values recorded in the histogram.
+     *
+     * @return the total count of values recorded in the histogram.
+     */
+    public long count() {
+      return Arrays.stream(this.bucketCounts).sum();
+    }
+
+    /**
+     * Estimates the value at the given percentile by interpolating linearly in the bucket the percentile falls into.
+     * Values in the overflow bucket are estimated to be the last bucket bound.
+     *
+     * @param percentile the percentile to get the value of, between 0 and 100.
+     * @return the estimated value at the given percentile, in nanoseconds.
+     */
+    public long valueAtPercentile(double percentile) {
+      var count = this.count();
+      if (count == 0) {
+        return 0;
+      }
+
+      var rank = Math.ceil(count * Math.clamp(percentile, 0, 100) / 100D);
+      long seen = 0;
+      for (var index = 0; index < BUCKET_BOUNDS_NANOS.length; index++) {
+        var bucketCount = this.bucketCounts[index];
+        if (seen + bucketCount >= rank && bucketCount > 0) {
+          var lowerBound = index == 0 ? 0 : BUCKET_BOUNDS_NANOS[index - 1];
+          var fraction = (rank - seen) / bucketCount;
+          return lowerBound + (long) ((BUCKET_BOUNDS_NANOS[index] - lowerBound) * fraction);
+        }
+
+        seen += bucketCount;
+      }
+
+      return BUCKET_BOUNDS_NANOS[BUCKET_BOUNDS_NANOS.length - 1];
+    }
+  }
+}
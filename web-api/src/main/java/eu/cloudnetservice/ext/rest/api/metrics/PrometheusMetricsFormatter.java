@@ -0,0 +1,245 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.metrics;
+
+import eu.cloudnetservice.ext.rest.api.util.HostAndPort;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+
+/**
+ * A formatter for http server metrics into the prometheus text exposition format.
+ *
+ * @see <a href="https://prometheus.io/docs/instrumenting/exposition_formats/">Prometheus exposition formats</a>
+ * @since 1.0
+ */
+public final class PrometheusMetricsFormatter {
+
+  /**
+   * The content type of the prometheus text exposition format.
+   */
+  public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000D;
+
+  private PrometheusMetricsFormatter() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Formats the given metrics into the prometheus text exposition format.
+   *
+   * @param metrics the metrics to format.
+   * @return the given metrics in the prometheus text exposition format.
+   * @throws NullPointerException if the given metrics are null.
+   */
+  public static @NonNull String format(@NonNull HttpServerMetrics metrics) {
+    var builder = new StringBuilder(4096);
+
+    // copy the routes to ensure that all metric families see the same routes
+    Map<HttpServerMetrics.RouteKey, RouteMetrics> routes = new LinkedHashMap<>(metrics.routes());
+    routes.put(new HttpServerMetrics.RouteKey("*", HttpServerMetrics.UNMATCHED_ROUTE), metrics.unmatchedRoute());
+
+    appendHeader(builder, "http_server_requests_total", "counter", "The total amount of completed requests");
+    routes.forEach((key, route) -> {
+      for (var statusClass = 1; statusClass <= 5; statusClass++) {
+        var count = route.requestCount(statusClass);
+        if (count > 0) {
+          appendSample(builder, "http_server_requests_total", withLabel(routeLabels(key), "status", statusClass + "xx"), count);
+        }
+      }
+    });
+
+    appendHeader(builder, "http_server_request_duration_seconds", "histogram", "The duration of completed requests");
+    routes.forEach((key, route) -> appendHistogram(
+      builder,
+      "http_server_request_duration_seconds",
+      routeLabels(key),
+      route.latency().snapshot()));
+
+    appendHeader(builder, "http_server_active_requests", "gauge", "The amount of requests that are currently processed");
+    appendSample(builder, "http_server_active_requests", Map.of(), metrics.activeRequests());
+
+    appendListenerMetrics(builder, metrics.listeners());
+
+    // sampled metrics might be registered multiple times with different labels, group them by name
+    var sampledFamilies = metrics.sampledMetrics().stream().collect(Collectors.groupingBy(
+      HttpServerMetrics.SampledMetric::name,
+      LinkedHashMap::new,
+      Collectors.toList()));
+    for (var family : sampledFamilies.values()) {
+      var first = family.getFirst();
+      appendHeader(builder, first.name(), first.type().name().toLowerCase(Locale.ROOT), first.help());
+      for (var sample : family) {
+        appendSample(builder, sample.name(), sample.labels(), sample.supplier().getAsLong());
+      }
+    }
+
+    return builder.toString();
+  }
+
+  private static void appendListenerMetrics(
+    @NonNull StringBuilder builder,
+    @NonNull Map<HostAndPort, ConnectionMetrics> listeners
+  ) {
+    if (listeners.isEmpty()) {
+      return;
+    }
+
+    appendListenerFamily(builder, listeners, "http_server_connections_opened_total", "counter",
+      "The total amount of accepted connections", ConnectionMetrics::openedConnections);
+    appendListenerFamily(builder, listeners, "http_server_connections_active", "gauge",
+      "The amount of currently open connections", ConnectionMetrics::activeConnections);
+    appendListenerFamily(builder, listeners, "http_server_connections_idle_timeouts_total", "counter",
+      "The total amount of connections closed due to client inactivity", ConnectionMetrics::idleTimeouts);
+    appendListenerFamily(builder, listeners, "http_server_received_bytes_total", "counter",
+      "The total amount of bytes read from connections", ConnectionMetrics::bytesRead);
+    appendListenerFamily(builder, listeners, "http_server_sent_bytes_total", "counter",
+      "The total amount of bytes written to connections", ConnectionMetrics::bytesWritten);
+    appendListenerFamily(builder, listeners, "http_server_oversized_requests_total", "counter",
+      "The total amount of requests rejected due to an oversized body", ConnectionMetrics::oversizedRequests);
+    appendListenerFamily(builder, listeners, "http_server_tls_handshake_failures_total", "counter",
+      "The total amount of failed tls handshakes", ConnectionMetrics::failedTlsHandshakes);
+
+    appendHeader(builder, "http_server_tls_handshake_duration_seconds", "histogram", "The duration of tls handshakes");
+    listeners.forEach((listener, connections) -> appendHistogram(
+      builder,
+      "http_server_tls_handshake_duration_seconds",
+      listenerLabels(listener),
+      connections.tlsHandshakeLatency().snapshot()));
+  }
+
+  private static void appendListenerFamily(
+    @NonNull StringBuilder builder,
+    @NonNull Map<HostAndPort, ConnectionMetrics> listeners,
+    @NonNull String name,
+    @NonNull String type,
+    @NonNull String help,
+    @NonNull ToLongFunction<ConnectionMetrics> valueExtractor
+  ) {
+    appendHeader(builder, name, type, help);
+    listeners.forEach((listener, connections) -> appendSample(
+      builder,
+      name,
+      listenerLabels(listener),
+      valueExtractor.applyAsLong(connections)));
+  }
+
+  private static void appendHistogram(
+    @NonNull StringBuilder builder,
+    @NonNull String name,
+    @NonNull Map<String, String> labels,
+    @NonNull LatencyHistogram.Snapshot snapshot
+  ) {
+    var bucketName = name + "_bucket";
+    var bucketBounds = LatencyHistogram.Snapshot.bucketBoundsNanos();
+    var bucketCounts = snapshot.bucketCounts();
+
+    long cumulativeCount = 0;
+    for (var index = 0; index < bucketBounds.length; index++) {
+      cumulativeCount += bucketCounts[index];
+      var upperBound = formatDouble(bucketBounds[index] / NANOS_PER_SECOND);
+      appendSample(builder, bucketName, withLabel(labels, "le", upperBound), cumulativeCount);
+    }
+
+    cumulativeCount += bucketCounts[bucketBounds.length];
+    appendSample(builder, bucketName, withLabel(labels, "le", "+Inf"), cumulativeCount);
+    appendSample(builder, name + "_sum", labels, snapshot.sumNanos() / NANOS_PER_SECOND);
+    appendSample(builder, name + "_count", labels, cumulativeCount);
+  }
+
+  private static @NonNull Map<String, String> listenerLabels(@NonNull HostAndPort listener) {
+    return Map.of("listener", listener.toString());
+  }
+
+  private static @NonNull Map<String, String> withLabel(
+    @NonNull Map<String, String> labels,
+    @NonNull String name,
+    @NonNull String value
+  ) {
+    Map<String, String> result = new LinkedHashMap<>(labels);
+    result.put(name, value);
+    return result;
+  }
+
+  private static @NonNull Map<String, String> routeLabels(@NonNull HttpServerMetrics.RouteKey key) {
+    Map<String, String> labels = new LinkedHashMap<>();
+    labels.put("method", key.method());
+    labels.put("route", key.pathTemplate());
+    return labels;
+  }
+
+  private static void appendHeader(
+    @NonNull StringBuilder builder,
+    @NonNull String name,
+    @NonNull String type,
+    @NonNull String help
+  ) {
+    var escapedHelp = help.replace("\\", "\\\\").replace("\n", "\\n");
+    builder.append("# HELP ").append(name).append(' ').append(escapedHelp).append('\n');
+    builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+  }
+
+  private static void appendSample(
+    @NonNull StringBuilder builder,
+    @NonNull String name,
+    @NonNull Map<String, String> labels,
+    long value
+  ) {
+    appendSampleName(builder, name, labels);
+    builder.append(value).append('\n');
+  }
+
+  private static void appendSample(
+    @NonNull StringBuilder builder,
+    @NonNull String name,
+    @NonNull Map<String, String> labels,
+    double value
+  ) {
+    appendSampleName(builder, name, labels);
+    builder.append(formatDouble(value)).append('\n');
+  }
+
+  private static void appendSampleName(
+    @NonNull StringBuilder builder,
+    @NonNull String name,
+    @NonNull Map<String, String> labels
+  ) {
+    builder.append(name);
+    if (!labels.isEmpty()) {
+      var formattedLabels = labels.entrySet().stream()
+        .map(entry -> entry.getKey() + "=\"" + escapeLabelValue(entry.getValue()) + '"')
+        .toList();
+      builder.append('{').append(String.join(",", formattedLabels)).append('}');
+    }
+
+    builder.append(' ');
+  }
+
+  private static @NonNull String escapeLabelValue(@NonNull String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  private static @NonNull String formatDouble(double value) {
+    // prometheus accepts the default java representation, but strip the trailing zero of whole numbers
+    var formatted = Double.toString(value);
+    return formatted.endsWith(".0") ? formatted.substring(0, formatted.length() - 2) : formatted;
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.metrics;
+
+import com.google.common.net.HttpHeaders;
+import eu.cloudnetservice.ext.rest.api.HttpContext;
+import eu.cloudnetservice.ext.rest.api.HttpHandler;
+import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
+import eu.cloudnetservice.ext.rest.api.response.type.PlainTextResponse;
+import lombok.NonNull;
+
+/**
+ * A http handler that responds with the metrics of the http component that received the request in the prometheus
+ * text exposition format. The handler is not registered by default and can be registered to any path, for example:
+ * <pre>
+ * {@code
+ * server.handlerRegistry().registerHandler(
+ *   "/metrics",
+ *   PrometheusMetricsHandler.INSTANCE,
+ *   HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build());
+ * }
+ * </pre>
+ *
+ * @since 1.0
+ */
+public final class PrometheusMetricsHandler implements HttpHandler {
+
+  /**
+   * The jvm-static instance of this handler.
+   */
+  public static final PrometheusMetricsHandler INSTANCE = new PrometheusMetricsHandler();
+
+  private PrometheusMetricsHandler() {
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull IntoResponse<?> handle(@NonNull HttpContext context) {
+    var metrics = context.component().metrics();
+    return PlainTextResponse.builder()
+      .header(HttpHeaders.CONTENT_TYPE, PrometheusMetricsFormatter.CONTENT_TYPE)
+      .body(PrometheusMetricsFormatter.format(metrics));
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.NonNull;
+
+/**
+ * A flight recorder event emitted for each completed request, carrying the time spent in each processing stage. The
+ * event is disabled by default and must be enabled in the flight recorder settings to be recorded.
+ *
+ * @since 1.0
+ */
+@StackTrace(false)
+@Category({"CloudNet", "Rest"})
+@Label("Http Request Timing")
+@Name("eu.cloudnetservice.rest.RequestTiming")
+@Description("The time spent in each processing stage of a http request")
+public final class RequestTimingEvent extends Event {
+
+  @Label("Method")
+  String method;
+  @Label("Route")
+  String route;
+  @Label("Status")
+  int status;
+
+  @Label("Queue")
+  @Timespan(Timespan.NANOSECONDS)
+  long queue;
+  @Label("Decode")
+  @Timespan(Timespan.NANOSECONDS)
+  long decode;
+  @Label("Routing")
+  @Timespan(Timespan.NANOSECONDS)
+  long routing;
+  @Label("Authentication")
+  @Timespan(Timespan.NANOSECONDS)
+  long authentication;
+  @Label("Parameter Resolution")
+  @Timespan(Timespan.NANOSECONDS)
+  long parameters;
+  @Label("Validation")
+  @Timespan(Timespan.NANOSECONDS)
+  long validation;
+  @Label("Handler Invocation")
+  @Timespan(Timespan.NANOSECONDS)
+  long invocation;
+  @Label("Serialization")
+  @Timespan(Timespan.NANOSECONDS)
+  long serialization;
+  @Label("Write")
+  @Timespan(Timespan.NANOSECONDS)
+  long write;
+
+  /**
+   * Fills this event with the given request information and timings and commits it.
+   *
+   * @param method  the http method of the request.
+   * @param route   the path template of the route that handled the request.
+   * @param status  the status code that was sent to the client.
+   * @param timings the timings of the request.
+   * @throws NullPointerException if the given method, route or timings are null.
+   */
+  public void commit(@NonNull String method, @NonNull String route, int status, @NonNull RequestTimings timings) {
+    if (this.shouldCommit()) {
+      this.method = method;
+      this.route = route;
+      this.status = status;
+      this.queue = timings.duration(RequestTimings.Stage.QUEUE);
+      this.decode = timings.duration(RequestTimings.Stage.DECODE);
+      this.routing = timings.duration(RequestTimings.Stage.ROUTING);
+      this.authentication = timings.duration(RequestTimings.Stage.AUTHENTICATION);
+      this.parameters = timings.duration(RequestTimings.Stage.PARAMETERS);
+      this.validation = timings.duration(RequestTimings.Stage.VALIDATION);
+      this.invocation = timings.duration(RequestTimings.Stage.INVOCATION);
+      this.serialization = timings.duration(RequestTimings.Stage.SERIALIZATION);
+      this.write = timings.duration(RequestTimings.Stage.WRITE);
+      this.commit();
+    }
+  }
+}
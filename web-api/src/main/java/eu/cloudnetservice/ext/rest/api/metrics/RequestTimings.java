@@ -0,0 +1,203 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.metrics;
+
+import java.util.Locale;
+import lombok.NonNull;
+
+/**
+ * The time spent in each processing stage of a single request. Timings are only recorded if enabled for the request,
+ * in which case each stage costs two calls to {@link System#nanoTime()}. Instances of this class are bound to a single
+ * request and are not safe for concurrent use.
+ *
+ * @since 1.0
+ */
+public final class RequestTimings {
+
+  /**
+   * A jvm-static instance which does not record any timings.
+   */
+  public static final RequestTimings DISABLED = new RequestTimings(false);
+
+  private static final Stage[] STAGES = Stage.values();
+
+  private final boolean enabled;
+  private final long[] stageDurations;
+
+  private RequestTimings(boolean enabled) {
+    this.enabled = enabled;
+    this.stageDurations = enabled ? new long[STAGES.length] : null;
+  }
+
+  /**
+   * Creates a new request timings instance that records timings, or returns {@link #DISABLED} if recording is not
+   * enabled.
+   *
+   * @param enabled if timings should be recorded.
+   * @return a request timings instance, recording timings if enabled.
+   */
+  public static @NonNull RequestTimings create(boolean enabled) {
+    return enabled ? new RequestTimings(true) : DISABLED;
+  }
+
+  /**
+   * Get if timings are recorded by this instance.
+   *
+   * @return true if timings are recorded by this instance, false otherwise.
+   */
+  public boolean enabled() {
+    return this.enabled;
+  }
+
+  /**
+   * Get a timestamp marking the begin of a stage, which must be passed to {@link #end(Stage, long)} once the stage
+   * completed.
+   *
+   * @return a timestamp marking the begin of a stage, 0 if timings are not recorded.
+   */
+  public long begin() {
+    return this.enabled ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Records the time elapsed since the given begin timestamp for the given stage. If a stage is entered multiple times
+   * during a request the durations are summed up.
+   *
+   * @param stage      the stage that completed.
+   * @param beginNanos the timestamp returned by {@link #begin()} when the stage was entered.
+   * @throws NullPointerException if the given stage is null.
+   */
+  public void end(@NonNull Stage stage, long beginNanos) {
+    if (this.enabled) {
+      this.stageDurations[stage.ordinal()] += System.nanoTime() - beginNanos;
+    }
+  }
+
+  /**
+   * Records the given duration for the given stage.
+   *
+   * @param stage         the stage to record the duration for.
+   * @param durationNanos the duration of the stage, in nanoseconds.
+   * @throws NullPointerException if the given stage is null.
+   */
+  public void record(@NonNull Stage stage, long durationNanos) {
+    if (this.enabled) {
+      this.stageDurations[stage.ordinal()] += durationNanos;
+    }
+  }
+
+  /**
+   * Get the time spent in the given stage.
+   *
+   * @param stage the stage to get the duration of.
+   * @return the time spent in the given stage in nanoseconds, 0 if timings are not recorded.
+   * @throws NullPointerException if the given stage is null.
+   */
+  public long duration(@NonNull Stage stage) {
+    return this.enabled ? this.stageDurations[stage.ordinal()] : 0;
+  }
+
+  /**
+   * Formats the recorded timings into the value of a {@code Server-Timing} header. Stages in which no time was spent
+   * are omitted from the header value.
+   *
+   * @return the recorded timings formatted as {@code Server-Timing} header value, empty if there are no timings.
+   * @see <a href="https://www.w3.org/TR/server-timing/">Server Timing</a>
+   */
+  public @NonNull String toServerTimingHeader() {
+    if (!this.enabled) {
+      return "";
+    }
+
+    var builder = new StringBuilder();
+    for (var stage : STAGES) {
+      var duration = this.stageDurations[stage.ordinal()];
+      if (duration > 0) {
+        if (!builder.isEmpty()) {
+          builder.append(", ");
+        }
+
+        // durations in the server timing header are given in milliseconds
+        builder.append(stage.metricName()).append(";dur=").append(String.format(Locale.ROOT, "%.3f", duration / 1e6));
+      }
+    }
+
+    return builder.toString();
+  }
+
+  /**
+   * The stages a request goes through while being processed.
+   *
+   * @since 1.0
+   */
+  public enum Stage {
+
+    /**
+     * The time between reading the request from the connection and starting to process it.
+     */
+    QUEUE("queue"),
+    /**
+     * The time spent to parse the request into the request context.
+     */
+    DECODE("decode"),
+    /**
+     * The time spent to find the handler for the request and to apply the cors policy.
+     */
+    ROUTING("route"),
+    /**
+     * The time spent to authenticate the request. Parameter-level authentication is resolved during the parameter
+     * resolution, therefore this time is also contained in the parameter resolution time.
+     */
+    AUTHENTICATION("auth"),
+    /**
+     * The time spent to resolve the parameters of an annotated handler method.
+     */
+    PARAMETERS("params"),
+    /**
+     * The time spent to intercept (and validate) the resolved parameters of an annotated handler method.
+     */
+    VALIDATION("validate"),
+    /**
+     * The time spent in the handler.
+     */
+    INVOCATION("handler"),
+    /**
+     * The time spent to serialize the handler response into the http response.
+     */
+    SERIALIZATION("serialize"),
+    /**
+     * The time spent to write the response to the client. This stage is not included in the server timing header as
+     * the header is sent before the stage completes.
+     */
+    WRITE("write");
+
+    private final String metricName;
+
+    Stage(@NonNull String metricName) {
+      this.metricName = metricName;
+    }
+
+    /**
+     * Get the name of this stage used in the {@code Server-Timing} header.
+     *
+     * @return the name of this stage used in the {@code Server-Timing} header.
+     */
+    public @NonNull String metricName() {
+      return this.metricName;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+
+/**
+ * The metrics collected for a single route, which is identified by the http method and path template of the handler.
+ *
+ * @since 1.0
+ */
+public final class RouteMetrics {
+
+  private final LatencyHistogram latency = new LatencyHistogram();
+  private final LongAdder[] statusClassCounts = new LongAdder[5];
+
+  /**
+   * Constructs a new, empty route metrics instance.
+   */
+  public RouteMetrics() {
+    Arrays.setAll(this.statusClassCounts, index -> new LongAdder());
+  }
+
+  /**
+   * Records a completed request to this route.
+   *
+   * @param statusCode    the status code that was sent to the client.
+   * @param durationNanos the duration of the request, in nanoseconds.
+   */
+  public void record(int statusCode, long durationNanos) {
+    // clamp unusual status codes into the nearest valid status class
+    var statusClass = Math.clamp(statusCode / 100, 1, 5);
+    this.statusClassCounts[statusClass - 1].increment();
+    this.latency.record(durationNanos);
+  }
+
+  /**
+   * Get the amount of requests that completed with a status code in the given class.
+   *
+   * @param statusClass the status class to get the count of, for example 2 for all 2xx responses.
+   * @return the amount of requests that completed with a status code in the given class.
+   * @throws IllegalArgumentException if the given status class is not in the range of 1 to 5.
+   */
+  public long requestCount(int statusClass) {
+    if (statusClass < 1 || statusClass > 5) {
+      throw new IllegalArgumentException("Invalid status class " + statusClass);
+    }
+
+    return this.statusClassCounts[statusClass - 1].sum();
+  }
+
+  /**
+   * Get the latency histogram of this route.
+   *
+   * @return the latency histogram of this route.
+   */
+  public @NonNull LatencyHistogram latency() {
+    return this.latency;
+  }
+}
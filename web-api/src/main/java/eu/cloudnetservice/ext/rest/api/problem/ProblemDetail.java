@@ -21,6 +21,7 @@
 import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
 import eu.cloudnetservice.ext.rest.api.response.Response;
 import eu.cloudnetservice.ext.rest.api.response.type.JsonResponse;
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResponse;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
@@ -49,6 +50,8 @@ public final class ProblemDetail implements IntoResponse<Map<String, Object>> {
   private final HttpResponseCode status;
   private final Map<String, Object> additionalFields;
 
+  private volatile Response<Map<String, Object>> response;
+
   private ProblemDetail(
     @Nullable URI type,
     @Nullable String title,
@@ -148,6 +151,24 @@ private ProblemDetail(
     return this.additionalFields;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * As problem details are immutable, the response is encoded into json once and reused for all following calls. This
+   * makes problem details which are held in constants (for example the {@link StandardProblemDetail}s) very cheap to
+   * send.
+   */
+  @Override
+  public @NonNull Response<Map<String, Object>> intoResponse() {
+    var response = this.response;
+    if (response == null) {
+      response = StaticResponse.ofJson(this.intoResponseBuilder().build());
+      this.response = response;
+    }
+
+    return response;
+  }
+
   /**
    * {@inheritDoc}
    * <p>
@@ -36,6 +36,26 @@ public final class StandardProblemDetail {
     .detail("An internal error has occurred. For admins: check the log for details, for users: please retry later.")
     .build();
 
+  /**
+   * A problem describing that the handling of a request did not complete before the deadline of the request.
+   */
+  public static final ProblemDetail REQUEST_DEADLINE_EXCEEDED = ProblemDetail.builder()
+    .title("Request Deadline Exceeded")
+    .type(URI.create("request-deadline-exceeded"))
+    .status(HttpResponseCode.GATEWAY_TIMEOUT)
+    .detail("The request could not be handled within the allowed time. Please retry later.")
+    .build();
+
+  /**
+   * A problem describing that the bulkhead of the requested handler has no capacity left to handle the request.
+   */
+  public static final ProblemDetail BULKHEAD_SATURATED = ProblemDetail.builder()
+    .title("Bulkhead Saturated")
+    .type(URI.create("bulkhead-saturated"))
+    .status(HttpResponseCode.SERVICE_UNAVAILABLE)
+    .detail("The server is handling too many requests of this kind at the moment. Please retry later.")
+    .build();
+
   private StandardProblemDetail() {
     throw new UnsupportedOperationException();
   }
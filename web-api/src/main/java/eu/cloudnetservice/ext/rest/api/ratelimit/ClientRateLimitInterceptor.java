@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.ratelimit;
+
+import eu.cloudnetservice.ext.rest.api.HttpContext;
+import eu.cloudnetservice.ext.rest.api.HttpHandler;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerInterceptor;
+import lombok.NonNull;
+
+/**
+ * A http handler interceptor that applies a rate limit per client address. The client address is taken from the
+ * connection info of the context, therefore the configured connection info resolvers are taken into account.
+ * <p>
+ * This interceptor can be added to any handler config, for annotation based handlers the
+ * {@link eu.cloudnetservice.ext.rest.api.annotation.RateLimit} annotation can be used instead.
+ *
+ * @param rateLimiter the rate limiter to acquire the permits from.
+ * @since 1.0
+ */
+public record ClientRateLimitInterceptor(@NonNull RateLimiter rateLimiter) implements HttpHandlerInterceptor {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean preProcess(
+    @NonNull HttpContext context,
+    @NonNull HttpHandler handler,
+    @NonNull HttpHandlerConfig config
+  ) {
+    this.rateLimiter.acquireOrThrow(context.connectionInfo().clientAddress().host());
+    return true;
+  }
+}
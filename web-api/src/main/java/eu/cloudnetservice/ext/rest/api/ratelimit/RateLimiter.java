@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.ratelimit;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.net.HttpHeaders;
+import eu.cloudnetservice.ext.rest.api.HttpHandleException;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
+import eu.cloudnetservice.ext.rest.api.problem.ProblemDetail;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+
+/**
+ * A rate limiter that keeps a token bucket per key. The buckets are implemented using the generic cell rate algorithm,
+ * which allows to represent the state of a bucket in a single long that is updated lock-free.
+ * <p>
+ * The buckets are stored in a bounded map and expire once they were not accessed for a whole period, at that point the
+ * bucket would be full again anyway.
+ *
+ * @since 1.0
+ */
+public final class RateLimiter {
+
+  /**
+   * The default maximum amount of keys that are tracked by a rate limiter at the same time.
+   */
+  public static final long DEFAULT_MAX_TRACKED_KEYS = 10_000;
+
+  private static final ProblemDetail RATE_LIMIT_EXCEEDED = ProblemDetail.builder()
+    .title("Rate Limit Exceeded")
+    .type(URI.create("rate-limit-exceeded"))
+    .status(HttpResponseCode.TOO_MANY_REQUESTS)
+    .detail("Too many requests were sent in a given amount of time")
+    .build();
+
+  private final long emissionIntervalNanos;
+  private final long burstToleranceNanos;
+  private final Cache<Object, AtomicLong> buckets;
+
+  /**
+   * Constructs a new rate limiter tracking up to {@link #DEFAULT_MAX_TRACKED_KEYS} keys.
+   *
+   * @param permits the amount of permits that are available per key during the given period.
+   * @param period  the period in which the permits are refilled.
+   * @throws NullPointerException     if the given period is null.
+   * @throws IllegalArgumentException if the given permits or period are not positive.
+   */
+  public RateLimiter(long permits, @NonNull Duration period) {
+    this(permits, period, DEFAULT_MAX_TRACKED_KEYS);
+  }
+
+  /**
+   * Constructs a new rate limiter.
+   *
+   * @param permits        the amount of permits that are available per key during the given period.
+   * @param period         the period in which the permits are refilled.
+   * @param maxTrackedKeys the maximum amount of keys to track at the same time.
+   * @throws NullPointerException     if the given period is null.
+   * @throws IllegalArgumentException if the given permits, period or max tracked keys are not positive.
+   */
+  public RateLimiter(long permits, @NonNull Duration period, long maxTrackedKeys) {
+    Preconditions.checkArgument(permits > 0, "permits must be positive");
+    Preconditions.checkArgument(maxTrackedKeys > 0, "max tracked keys must be positive");
+    Preconditions.checkArgument(period.isPositive(), "period must be positive");
+
+    this.burstToleranceNanos = period.toNanos();
+    this.emissionIntervalNanos = Math.max(1, this.burstToleranceNanos / permits);
+    this.buckets = CacheBuilder.newBuilder()
+      .maximumSize(maxTrackedKeys)
+      .expireAfterAccess(period)
+      .build();
+  }
+
+  /**
+   * Tries to acquire a permit for the given key.
+   *
+   * @param key the key to acquire the permit for.
+   * @return 0 if the permit was acquired, else the nanoseconds to wait until the next permit will be available.
+   * @throws NullPointerException if the given key is null.
+   */
+  public long tryAcquire(@NonNull Object key) {
+    var now = System.nanoTime();
+    var bucket = this.buckets.asMap().computeIfAbsent(key, ignored -> new AtomicLong(now));
+    while (true) {
+      // the theoretical arrival time of the next request if the bucket would be drained at the emission rate
+      var arrivalTime = bucket.get();
+      var nextArrivalTime = Math.max(arrivalTime, now) + this.emissionIntervalNanos;
+      var waitTime = nextArrivalTime - now - this.burstToleranceNanos;
+      if (waitTime > 0) {
+        return waitTime;
+      }
+
+      if (bucket.compareAndSet(arrivalTime, nextArrivalTime)) {
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * Tries to acquire a permit for the given key, throwing an exception that responds with {@code 429 Too Many Requests}
+   * and a {@code Retry-After} header if no permit is available.
+   *
+   * @param key the key to acquire the permit for.
+   * @throws NullPointerException if the given key is null.
+   * @throws HttpHandleException  if no permit is available for the given key.
+   */
+  public void acquireOrThrow(@NonNull Object key) {
+    var waitTime = this.tryAcquire(key);
+    if (waitTime > 0) {
+      // round up, retry after must be given in whole seconds
+      var retryAfterSeconds = Long.toString(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitTime + 999_999_999L)));
+      var response = RATE_LIMIT_EXCEEDED.intoResponseBuilder().header(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+      throw new HttpHandleException(response);
+    }
+  }
+}
@@ -113,6 +113,22 @@ public DefaultHttpHandlerRegistry(@NonNull ComponentConfig componentConfig) {
       return this.rootHandlerTreeNode;
     }
 
+    return this.findHandler(PATH_PARTS_SPLITTER.splitToList(path), context);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable HttpHandlerTree<HttpPathNode> findHandler(
+    @NonNull List<String> pathSegments,
+    @NonNull HttpContext context
+  ) {
+    // check if the root handler was requested
+    if (pathSegments.isEmpty()) {
+      return this.rootHandlerTreeNode;
+    }
+
     // basically filter for two things:
     //  1. a fully matching node for the given request
     //  2. a wildcard node that is located the deepest in the tree path
@@ -125,8 +141,7 @@ public DefaultHttpHandlerRegistry(@NonNull ComponentConfig componentConfig) {
     Deque<HttpHandlerTree<HttpPathNode>> visitedNodesSinceLastConsumingNode = null;
 
     // find the best matching node for the given path based on the supplied parts
-    var pathParts = PATH_PARTS_SPLITTER.split(path);
-    for (var pathPart : pathParts) {
+    for (var pathPart : pathSegments) {
       // find a node that consumes the full path on the current best match
       var consumingNode = bestMatch.findMatchingDirectChild(CONSUMES_EVERYTHING_NODE_FILTER);
       if (consumingNode != null) {
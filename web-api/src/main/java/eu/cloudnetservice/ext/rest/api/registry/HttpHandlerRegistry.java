@@ -23,6 +23,7 @@
 import eu.cloudnetservice.ext.rest.api.tree.HttpHandlerTree;
 import eu.cloudnetservice.ext.rest.api.tree.HttpPathNode;
 import java.util.Collection;
+import java.util.List;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
@@ -61,6 +62,18 @@ public interface HttpHandlerRegistry {
    */
   @Nullable HttpHandlerTree<HttpPathNode> findHandler(@NonNull String path, @NonNull HttpContext context);
 
+  /**
+   * Searches for a http handler in the handler tree that matches the given already split and decoded request path. The
+   * root path is represented by an empty list of segments.
+   *
+   * @param pathSegments the segments of the path the handler is bound to, without leading and trailing slash.
+   * @param context      the request context to search with.
+   * @return a http handler in the handler tree that matches the given path, null if no http handler matches.
+   * @throws NullPointerException if the given path segments or context is null.
+   * @see eu.cloudnetservice.ext.rest.api.util.RequestTarget#pathSegments()
+   */
+  @Nullable HttpHandlerTree<HttpPathNode> findHandler(@NonNull List<String> pathSegments, @NonNull HttpContext context);
+
   /**
    * Registers a new http handler to this handler registry. The handler registry supports three kinds of nodes:
    * <ul>
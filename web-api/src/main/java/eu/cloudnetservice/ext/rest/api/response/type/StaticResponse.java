@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.response.type;
+
+import eu.cloudnetservice.ext.rest.api.HttpResponse;
+import eu.cloudnetservice.ext.rest.api.codec.CodecLoader;
+import eu.cloudnetservice.ext.rest.api.codec.builtin.JsonCodec;
+import eu.cloudnetservice.ext.rest.api.response.DefaultResponse;
+import eu.cloudnetservice.ext.rest.api.response.Response;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.NonNull;
+
+/**
+ * An immutable response template whose body was encoded once and is written as-is to every response the template is
+ * serialized into. Server implementations can additionally cache their own encoded form of the body (for example in a
+ * buffer that is shared between all responses) using {@link #encodedForm(Object, Function)}.
+ * <p>
+ * Static responses are meant for responses that are sent frequently without any request-specific information, for
+ * example the standard problem details. Builders obtained from a static response are builders of the response the
+ * template was created from, modifying them results in a response that is encoded again.
+ *
+ * @param <T> the generic type of the body.
+ * @see Response
+ * @since 1.0
+ */
+public final class StaticResponse<T> extends DefaultResponse<T> {
+
+  private final Response<T> source;
+  private final byte[] encodedBody;
+  private final Map<Object, Object> encodedForms = new ConcurrentHashMap<>(1);
+
+  private StaticResponse(@NonNull Response<T> source, byte @NonNull [] encodedBody) {
+    super(source.body(), source.headers(), source.responseCode());
+    this.source = source;
+    this.encodedBody = encodedBody;
+  }
+
+  /**
+   * Constructs a new static response from the given response and its already encoded body.
+   *
+   * @param response    the response to create the template from.
+   * @param encodedBody the encoded body of the given response.
+   * @return a new static response of the given response.
+   * @throws NullPointerException if the given response or encoded body is null.
+   */
+  public static <T> @NonNull StaticResponse<T> of(@NonNull Response<T> response, byte @NonNull [] encodedBody) {
+    return new StaticResponse<>(response, encodedBody.clone());
+  }
+
+  /**
+   * Constructs a new static response from the given response, encoding the body of it using the {@link JsonCodec}.
+   *
+   * @param response the response to create the template from.
+   * @return a new static response of the given response.
+   * @throws NullPointerException if the given response is null.
+   */
+  public static <T> @NonNull StaticResponse<T> ofJson(@NonNull Response<T> response) {
+    var body = response.body();
+    if (body == null) {
+      return new StaticResponse<>(response, new byte[0]);
+    }
+
+    var codec = CodecLoader.resolveCodec(JsonCodec.class);
+    return new StaticResponse<>(response, codec.serialize(body.getClass(), body).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Gets a copy of the encoded body of this response.
+   *
+   * @return a copy of the encoded body of this response.
+   */
+  public byte @NonNull [] encodedBody() {
+    return this.encodedBody.clone();
+  }
+
+  /**
+   * Gets the length of the encoded body of this response in bytes.
+   *
+   * @return the length of the encoded body of this response.
+   */
+  public int encodedBodyLength() {
+    return this.encodedBody.length;
+  }
+
+  /**
+   * Gets an implementation specific encoded form of the body of this response. The form is computed once per key using
+   * the given encoder and reused for all following calls with the same key.
+   *
+   * @param key     the key to identify the encoded form with, usually the class of the implementation.
+   * @param encoder the encoder to compute the encoded form from a copy of the encoded body.
+   * @param <E>     the type of the encoded form.
+   * @return the encoded form of the body of this response.
+   * @throws NullPointerException if the given key or encoder is null.
+   */
+  @SuppressWarnings("unchecked")
+  public <E> @NonNull E encodedForm(@NonNull Object key, @NonNull Function<byte[], E> encoder) {
+    return (E) this.encodedForms.computeIfAbsent(key, ignored -> encoder.apply(this.encodedBody.clone()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void serializeIntoResponse(@NonNull HttpResponse response) {
+    response.status(this.responseCode);
+    response.headers().add(this.httpHeaderMap);
+
+    if (this.encodedBody.length > 0) {
+      response.body(this);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void serializeBody(@NonNull HttpResponse response, @NonNull T body) {
+    response.body(this);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Response.Builder<T, ?> intoResponseBuilder() {
+    return this.source.intoResponseBuilder();
+  }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The parsed request target of a http request. The target is scanned once to find the boundaries of the path and
+ * query. The path segments are decoded eagerly as they are needed to route every request. The full path and the query
+ * parameters are only decoded on first access, since most handlers never read them.
+ * <p>
+ * The request target can be given in origin form ({@code /path?query}), absolute form
+ * ({@code http://host/path?query}) or asterisk form ({@code *}). Opaque targets ({@code mailto:info}) are rejected.
+ *
+ * @since 1.0
+ */
+public final class RequestTarget {
+
+  public static final int MAX_QUERY_PARAMETERS = 1024;
+
+  private final String target;
+  private final int pathStart;
+  private final int pathEnd;
+  private final int queryStart;
+  private final int queryEnd;
+  private final boolean pathEncoded;
+  private final List<String> pathSegments;
+
+  private volatile String path;
+  private volatile Map<String, List<String>> queryParameters;
+
+  private RequestTarget(
+    @NonNull String target,
+    int pathStart,
+    int pathEnd,
+    int queryStart,
+    int queryEnd,
+    boolean pathEncoded,
+    @NonNull List<String> pathSegments
+  ) {
+    this.target = target;
+    this.pathStart = pathStart;
+    this.pathEnd = pathEnd;
+    this.queryStart = queryStart;
+    this.queryEnd = queryEnd;
+    this.pathEncoded = pathEncoded;
+    this.pathSegments = pathSegments;
+  }
+
+  /**
+   * Parses the given request target.
+   *
+   * @param target the request target to parse, as given in the request line.
+   * @return the parsed request target.
+   * @throws NullPointerException     if the given target is null.
+   * @throws IllegalArgumentException if the given target is opaque or contains an invalid escape sequence in its path.
+   */
+  public static @NonNull RequestTarget parse(@NonNull String target) {
+    var length = target.length();
+    var pathStart = 0;
+
+    // skip the scheme and authority of targets in absolute form, the path starts at the first slash after them
+    if (length > 0 && target.charAt(0) != '/') {
+      var schemeEnd = findSchemeEnd(target);
+      if (schemeEnd != -1) {
+        if (schemeEnd + 1 >= length || target.charAt(schemeEnd + 1) != '/') {
+          throw new IllegalArgumentException("Opaque request target: " + target);
+        }
+
+        if (schemeEnd + 2 < length && target.charAt(schemeEnd + 2) == '/') {
+          pathStart = schemeEnd + 3;
+          while (pathStart < length && !isPathTerminator(target.charAt(pathStart)) && target.charAt(pathStart) != '/') {
+            pathStart++;
+          }
+        } else {
+          pathStart = schemeEnd + 1;
+        }
+      }
+    }
+
+    // find the end of the path and the boundaries of the query in the same pass
+    var pathEnd = pathStart;
+    var pathEncoded = false;
+    while (pathEnd < length && !isPathTerminator(target.charAt(pathEnd))) {
+      pathEncoded |= target.charAt(pathEnd) == '%';
+      pathEnd++;
+    }
+
+    var queryStart = -1;
+    var queryEnd = -1;
+    if (pathEnd < length && target.charAt(pathEnd) == '?') {
+      queryStart = pathEnd + 1;
+      queryEnd = target.indexOf('#', queryStart);
+      if (queryEnd == -1) {
+        queryEnd = length;
+      }
+    }
+
+    var pathSegments = splitPathSegments(target, pathStart, pathEnd, pathEncoded);
+    return new RequestTarget(target, pathStart, pathEnd, queryStart, queryEnd, pathEncoded, pathSegments);
+  }
+
+  private static int findSchemeEnd(@NonNull String target) {
+    for (var index = 0; index < target.length(); index++) {
+      var c = target.charAt(index);
+      if (c == ':') {
+        return index == 0 ? -1 : index;
+      }
+
+      // a scheme consists of letters, digits, '+', '-' and '.'
+      if (!Character.isLetterOrDigit(c) && c != '+' && c != '-' && c != '.') {
+        return -1;
+      }
+    }
+
+    return -1;
+  }
+
+  private static boolean isPathTerminator(char c) {
+    return c == '?' || c == '#';
+  }
+
+  private static @NonNull List<String> splitPathSegments(
+    @NonNull String target,
+    int pathStart,
+    int pathEnd,
+    boolean pathEncoded
+  ) {
+    // remove a single leading and trailing slash, as done by the handler registry
+    var start = pathStart;
+    var end = pathEnd;
+    if (start < end && target.charAt(start) == '/') {
+      start++;
+    }
+    if (start < end && target.charAt(end - 1) == '/') {
+      end--;
+    }
+
+    // the root path has no segments
+    if (start >= end || (end - start == 1 && target.charAt(start) == '/') || target.substring(start, end).isBlank()) {
+      return List.of();
+    }
+
+    List<String> segments = new ArrayList<>();
+    var segmentStart = start;
+    for (var index = start; index <= end; index++) {
+      if (index == end || target.charAt(index) == '/') {
+        var segment = target.substring(segmentStart, index);
+        segments.add(pathEncoded ? decodePathComponent(segment) : segment);
+        segmentStart = index + 1;
+      }
+    }
+
+    return Collections.unmodifiableList(segments);
+  }
+
+  /**
+   * Get the request target as given in the request line.
+   *
+   * @return the request target as given in the request line.
+   */
+  public @NonNull String target() {
+    return this.target;
+  }
+
+  /**
+   * Get the decoded path of the request target, for example {@code /api/v3/service}.
+   *
+   * @return the decoded path of the request target.
+   */
+  public @NonNull String path() {
+    var path = this.path;
+    if (path == null) {
+      var rawPath = this.target.substring(this.pathStart, this.pathEnd);
+      this.path = path = this.pathEncoded ? decodePathComponent(rawPath) : rawPath;
+    }
+
+    return path;
+  }
+
+  /**
+   * Get the decoded segments of the path, without the leading and trailing slash. The root path has no segments. A
+   * segment can contain a slash if it was sent in its encoded form ({@code %2F}).
+   *
+   * @return the decoded segments of the path.
+   */
+  public @NonNull List<String> pathSegments() {
+    return this.pathSegments;
+  }
+
+  /**
+   * Get the raw query of the request target, without the leading question mark.
+   *
+   * @return the raw query of the request target, null if the target has no query.
+   */
+  public @Nullable String rawQuery() {
+    return this.queryStart == -1 ? null : this.target.substring(this.queryStart, this.queryEnd);
+  }
+
+  /**
+   * Get the decoded query parameters of the request target. Parameters are separated by {@code &} or {@code ;}, a
+   * {@code +} is decoded as a space and a parameter without a value has an empty value. Invalid escape sequences are
+   * kept as-is. At most {@link #MAX_QUERY_PARAMETERS} parameters are decoded.
+   *
+   * @return the decoded query parameters of the request target, in the order they were given.
+   */
+  public @NonNull Map<String, List<String>> queryParameters() {
+    var queryParameters = this.queryParameters;
+    if (queryParameters == null) {
+      this.queryParameters = queryParameters = this.decodeQueryParameters();
+    }
+
+    return queryParameters;
+  }
+
+  private @NonNull Map<String, List<String>> decodeQueryParameters() {
+    if (this.queryStart == -1 || this.queryStart == this.queryEnd) {
+      return Map.of();
+    }
+
+    Map<String, List<String>> parameters = new LinkedHashMap<>();
+    var parameterStart = this.queryStart;
+    var valueStart = -1;
+    for (var index = this.queryStart; index <= this.queryEnd && parameters.size() < MAX_QUERY_PARAMETERS; index++) {
+      var c = index == this.queryEnd ? '&' : this.target.charAt(index);
+      if (c == '=' && valueStart == -1) {
+        valueStart = index + 1;
+      } else if (c == '&' || c == ';') {
+        var nameEnd = valueStart == -1 ? index : valueStart - 1;
+        if (nameEnd > parameterStart) {
+          var name = decodeQueryComponent(this.target, parameterStart, nameEnd);
+          var value = valueStart == -1 ? "" : decodeQueryComponent(this.target, valueStart, index);
+          parameters.computeIfAbsent(name, ignored -> new ArrayList<>(1)).add(value);
+        }
+
+        parameterStart = index + 1;
+        valueStart = -1;
+      }
+    }
+
+    return parameters;
+  }
+
+  private static @NonNull String decodePathComponent(@NonNull String component) {
+    var bytes = new ByteArrayOutputStream(component.length());
+    var builder = new StringBuilder(component.length());
+    for (var index = 0; index < component.length(); index++) {
+      var c = component.charAt(index);
+      if (c == '%') {
+        // collect all consecutive escaped bytes, they might form a single multibyte character
+        while (index < component.length() && component.charAt(index) == '%') {
+          var decoded = decodeEscape(component, index);
+          if (decoded == -1) {
+            throw new IllegalArgumentException("Invalid escape sequence in path: " + component);
+          }
+
+          bytes.write(decoded);
+          index += 3;
+        }
+
+        builder.append(bytes.toString(StandardCharsets.UTF_8));
+        bytes.reset();
+        index--;
+      } else {
+        builder.append(c);
+      }
+    }
+
+    return builder.toString();
+  }
+
+  private static @NonNull String decodeQueryComponent(@NonNull String target, int start, int end) {
+    // fast path: nothing to decode
+    var needsDecoding = false;
+    for (var index = start; index < end && !needsDecoding; index++) {
+      var c = target.charAt(index);
+      needsDecoding = c == '%' || c == '+';
+    }
+    if (!needsDecoding) {
+      return target.substring(start, end);
+    }
+
+    var bytes = new ByteArrayOutputStream(end - start);
+    var builder = new StringBuilder(end - start);
+    for (var index = start; index < end; index++) {
+      var c = target.charAt(index);
+      var decoded = c == '%' && index + 2 < end ? decodeEscape(target, index) : -1;
+      if (decoded != -1) {
+        // collect the escaped bytes, they might form a single multibyte character
+        bytes.write(decoded);
+        index += 2;
+        continue;
+      }
+
+      if (bytes.size() > 0) {
+        builder.append(bytes.toString(StandardCharsets.UTF_8));
+        bytes.reset();
+      }
+      builder.append(c == '+' ? ' ' : c);
+    }
+
+    if (bytes.size() > 0) {
+      builder.append(bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    return builder.toString();
+  }
+
+  private static int decodeEscape(@NonNull String input, int percentIndex) {
+    if (percentIndex + 2 >= input.length()) {
+      return -1;
+    }
+
+    var high = Character.digit(input.charAt(percentIndex + 1), 16);
+    var low = Character.digit(input.charAt(percentIndex + 2), 16);
+    return high == -1 || low == -1 ? -1 : (high << 4) | low;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.accesslog;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class AccessLogTest {
+
+  private static AccessLogEntry entry(int status) {
+    return new AccessLogEntry("GET", "/api/v3/node", status, 42, Duration.ofMillis(2).toNanos(), "admin", "127.0.0.1");
+  }
+
+  @Test
+  public void testRingBufferCapacity() {
+    var buffer = new MpscRingBuffer<Integer>(3);
+    Assertions.assertEquals(4, buffer.capacity());
+    Assertions.assertTrue(buffer.isEmpty());
+
+    for (var index = 0; index < 4; index++) {
+      Assertions.assertTrue(buffer.offer(index));
+    }
+
+    Assertions.assertFalse(buffer.offer(4));
+    Assertions.assertEquals(0, buffer.poll());
+    Assertions.assertTrue(buffer.offer(4));
+
+    for (var index = 1; index <= 4; index++) {
+      Assertions.assertEquals(index, buffer.poll());
+    }
+
+    Assertions.assertNull(buffer.poll());
+  }
+
+  @Test
+  public void testEntriesAreWrittenInBackground() throws InterruptedException {
+    List<AccessLogEntry> written = new CopyOnWriteArrayList<>();
+    var latch = new CountDownLatch(3);
+    try (var accessLog = new AccessLog(16, entry -> {
+      written.add(entry);
+      latch.countDown();
+    })) {
+      Assertions.assertTrue(accessLog.log(entry(200)));
+      Assertions.assertTrue(accessLog.log(entry(404)));
+      Assertions.assertTrue(accessLog.log(entry(500)));
+      Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+      Assertions.assertEquals(0, accessLog.droppedEntries());
+    }
+
+    Assertions.assertEquals(List.of(200, 404, 500), written.stream().map(AccessLogEntry::status).toList());
+  }
+
+  @Test
+  public void testEntriesAreDroppedWhenFull() throws InterruptedException {
+    var writerBlocked = new CountDownLatch(1);
+    var releaseWriter = new CountDownLatch(1);
+    try (var accessLog = new AccessLog(1, entry -> {
+      writerBlocked.countDown();
+      try {
+        releaseWriter.await();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+    })) {
+      // wait until the writer took the first entry and is blocked, then fill the buffer
+      Assertions.assertTrue(accessLog.log(entry(200)));
+      Assertions.assertTrue(writerBlocked.await(5, TimeUnit.SECONDS));
+      Assertions.assertTrue(accessLog.log(entry(200)));
+      Assertions.assertFalse(accessLog.log(entry(200)));
+      Assertions.assertEquals(1, accessLog.droppedEntries());
+      releaseWriter.countDown();
+    }
+  }
+
+  @Test
+  public void testFormat() {
+    var formatted = Slf4jAccessLogWriter.format(
+      new AccessLogEntry("POST", "/api/v3/user/{id}", 201, -1, 1_500_000, "my user", "10.0.0.1"));
+    Assertions.assertEquals(
+      "client=10.0.0.1 user=\"my user\" method=POST route=/api/v3/user/{id} status=201 bytes=- duration_ms=1.500",
+      formatted);
+  }
+}
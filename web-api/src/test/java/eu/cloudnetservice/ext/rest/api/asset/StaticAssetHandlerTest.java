@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.asset;
+
+import com.google.common.net.HttpHeaders;
+import eu.cloudnetservice.ext.rest.api.HttpRequest;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
+import eu.cloudnetservice.ext.rest.api.header.HttpHeaderMap;
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+public final class StaticAssetHandlerTest {
+
+  private static final String SCRIPT = "function swagger() { return 'swagger'; }\n".repeat(64);
+
+  private static HttpRequest mockRequest(HttpHeaderMap headers) {
+    var request = Mockito.mock(HttpRequest.class);
+    Mockito.when(request.headers()).thenReturn(headers);
+    return request;
+  }
+
+  private static StaticAssetHandler setupHandler(Path directory) throws IOException {
+    Files.writeString(directory.resolve("swagger.js"), SCRIPT);
+    Files.write(directory.resolve("logo.png"), new byte[]{(byte) 0x89, 'P', 'N', 'G'});
+    Files.createDirectories(directory.resolve("nested"));
+    return StaticAssetHandler.builder().directory(directory).routePrefix("/docs/").cacheControl("max-age=60").build();
+  }
+
+  @Test
+  public void testAssetsAreLoadedOnce(@TempDir Path directory) throws IOException {
+    var handler = setupHandler(directory);
+    var asset = handler.asset("swagger.js");
+    Assertions.assertNotNull(asset);
+    Assertions.assertEquals("text/javascript; charset=utf-8", asset.contentType());
+    Assertions.assertEquals(SCRIPT.length(), asset.size());
+
+    // changes are not picked up once an asset was loaded
+    Files.writeString(directory.resolve("swagger.js"), "changed");
+    Assertions.assertSame(asset, handler.asset("/swagger.js"));
+  }
+
+  @Test
+  public void testRejectsInvalidPaths(@TempDir Path directory) throws IOException {
+    var handler = setupHandler(directory);
+    Assertions.assertNull(handler.asset("../swagger.js"));
+    Assertions.assertNull(handler.asset("nested/../swagger.js"));
+    Assertions.assertNull(handler.asset("nested"));
+    Assertions.assertNull(handler.asset("nested/"));
+    Assertions.assertNull(handler.asset(""));
+    Assertions.assertNull(handler.asset("missing.js"));
+  }
+
+  @Test
+  public void testServesGzipVariantIfAccepted(@TempDir Path directory) throws IOException {
+    var asset = setupHandler(directory).asset("swagger.js");
+    Assertions.assertNotNull(asset);
+
+    var gzipRequest = mockRequest(HttpHeaderMap.newHeaderMap().set(HttpHeaders.ACCEPT_ENCODING, "br, gzip"));
+    var gzipResponse = (StaticResponse<?>) asset.responseFor(gzipRequest);
+    Assertions.assertEquals("gzip", gzipResponse.headers().firstValue(HttpHeaders.CONTENT_ENCODING));
+    Assertions.assertEquals("max-age=60", gzipResponse.headers().firstValue(HttpHeaders.CACHE_CONTROL));
+    Assertions.assertTrue(gzipResponse.encodedBodyLength() < SCRIPT.length());
+    try (var stream = new GZIPInputStream(new ByteArrayInputStream(gzipResponse.encodedBody()))) {
+      Assertions.assertEquals(SCRIPT, new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    var identityRequest = mockRequest(HttpHeaderMap.newHeaderMap().set(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"));
+    var identityResponse = asset.responseFor(identityRequest);
+    Assertions.assertNull(identityResponse.headers().firstValue(HttpHeaders.CONTENT_ENCODING));
+    Assertions.assertEquals(asset.eTag(), identityResponse.headers().firstValue(HttpHeaders.ETAG));
+    Assertions.assertNotEquals(asset.eTag(), gzipResponse.headers().firstValue(HttpHeaders.ETAG));
+  }
+
+  @Test
+  public void testIncompressibleAssetsHaveNoGzipVariant(@TempDir Path directory) throws IOException {
+    var asset = setupHandler(directory).asset("logo.png");
+    Assertions.assertNotNull(asset);
+    Assertions.assertEquals("image/png", asset.contentType());
+
+    var request = mockRequest(HttpHeaderMap.newHeaderMap().set(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+    Assertions.assertNull(asset.responseFor(request).headers().firstValue(HttpHeaders.CONTENT_ENCODING));
+  }
+
+  @Test
+  public void testAnswersConditionalRequests(@TempDir Path directory) throws IOException {
+    var asset = setupHandler(directory).asset("swagger.js");
+    Assertions.assertNotNull(asset);
+
+    var request = mockRequest(HttpHeaderMap.newHeaderMap().set(HttpHeaders.IF_NONE_MATCH, asset.eTag()));
+    var response = asset.responseFor(request);
+    Assertions.assertEquals(HttpResponseCode.NOT_MODIFIED, response.responseCode());
+    Assertions.assertEquals(asset.eTag(), response.headers().firstValue(HttpHeaders.ETAG));
+    Assertions.assertFalse(response.headers().contains(HttpHeaders.CONTENT_TYPE));
+  }
+}
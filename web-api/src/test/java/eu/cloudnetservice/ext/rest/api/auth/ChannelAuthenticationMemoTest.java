@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.auth;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public final class ChannelAuthenticationMemoTest {
+
+  @Test
+  public void testAuthenticationIsReused() {
+    var userId = UUID.randomUUID();
+    var user = Mockito.mock(RestUser.class);
+    Mockito.when(user.id()).thenReturn(userId);
+
+    var management = Mockito.mock(RestUserManagement.class);
+    Mockito.when(management.restUser(userId)).thenReturn(user);
+
+    var provider = Mockito.mock(AuthProvider.class);
+    var otherProvider = Mockito.mock(AuthProvider.class);
+
+    var memo = new ChannelAuthenticationMemo();
+    memo.remember("Bearer token", provider, user, management, Instant.now().plus(Duration.ofHours(1)));
+
+    Assertions.assertSame(user, memo.lookup("Bearer token", List.of(provider), management));
+    Assertions.assertNull(memo.lookup("Bearer other", List.of(provider), management));
+    Assertions.assertNull(memo.lookup("Bearer token", List.of(otherProvider), management));
+  }
+
+  @Test
+  public void testChangedUserInvalidatesMemo() {
+    var userId = UUID.randomUUID();
+    var user = Mockito.mock(RestUser.class);
+    Mockito.when(user.id()).thenReturn(userId);
+
+    var management = Mockito.mock(RestUserManagement.class);
+    Mockito.when(management.restUser(userId)).thenReturn(user);
+
+    var provider = Mockito.mock(AuthProvider.class);
+    var memo = new ChannelAuthenticationMemo();
+    memo.remember("Bearer token", provider, user, management, Instant.MAX);
+    Assertions.assertSame(user, memo.lookup("Bearer token", List.of(provider), management));
+
+    // the user management now returns a new user instance, e.g. after the cache entry was invalidated
+    Mockito.when(management.restUser(userId)).thenReturn(Mockito.mock(RestUser.class));
+    Assertions.assertNull(memo.lookup("Bearer token", List.of(provider), management));
+  }
+
+  @Test
+  public void testExpiredCredentialsAreNotRemembered() {
+    var userId = UUID.randomUUID();
+    var user = Mockito.mock(RestUser.class);
+    Mockito.when(user.id()).thenReturn(userId);
+
+    var management = Mockito.mock(RestUserManagement.class);
+    Mockito.when(management.restUser(userId)).thenReturn(user);
+
+    var provider = Mockito.mock(AuthProvider.class);
+    var memo = new ChannelAuthenticationMemo();
+    memo.remember("Bearer token", provider, user, management, Instant.now().minusSeconds(1));
+    Assertions.assertNull(memo.lookup("Bearer token", List.of(provider), management));
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.auth;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public final class ScopeSetTest {
+
+  @Test
+  public void testScopesAreInternedLowerCase() {
+    var scopeSet = ScopeSet.of("Test:Scope", "test:other");
+
+    Assertions.assertEquals(2, scopeSet.size());
+    Assertions.assertTrue(scopeSet.contains("test:scope"));
+    Assertions.assertTrue(scopeSet.contains("TEST:SCOPE"));
+    Assertions.assertFalse(scopeSet.contains("test:unknown"));
+    Assertions.assertEquals(Set.of("test:scope", "test:other"), scopeSet);
+    Assertions.assertEquals(ScopeRegistry.intern("test:scope"), ScopeRegistry.indexOf("Test:Scope"));
+  }
+
+  @Test
+  public void testIntersection() {
+    var first = ScopeSet.of("test:first", "test:second");
+    var second = ScopeSet.of(List.of("test:second", "test:third"));
+
+    Assertions.assertTrue(first.intersects(second));
+    Assertions.assertFalse(first.intersects(ScopeSet.of("test:third")));
+    Assertions.assertFalse(first.intersects(ScopeSet.EMPTY));
+    Assertions.assertEquals(Set.of("test:second"), first.intersection(second));
+  }
+
+  @Test
+  public void testScopeSetIsReused() {
+    var scopeSet = ScopeSet.of("test:scope");
+
+    Assertions.assertSame(scopeSet, ScopeSet.of(scopeSet));
+    Assertions.assertSame(ScopeSet.EMPTY, ScopeSet.of(Set.of()));
+  }
+
+  @Test
+  public void testScopedUserDelegate() {
+    var user = Mockito.mock(RestUser.class);
+    Mockito.when(user.hasOneScopeOf(Mockito.anySet())).thenCallRealMethod();
+    Mockito.when(user.hasScope(Mockito.anyString())).thenReturn(false);
+    Mockito.when(user.hasScope("test:first")).thenReturn(true);
+    Mockito.when(user.hasScope("test:second")).thenReturn(true);
+
+    var unscopedUser = new ScopedRestUserDelegate(user, ScopeSet.EMPTY);
+    Assertions.assertTrue(unscopedUser.hasOneScopeOf(ScopeSet.of("test:first", "test:third")));
+    Assertions.assertFalse(unscopedUser.hasOneScopeOf(ScopeSet.of("test:third")));
+
+    var scopedUser = new ScopedRestUserDelegate(user, ScopeSet.of("test:second", "test:third"));
+    Assertions.assertTrue(scopedUser.hasOneScopeOf(ScopeSet.of()));
+    Assertions.assertTrue(scopedUser.hasOneScopeOf(ScopeSet.of("test:second")));
+    Assertions.assertFalse(scopedUser.hasOneScopeOf(ScopeSet.of("test:first")));
+    Assertions.assertFalse(scopedUser.hasOneScopeOf(ScopeSet.of("test:third")));
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.cache;
+
+import eu.cloudnetservice.ext.rest.api.HttpHandler;
+import eu.cloudnetservice.ext.rest.api.HttpMethod;
+import eu.cloudnetservice.ext.rest.api.HttpResponse;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
+import eu.cloudnetservice.ext.rest.api.response.type.PlainTextResponse;
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public final class CoalescingInterceptorTest {
+
+  private static final HttpHandlerConfig CONFIG = HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build();
+
+  private static void awaitFlight(RequestCoalescer coalescer, CompletableFuture<?> follower) throws Exception {
+    // give the follower some time to join the flight, it must not complete on its own
+    Thread.sleep(100);
+    Assertions.assertFalse(follower.isDone());
+    Assertions.assertEquals(1, coalescer.inFlightCount());
+  }
+
+  @Test
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  public void testIdenticalRequestsShareResponse() throws Exception {
+    var coalescer = new RequestCoalescer();
+    var interceptor = new CoalescingInterceptor(coalescer, false);
+    var handler = Mockito.mock(HttpHandler.class);
+
+    var body = "services".getBytes(StandardCharsets.UTF_8);
+    var leaderResponse = SharedResponseMockUtil.mockResponse(body);
+    var leaderContext = SharedResponseMockUtil.mockContext("/api/v3/service?a=1&b=2", leaderResponse);
+    Assertions.assertTrue(interceptor.preProcess(leaderContext, handler, CONFIG));
+
+    // the follower uses a different parameter order but is the same request
+    var followerResponse = SharedResponseMockUtil.mockResponse(null);
+    var followerContext = SharedResponseMockUtil.mockContext("/api/v3/service?b=2&a=1", followerResponse);
+    var follower = CompletableFuture.supplyAsync(() -> {
+      try {
+        return interceptor.preProcess(followerContext, handler, CONFIG);
+      } catch (Exception exception) {
+        throw new RuntimeException(exception);
+      }
+    });
+    awaitFlight(coalescer, follower);
+
+    var response = PlainTextResponse.builder().body("services").build();
+    Assertions.assertFalse(interceptor.postProcess(leaderContext, handler, CONFIG, response));
+    interceptor.afterCompletion(leaderContext, handler, CONFIG);
+
+    // the follower is answered with the response of the leader without invoking the handler
+    Assertions.assertFalse(follower.get());
+    Mockito.verify(followerResponse).status(HttpResponseCode.OK);
+    Mockito.verify(followerResponse).body(ArgumentMatchers.<StaticResponse<?>>any());
+    Assertions.assertEquals(0, coalescer.inFlightCount());
+  }
+
+  @Test
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  public void testFailedLeaderReleasesFollowers() throws Exception {
+    var coalescer = new RequestCoalescer();
+    var interceptor = new CoalescingInterceptor(coalescer, false);
+    var handler = Mockito.mock(HttpHandler.class);
+
+    var leaderContext = SharedResponseMockUtil.mockContext("/api/v3/cluster", Mockito.mock(HttpResponse.class));
+    Assertions.assertTrue(interceptor.preProcess(leaderContext, handler, CONFIG));
+
+    var followerContext = SharedResponseMockUtil.mockContext("/api/v3/cluster", Mockito.mock(HttpResponse.class));
+    var follower = CompletableFuture.supplyAsync(() -> {
+      try {
+        return interceptor.preProcess(followerContext, handler, CONFIG);
+      } catch (Exception exception) {
+        throw new RuntimeException(exception);
+      }
+    });
+    awaitFlight(coalescer, follower);
+
+    // the handler of the leader threw an exception, the follower must invoke the handler itself
+    interceptor.afterCompletion(leaderContext, handler, CONFIG);
+    Assertions.assertTrue(follower.get());
+    Assertions.assertEquals(0, coalescer.inFlightCount());
+  }
+
+  @Test
+  public void testDifferentRequestsAreNotCoalesced() throws Exception {
+    var coalescer = new RequestCoalescer();
+    var interceptor = new CoalescingInterceptor(coalescer, false);
+    var handler = Mockito.mock(HttpHandler.class);
+
+    var first = SharedResponseMockUtil.mockContext("/api/v3/service?a=1", SharedResponseMockUtil.mockResponse(null));
+    var second = SharedResponseMockUtil.mockContext("/api/v3/service?a=2", SharedResponseMockUtil.mockResponse(null));
+    Assertions.assertTrue(interceptor.preProcess(first, handler, CONFIG));
+    Assertions.assertTrue(interceptor.preProcess(second, handler, CONFIG));
+    Assertions.assertEquals(2, coalescer.inFlightCount());
+
+    interceptor.afterCompletion(first, handler, CONFIG);
+    interceptor.afterCompletion(second, handler, CONFIG);
+    Assertions.assertEquals(0, coalescer.inFlightCount());
+  }
+
+  @Test
+  public void testEncodedSeparatorsInPathDoNotCollide() {
+    var query = SharedResponseMockUtil.mockContext("/api/v3/service/a?b=1", SharedResponseMockUtil.mockResponse(null));
+    var path = SharedResponseMockUtil.mockContext("/api/v3/service/a", SharedResponseMockUtil.mockResponse(null));
+
+    // the path parameter was sent as "a%3Fb=1" and is decoded in the path
+    Mockito.when(path.request().path()).thenReturn("/api/v3/service/a?b=1");
+    Assertions.assertNotEquals(
+      SharedResponses.requestKey(query, true, true),
+      SharedResponses.requestKey(path, true, true));
+  }
+}
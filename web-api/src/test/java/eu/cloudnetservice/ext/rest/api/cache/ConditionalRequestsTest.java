@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.cache;
+
+import com.google.common.net.HttpHeaders;
+import eu.cloudnetservice.ext.rest.api.HttpContext;
+import eu.cloudnetservice.ext.rest.api.HttpRequest;
+import eu.cloudnetservice.ext.rest.api.HttpResponse;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
+import eu.cloudnetservice.ext.rest.api.header.HttpHeaderMap;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public final class ConditionalRequestsTest {
+
+  private static HttpRequest mockRequest(HttpHeaderMap headers) {
+    var request = Mockito.mock(HttpRequest.class);
+    Mockito.when(request.headers()).thenReturn(headers);
+    return request;
+  }
+
+  @Test
+  public void testETagIsStableAndStrong() {
+    var first = ConditionalRequests.computeETag("groups".getBytes(StandardCharsets.UTF_8));
+    var second = ConditionalRequests.computeETag("groups".getBytes(StandardCharsets.UTF_8));
+    var other = ConditionalRequests.computeETag("tasks".getBytes(StandardCharsets.UTF_8));
+
+    Assertions.assertEquals(first, second);
+    Assertions.assertNotEquals(first, other);
+    Assertions.assertTrue(first.startsWith("\"") && first.endsWith("\""));
+  }
+
+  @Test
+  public void testIfNoneMatch() {
+    var responseHeaders = HttpHeaderMap.newHeaderMap().set(HttpHeaders.ETAG, "\"abc\"");
+
+    var matching = HttpHeaderMap.newHeaderMap().set(HttpHeaders.IF_NONE_MATCH, "\"xyz\", W/\"abc\"");
+    Assertions.assertTrue(ConditionalRequests.notModified(mockRequest(matching), responseHeaders));
+
+    var wildcard = HttpHeaderMap.newHeaderMap().set(HttpHeaders.IF_NONE_MATCH, "*");
+    Assertions.assertTrue(ConditionalRequests.notModified(mockRequest(wildcard), responseHeaders));
+
+    var mismatching = HttpHeaderMap.newHeaderMap().set(HttpHeaders.IF_NONE_MATCH, "\"xyz\"");
+    Assertions.assertFalse(ConditionalRequests.notModified(mockRequest(mismatching), responseHeaders));
+  }
+
+  @Test
+  public void testIfModifiedSince() {
+    var responseHeaders = HttpHeaderMap.newHeaderMap()
+      .set(HttpHeaders.LAST_MODIFIED, "Wed, 21 Oct 2015 07:28:00 GMT");
+
+    var later = HttpHeaderMap.newHeaderMap().set(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 21 Oct 2015 07:28:00 GMT");
+    Assertions.assertTrue(ConditionalRequests.notModified(mockRequest(later), responseHeaders));
+
+    var earlier = HttpHeaderMap.newHeaderMap().set(HttpHeaders.IF_MODIFIED_SINCE, "Tue, 20 Oct 2015 07:28:00 GMT");
+    Assertions.assertFalse(ConditionalRequests.notModified(mockRequest(earlier), responseHeaders));
+
+    var invalid = HttpHeaderMap.newHeaderMap().set(HttpHeaders.IF_MODIFIED_SINCE, "yesterday");
+    Assertions.assertFalse(ConditionalRequests.notModified(mockRequest(invalid), responseHeaders));
+
+    // if-modified-since is ignored when if-none-match is present
+    var both = HttpHeaderMap.newHeaderMap()
+      .set(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 21 Oct 2015 07:28:00 GMT")
+      .set(HttpHeaders.IF_NONE_MATCH, "\"xyz\"");
+    Assertions.assertFalse(ConditionalRequests.notModified(mockRequest(both), responseHeaders));
+  }
+
+  @Test
+  public void testApplyPreconditionsAnswersNotModified() {
+    var body = "groups".getBytes(StandardCharsets.UTF_8);
+    var eTag = ConditionalRequests.computeETag(body);
+
+    var responseHeaders = HttpHeaderMap.newHeaderMap().set(HttpHeaders.CONTENT_TYPE, "application/json");
+    var response = Mockito.mock(HttpResponse.class);
+    Mockito.when(response.status()).thenReturn(HttpResponseCode.OK);
+    Mockito.when(response.headers()).thenReturn(responseHeaders);
+    Mockito.when(response.body()).thenReturn(body);
+
+    var context = Mockito.mock(HttpContext.class);
+    Mockito.when(context.response()).thenReturn(response);
+    Mockito.when(context.request())
+      .thenReturn(mockRequest(HttpHeaderMap.newHeaderMap().set(HttpHeaders.IF_NONE_MATCH, eTag)));
+
+    Assertions.assertTrue(ConditionalRequests.applyPreconditions(context));
+    Assertions.assertEquals(eTag, responseHeaders.firstValue(HttpHeaders.ETAG));
+    Assertions.assertFalse(responseHeaders.contains(HttpHeaders.CONTENT_TYPE));
+    Mockito.verify(response).status(HttpResponseCode.NOT_MODIFIED);
+    Mockito.verify(response).body(ArgumentMatchers.<byte[]>argThat(bytes -> bytes.length == 0));
+  }
+}
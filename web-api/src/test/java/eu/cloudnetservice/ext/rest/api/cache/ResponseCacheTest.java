@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.cache;
+
+import eu.cloudnetservice.ext.rest.api.HttpHandler;
+import eu.cloudnetservice.ext.rest.api.HttpMethod;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
+import eu.cloudnetservice.ext.rest.api.response.type.PlainTextResponse;
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public final class ResponseCacheTest {
+
+  private static StaticResponse<String> staticResponse(String body) {
+    var response = PlainTextResponse.builder().body(body).build();
+    return StaticResponse.of(response, body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testStoresAndInvalidatesResponses() {
+    var cache = new ResponseCache(ResponseCache.DEFAULT_MAX_BYTES);
+    var groups = staticResponse("groups");
+    var tasks = staticResponse("tasks");
+    cache.put("group", "/api/v3/group", groups, Duration.ofMinutes(1));
+    cache.put("task", "/api/v3/task", tasks, Duration.ofMinutes(1));
+
+    Assertions.assertSame(groups, cache.get("group", "/api/v3/group"));
+    Assertions.assertSame(tasks, cache.get("task", "/api/v3/task"));
+    Assertions.assertNull(cache.get("task", "/api/v3/group"));
+
+    cache.invalidate("group");
+    Assertions.assertNull(cache.get("group", "/api/v3/group"));
+    Assertions.assertSame(tasks, cache.get("task", "/api/v3/task"));
+
+    cache.invalidateAll();
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testExpiredResponsesAreDropped() {
+    var cache = new ResponseCache(ResponseCache.DEFAULT_MAX_BYTES);
+    cache.put("group", "/api/v3/group", staticResponse("groups"), Duration.ofNanos(1));
+
+    Assertions.assertNull(cache.get("group", "/api/v3/group"));
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testEvictsResponsesWhenFull() {
+    var cache = new ResponseCache(4096);
+    for (var i = 0; i < 64; i++) {
+      cache.put("group", "/api/v3/group/" + i, staticResponse("x".repeat(512)), Duration.ofMinutes(1));
+    }
+
+    Assertions.assertTrue(cache.size() < 64);
+    Assertions.assertNotNull(cache.get("group", "/api/v3/group/63"));
+  }
+
+  @Test
+  public void testInterceptorStoresAndServesResponses() throws Exception {
+    var cache = new ResponseCache(ResponseCache.DEFAULT_MAX_BYTES);
+    var interceptor = new ResponseCacheInterceptor(cache, "group", Duration.ofMinutes(1), true, true, false);
+    var handler = Mockito.mock(HttpHandler.class);
+    var config = HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build();
+
+    // the first request is passed to the handler and the response of it is stored
+    var body = "groups".getBytes(StandardCharsets.UTF_8);
+    var firstResponse = SharedResponseMockUtil.mockResponse(body);
+    var firstContext = SharedResponseMockUtil.mockContext("/api/v3/group?page=1", firstResponse);
+    Assertions.assertTrue(interceptor.preProcess(firstContext, handler, config));
+
+    var handlerResponse = PlainTextResponse.builder().body("groups").build();
+    Assertions.assertFalse(interceptor.postProcess(firstContext, handler, config, handlerResponse));
+    Assertions.assertEquals(1, cache.size());
+
+    // the second request is answered from the cache without invoking the handler
+    var secondResponse = SharedResponseMockUtil.mockResponse(null);
+    var secondContext = SharedResponseMockUtil.mockContext("/api/v3/group?page=1", secondResponse);
+    Assertions.assertFalse(interceptor.preProcess(secondContext, handler, config));
+    Mockito.verify(secondResponse).status(HttpResponseCode.OK);
+    Mockito.verify(secondResponse).body(ArgumentMatchers.<StaticResponse<?>>any());
+
+    // requests with a different query are not answered from the cache
+    var otherResponse = SharedResponseMockUtil.mockResponse(null);
+    var otherContext = SharedResponseMockUtil.mockContext("/api/v3/group?page=2", otherResponse);
+    Assertions.assertTrue(interceptor.preProcess(otherContext, handler, config));
+  }
+
+  @Test
+  public void testInterceptorSkipsUnsuccessfulResponses() throws Exception {
+    var cache = new ResponseCache(ResponseCache.DEFAULT_MAX_BYTES);
+    var interceptor = new ResponseCacheInterceptor(cache, "group", Duration.ofMinutes(1), true, true, false);
+    var handler = Mockito.mock(HttpHandler.class);
+    var config = HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build();
+
+    var context = SharedResponseMockUtil.mockContext("/api/v3/group/test", SharedResponseMockUtil.mockResponse(null));
+    Assertions.assertTrue(interceptor.preProcess(context, handler, config));
+    Assertions.assertTrue(interceptor.postProcess(context, handler, config, HttpResponseCode.NOT_FOUND.intoResponse()));
+    Assertions.assertEquals(0, cache.size());
+  }
+}
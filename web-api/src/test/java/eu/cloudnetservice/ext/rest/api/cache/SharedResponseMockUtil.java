@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.cache;
+
+import eu.cloudnetservice.ext.rest.api.HttpContext;
+import eu.cloudnetservice.ext.rest.api.HttpRequest;
+import eu.cloudnetservice.ext.rest.api.HttpResponse;
+import eu.cloudnetservice.ext.rest.api.header.HttpHeaderMap;
+import eu.cloudnetservice.ext.rest.api.metrics.RequestTimings;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+final class SharedResponseMockUtil {
+
+  static HttpContext mockContext(String uri, HttpResponse response) {
+    var queryStart = uri.indexOf('?');
+    var queryParameters = new HashMap<String, List<String>>();
+    if (queryStart != -1) {
+      for (var parameter : uri.substring(queryStart + 1).split("&")) {
+        var parts = parameter.split("=", 2);
+        queryParameters.computeIfAbsent(parts[0], ignored -> new ArrayList<>()).add(parts.length > 1 ? parts[1] : "");
+      }
+    }
+
+    var request = Mockito.mock(HttpRequest.class);
+    Mockito.when(request.uri()).thenReturn(uri);
+    Mockito.when(request.path()).thenReturn(queryStart == -1 ? uri : uri.substring(0, queryStart));
+    Mockito.when(request.queryParameters()).thenReturn(queryParameters);
+    Mockito.when(request.headers()).thenReturn(HttpHeaderMap.newHeaderMap());
+
+    var hints = new HashMap<String, List<Object>>();
+    var context = Mockito.mock(HttpContext.class);
+    Mockito.when(context.request()).thenReturn(request);
+    Mockito.when(context.response()).thenReturn(response);
+    Mockito.when(context.timings()).thenReturn(RequestTimings.DISABLED);
+    Mockito.when(context.invocationHints(ArgumentMatchers.anyString()))
+      .thenAnswer(invocation -> hints.getOrDefault(invocation.<String>getArgument(0), List.of()));
+    Mockito.when(context.addInvocationHint(ArgumentMatchers.anyString(), ArgumentMatchers.any())).thenAnswer(
+      invocation -> {
+        hints.computeIfAbsent(invocation.getArgument(0), ignored -> new ArrayList<>()).add(invocation.getArgument(1));
+        return invocation.getMock();
+      });
+    return context;
+  }
+
+  static HttpResponse mockResponse(byte[] body) {
+    var response = Mockito.mock(HttpResponse.class);
+    Mockito.when(response.headers()).thenReturn(HttpHeaderMap.newHeaderMap());
+    Mockito.when(response.body()).thenReturn(body);
+    return response;
+  }
+}
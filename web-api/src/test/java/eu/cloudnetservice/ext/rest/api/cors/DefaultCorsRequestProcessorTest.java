@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.cors;
+
+import com.google.common.net.HttpHeaders;
+import eu.cloudnetservice.ext.rest.api.HeaderMockUtil;
+import eu.cloudnetservice.ext.rest.api.HttpContext;
+import eu.cloudnetservice.ext.rest.api.HttpMethod;
+import eu.cloudnetservice.ext.rest.api.HttpResponse;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
+import eu.cloudnetservice.ext.rest.api.config.CorsConfig;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
+import eu.cloudnetservice.ext.rest.api.connection.BasicHttpConnectionInfo;
+import eu.cloudnetservice.ext.rest.api.header.HttpHeaderMap;
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResponse;
+import eu.cloudnetservice.ext.rest.api.util.HostAndPort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public final class DefaultCorsRequestProcessorTest {
+
+  private static final HttpHandlerConfig HANDLER_CONFIG = HttpHandlerConfig.builder()
+    .httpMethod(HttpMethod.GET)
+    .corsConfiguration(CorsConfig.builder()
+      .addAllowedOrigin("https://dashboard.example.com")
+      .addExposedHeader("X-Request-Id")
+      .addExposedHeader("ETag")
+      .allowCredentials(true)
+      .build())
+    .build();
+
+  @Test
+  public void testAllowedOriginReceivesPrecomputedHeaders() {
+    var processor = new DefaultCorsRequestProcessor();
+    for (var i = 0; i < 2; i++) {
+      var responseHeaders = HttpHeaderMap.newHeaderMap();
+      var response = mockResponse(responseHeaders);
+      var context = mockContext("https://dashboard.example.com/", response);
+      Assertions.assertTrue(processor.processNormalRequest(context, HANDLER_CONFIG));
+
+      var allowedOrigin = responseHeaders.firstValue(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN);
+      Assertions.assertEquals("https://dashboard.example.com", allowedOrigin);
+      var exposedHeaders = responseHeaders.firstValue(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS);
+      Assertions.assertEquals("X-Request-Id, ETag", exposedHeaders);
+      Assertions.assertEquals("true", responseHeaders.firstValue(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS));
+      Assertions.assertEquals(
+        "Origin, Access-Control-Request-Method, Access-Control-Request-Headers",
+        responseHeaders.firstValue(HttpHeaders.VARY));
+    }
+  }
+
+  @Test
+  public void testUnknownOriginIsRejected() {
+    var processor = new DefaultCorsRequestProcessor();
+    var response = mockResponse(HttpHeaderMap.newHeaderMap());
+    var allowed = processor.processNormalRequest(mockContext("https://evil.example.com", response), HANDLER_CONFIG);
+
+    Assertions.assertFalse(allowed);
+    Mockito.verify(response).status(HttpResponseCode.FORBIDDEN);
+    Mockito.verify(response).body(Mockito.any(StaticResponse.class));
+  }
+
+  @Test
+  public void testSameOriginIsIgnored() {
+    var processor = new DefaultCorsRequestProcessor();
+    var response = mockResponse(HttpHeaderMap.newHeaderMap());
+    var allowed = processor.processNormalRequest(mockContext("http://127.0.0.1:2812", response), HANDLER_CONFIG);
+
+    Assertions.assertTrue(allowed);
+    Mockito.verifyNoInteractions(response);
+  }
+
+  private static HttpResponse mockResponse(HttpHeaderMap headers) {
+    var response = Mockito.mock(HttpResponse.class);
+    Mockito.when(response.headers()).thenReturn(headers);
+    return response;
+  }
+
+  private static HttpContext mockContext(String origin, HttpResponse response) {
+    var context = HeaderMockUtil.setupContext(HttpHeaderMap.newHeaderMap().add(HttpHeaders.ORIGIN, origin));
+    Mockito.when(context.request().method()).thenReturn("GET");
+    Mockito.when(context.response()).thenReturn(response);
+    Mockito.when(context.connectionInfo()).thenReturn(new BasicHttpConnectionInfo(
+      "http",
+      new HostAndPort("127.0.0.1", 2812),
+      new HostAndPort("127.0.0.1", 51234)));
+    return context;
+  }
+}
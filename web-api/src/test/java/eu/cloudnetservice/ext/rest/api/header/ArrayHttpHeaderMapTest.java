@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.header;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class ArrayHttpHeaderMapTest {
+
+  @Test
+  public void testCaseInsensitiveNames() {
+    var headers = HttpHeaderMap.newHeaderMap()
+      .add("Content-Type", "application/json")
+      .add("accept", "text/plain")
+      .add("ACCEPT", "application/json")
+      .add("Accept", "text/plain");
+
+    Assertions.assertEquals(3, headers.size());
+    Assertions.assertTrue(headers.contains("content-type"));
+    Assertions.assertTrue(headers.contains("Accept", "application/json"));
+    Assertions.assertEquals("application/json", headers.firstValue("CONTENT-TYPE"));
+    Assertions.assertEquals(List.of("text/plain", "application/json"), headers.values("Accept"));
+    Assertions.assertEquals(Set.of("Content-Type", "accept"), headers.names());
+    Assertions.assertEquals(
+      Map.of("Content-Type", List.of("application/json"), "accept", List.of("text/plain", "application/json")),
+      headers.asMap());
+  }
+
+  @Test
+  public void testSetAndRemove() {
+    var headers = HttpHeaderMap.newHeaderMap(1)
+      .add("Vary", "Origin", "Accept")
+      .add("Cache-Control", "no-cache")
+      .set("vary", "Accept-Encoding");
+
+    Assertions.assertEquals(List.of("Accept-Encoding"), headers.values("Vary"));
+    Assertions.assertEquals("x", headers.firstValue("ETag", "x"));
+
+    headers.setIfAbsent("Cache-Control", "max-age=10").remove("cache-control", "no-cache");
+    Assertions.assertFalse(headers.contains("Cache-Control"));
+    Assertions.assertEquals(1, headers.size());
+
+    headers.remove("VARY");
+    Assertions.assertEquals(0, headers.size());
+    Assertions.assertNull(headers.firstValue("Vary"));
+  }
+
+  @Test
+  public void testClonesAreCopyOnWrite() {
+    var headers = HttpHeaderMap.newHeaderMap().add("Content-Type", "text/plain");
+    var unmodifiable = headers.unmodifiableClone();
+    var clone = headers.clone();
+
+    headers.add("Content-Length", "10");
+    clone.set("Content-Type", "application/json");
+
+    Assertions.assertEquals(List.of(Map.entry("Content-Type", "text/plain")), List.copyOf(unmodifiable.entries()));
+    Assertions.assertEquals(List.of("text/plain"), headers.values("Content-Type"));
+    Assertions.assertEquals(2, headers.size());
+    Assertions.assertEquals(List.of("application/json"), clone.values("Content-Type"));
+    Assertions.assertSame(unmodifiable, unmodifiable.unmodifiableClone());
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> unmodifiable.add("Vary", "Origin"));
+    Assertions.assertThrows(UnsupportedOperationException.class, unmodifiable::clear);
+  }
+
+  @Test
+  public void testSetSharesArraysWithEmptyMap() {
+    var source = HttpHeaderMap.newHeaderMap().add("Vary", "Origin").add("Vary", "Accept");
+    var target = HttpHeaderMap.newHeaderMap().set(source);
+    source.clear();
+
+    Assertions.assertEquals(0, source.size());
+    Assertions.assertEquals(List.of("Origin", "Accept"), target.values("vary"));
+  }
+
+  @Test
+  public void testForEachHeader() {
+    var headers = HttpHeaderMap.newHeaderMap().add("A", "1").add("B", "2").add("a", "3");
+    var target = new StringBuilder();
+    headers.forEachHeader((name, value) -> target.append(name).append('=').append(value).append(';'));
+    Assertions.assertEquals("A=1;B=2;a=3;", target.toString());
+  }
+
+  @Test
+  public void testModificationsDuringIterationAreNotReflected() {
+    var headers = HttpHeaderMap.newHeaderMap().add("A", "1").add("B", "2").add("C", "3");
+    var target = new StringBuilder();
+    headers.forEachHeader((name, value) -> {
+      headers.remove("B");
+      target.append(name).append('=').append(value).append(';');
+    });
+    Assertions.assertEquals("A=1;B=2;C=3;", target.toString());
+    Assertions.assertEquals(2, headers.size());
+
+    var iterator = headers.iterator();
+    Assertions.assertEquals(Map.entry("A", "1"), iterator.next());
+    headers.clear();
+    Assertions.assertEquals(Map.entry("C", "3"), iterator.next());
+    Assertions.assertFalse(iterator.hasNext());
+    Assertions.assertEquals(0, headers.size());
+  }
+}
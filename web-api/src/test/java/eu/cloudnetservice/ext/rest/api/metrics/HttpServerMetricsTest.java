@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.metrics;
+
+import eu.cloudnetservice.ext.rest.api.util.HostAndPort;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class HttpServerMetricsTest {
+
+  @Test
+  public void testHistogramPercentiles() {
+    var histogram = new LatencyHistogram();
+    for (var i = 0; i < 99; i++) {
+      histogram.record(Duration.ofMillis(2).toNanos());
+    }
+    histogram.record(Duration.ofSeconds(3).toNanos());
+
+    var snapshot = histogram.snapshot();
+    Assertions.assertEquals(100, snapshot.count());
+    Assertions.assertTrue(snapshot.valueAtPercentile(50) <= Duration.ofMillis(2500).toNanos());
+    Assertions.assertTrue(snapshot.valueAtPercentile(100) > Duration.ofMillis(2500).toNanos());
+  }
+
+  @Test
+  public void testRouteMetrics() {
+    var metrics = new HttpServerMetrics();
+    var route = metrics.route("GET", "/api/test");
+    Assertions.assertSame(route, metrics.route("GET", "/api/test"));
+
+    metrics.requestStarted();
+    metrics.requestStarted();
+    Assertions.assertEquals(2, metrics.activeRequests());
+
+    metrics.requestCompleted(route, 200, 1000);
+    metrics.requestCompleted(route, 404, 1000);
+    Assertions.assertEquals(0, metrics.activeRequests());
+    Assertions.assertEquals(1, route.requestCount(2));
+    Assertions.assertEquals(1, route.requestCount(4));
+    Assertions.assertEquals(0, route.requestCount(5));
+  }
+
+  @Test
+  public void testPrometheusFormat() {
+    var metrics = new HttpServerMetrics();
+    metrics.registerGauge("test_gauge", "A test gauge", Map.of("listener", "0.0.0.0:80"), () -> 42);
+    metrics.requestStarted();
+    metrics.requestCompleted(metrics.route("GET", "/api/\"test\""), 200, Duration.ofMillis(3).toNanos());
+
+    var output = PrometheusMetricsFormatter.format(metrics);
+    Assertions.assertTrue(output.contains("# TYPE http_server_requests_total counter\n"));
+    Assertions.assertTrue(output.contains("http_server_requests_total{method=\"GET\",route=\"/api/\\\"test\\\"\",status=\"2xx\"} 1\n"));
+    Assertions.assertTrue(output.contains(
+      "http_server_request_duration_seconds_bucket{method=\"GET\",route=\"/api/\\\"test\\\"\",le=\"+Inf\"} 1\n"));
+    Assertions.assertTrue(output.contains("http_server_request_duration_seconds_count{method=\"GET\",route=\"/api/\\\"test\\\"\"} 1\n"));
+    Assertions.assertTrue(output.contains("test_gauge{listener=\"0.0.0.0:80\"} 42\n"));
+  }
+
+  @Test
+  public void testListenerMetrics() {
+    var metrics = new HttpServerMetrics();
+    var listener = metrics.listener(new HostAndPort("127.0.0.1", 2812));
+    Assertions.assertSame(listener, metrics.listener(new HostAndPort("127.0.0.1", 2812)));
+
+    listener.recordConnectionOpened();
+    listener.recordConnectionOpened();
+    listener.recordConnectionClosed();
+    listener.recordBytesRead(128);
+    listener.recordBytesWritten(512);
+    listener.recordTlsHandshake(Duration.ofMillis(4).toNanos(), true);
+    listener.recordTlsHandshake(Duration.ofMillis(4).toNanos(), false);
+    listener.recordIdleTimeout();
+
+    Assertions.assertEquals(1, listener.activeConnections());
+    Assertions.assertEquals(1, listener.failedTlsHandshakes());
+    Assertions.assertEquals(1, listener.tlsHandshakeLatency().snapshot().count());
+
+    var output = PrometheusMetricsFormatter.format(metrics);
+    Assertions.assertTrue(output.contains("http_server_connections_opened_total{listener=\"127.0.0.1:2812\"} 2\n"));
+    Assertions.assertTrue(output.contains("http_server_connections_active{listener=\"127.0.0.1:2812\"} 1\n"));
+    Assertions.assertTrue(output.contains("http_server_received_bytes_total{listener=\"127.0.0.1:2812\"} 128\n"));
+    Assertions.assertTrue(output.contains("http_server_sent_bytes_total{listener=\"127.0.0.1:2812\"} 512\n"));
+    Assertions.assertTrue(output.contains("http_server_tls_handshake_duration_seconds_count{listener=\"127.0.0.1:2812\"} 1\n"));
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.metrics;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class RequestTimingsTest {
+
+  @Test
+  public void testDisabledTimingsRecordNothing() {
+    var timings = RequestTimings.create(false);
+    timings.record(RequestTimings.Stage.INVOCATION, Duration.ofMillis(5).toNanos());
+
+    Assertions.assertFalse(timings.enabled());
+    Assertions.assertEquals(0, timings.begin());
+    Assertions.assertEquals(0, timings.duration(RequestTimings.Stage.INVOCATION));
+    Assertions.assertEquals("", timings.toServerTimingHeader());
+  }
+
+  @Test
+  public void testStageDurationsAreSummed() {
+    var timings = RequestTimings.create(true);
+    timings.record(RequestTimings.Stage.PARAMETERS, 1000);
+    timings.record(RequestTimings.Stage.PARAMETERS, 500);
+
+    Assertions.assertEquals(1500, timings.duration(RequestTimings.Stage.PARAMETERS));
+  }
+
+  @Test
+  public void testServerTimingHeader() {
+    var timings = RequestTimings.create(true);
+    timings.record(RequestTimings.Stage.ROUTING, Duration.ofMillis(1).toNanos());
+    timings.record(RequestTimings.Stage.INVOCATION, Duration.ofMillis(12).toNanos() + 500_000);
+
+    Assertions.assertEquals("route;dur=1.000, handler;dur=12.500", timings.toServerTimingHeader());
+  }
+}
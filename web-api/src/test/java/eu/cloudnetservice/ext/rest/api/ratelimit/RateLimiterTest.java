@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.ratelimit;
+
+import eu.cloudnetservice.ext.rest.api.HttpHandleException;
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class RateLimiterTest {
+
+  @Test
+  public void testBurstIsLimited() {
+    var limiter = new RateLimiter(3, Duration.ofHours(1));
+    for (var i = 0; i < 3; i++) {
+      Assertions.assertEquals(0, limiter.tryAcquire("client"));
+    }
+
+    var waitTime = limiter.tryAcquire("client");
+    Assertions.assertTrue(waitTime > 0);
+    Assertions.assertTrue(waitTime <= Duration.ofMinutes(20).toNanos());
+    Assertions.assertThrows(HttpHandleException.class, () -> limiter.acquireOrThrow("client"));
+  }
+
+  @Test
+  public void testKeysAreLimitedIndependently() {
+    var limiter = new RateLimiter(1, Duration.ofHours(1));
+    Assertions.assertEquals(0, limiter.tryAcquire("first"));
+    Assertions.assertTrue(limiter.tryAcquire("first") > 0);
+    Assertions.assertEquals(0, limiter.tryAcquire("second"));
+  }
+
+  @Test
+  public void testInvalidConfiguration() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new RateLimiter(0, Duration.ofSeconds(1)));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new RateLimiter(1, Duration.ZERO));
+  }
+}
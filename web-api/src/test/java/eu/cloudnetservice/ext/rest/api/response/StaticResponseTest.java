@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.response;
+
+import eu.cloudnetservice.ext.rest.api.HttpResponse;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
+import eu.cloudnetservice.ext.rest.api.header.HttpHeaderMap;
+import eu.cloudnetservice.ext.rest.api.response.type.PlainTextResponse;
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public final class StaticResponseTest {
+
+  @Test
+  public void testResponseCodeResponseIsReused() {
+    var response = HttpResponseCode.NO_CONTENT.intoResponse();
+    Assertions.assertSame(response, HttpResponseCode.NO_CONTENT.intoResponse());
+    Assertions.assertEquals(HttpResponseCode.NO_CONTENT, response.responseCode());
+  }
+
+  @Test
+  public void testSerializesEncodedBody() {
+    var source = PlainTextResponse.builder().responseCode(HttpResponseCode.NOT_FOUND).body("not found").build();
+    var staticResponse = StaticResponse.of(source, "not found".getBytes(StandardCharsets.UTF_8));
+
+    var headers = HttpHeaderMap.newHeaderMap();
+    var response = Mockito.mock(HttpResponse.class);
+    Mockito.when(response.headers()).thenReturn(headers);
+    staticResponse.serializeIntoResponse(response);
+
+    Mockito.verify(response).status(HttpResponseCode.NOT_FOUND);
+    Mockito.verify(response).body(staticResponse);
+    Mockito.verify(response, Mockito.never()).body(Mockito.anyString());
+    Assertions.assertEquals(source.headers().size(), headers.size());
+    Assertions.assertEquals(9, staticResponse.encodedBodyLength());
+  }
+
+  @Test
+  public void testEncodedFormIsComputedOnce() {
+    var source = PlainTextResponse.builder().body("hello").build();
+    var staticResponse = StaticResponse.of(source, "hello".getBytes(StandardCharsets.UTF_8));
+
+    var encodings = new AtomicInteger();
+    Function<byte[], String> encoder = body -> {
+      encodings.incrementAndGet();
+      return new String(body, StandardCharsets.UTF_8);
+    };
+    Assertions.assertEquals("hello", staticResponse.encodedForm(StaticResponseTest.class, encoder));
+    Assertions.assertEquals("hello", staticResponse.encodedForm(StaticResponseTest.class, encoder));
+    Assertions.assertEquals(1, encodings.get());
+
+    // builders of the template are builders of the source response
+    var modified = staticResponse.intoResponseBuilder().body("world").build();
+    Assertions.assertInstanceOf(PlainTextResponse.class, modified);
+    Assertions.assertEquals("world", modified.body());
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.api.util;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class RequestTargetTest {
+
+  @Test
+  public void testOriginForm() {
+    var target = RequestTarget.parse("/api/v3/service?limit=10&name=Lobby#fragment");
+    Assertions.assertEquals("/api/v3/service", target.path());
+    Assertions.assertEquals(List.of("api", "v3", "service"), target.pathSegments());
+    Assertions.assertEquals("limit=10&name=Lobby", target.rawQuery());
+    Assertions.assertEquals(Map.of("limit", List.of("10"), "name", List.of("Lobby")), target.queryParameters());
+  }
+
+  @Test
+  public void testRootPath() {
+    Assertions.assertEquals(List.of(), RequestTarget.parse("/").pathSegments());
+    Assertions.assertEquals(List.of(), RequestTarget.parse("//").pathSegments());
+    Assertions.assertEquals(List.of(), RequestTarget.parse("/?query").pathSegments());
+    Assertions.assertEquals(List.of(), RequestTarget.parse("http://localhost:2812").pathSegments());
+    Assertions.assertEquals(List.of("", "", ""), RequestTarget.parse("////").pathSegments());
+  }
+
+  @Test
+  public void testAbsoluteForm() {
+    var target = RequestTarget.parse("http://localhost:2812/api/v3/node?x=1");
+    Assertions.assertEquals("/api/v3/node", target.path());
+    Assertions.assertEquals(List.of("api", "v3", "node"), target.pathSegments());
+    Assertions.assertEquals(Map.of("x", List.of("1")), target.queryParameters());
+  }
+
+  @Test
+  public void testOpaqueTargetRejected() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> RequestTarget.parse("mailto:info@cloudnetservice.eu"));
+  }
+
+  @Test
+  public void testPathDecoding() {
+    var target = RequestTarget.parse("/template/Lobby%20Test/%C3%A4/a%2Fb/");
+    Assertions.assertEquals("/template/Lobby Test/ä/a/b/", target.path());
+    Assertions.assertEquals(List.of("template", "Lobby Test", "ä", "a/b"), target.pathSegments());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> RequestTarget.parse("/invalid/%zz"));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> RequestTarget.parse("/invalid/%2"));
+  }
+
+  @Test
+  public void testQueryDecoding() {
+    var target = RequestTarget.parse("/?a=1&a=2;b=hello+world&c&=ignored&d=%C3%A4%zz&e=");
+    var parameters = target.queryParameters();
+    Assertions.assertEquals(List.of("1", "2"), parameters.get("a"));
+    Assertions.assertEquals(List.of("hello world"), parameters.get("b"));
+    Assertions.assertEquals(List.of(""), parameters.get("c"));
+    Assertions.assertEquals(List.of("ä%zz"), parameters.get("d"));
+    Assertions.assertEquals(List.of(""), parameters.get("e"));
+    Assertions.assertEquals(5, parameters.size());
+    Assertions.assertSame(parameters, target.queryParameters());
+  }
+
+  @Test
+  public void testNoQuery() {
+    var target = RequestTarget.parse("/api");
+    Assertions.assertNull(target.rawQuery());
+    Assertions.assertTrue(target.queryParameters().isEmpty());
+  }
+}
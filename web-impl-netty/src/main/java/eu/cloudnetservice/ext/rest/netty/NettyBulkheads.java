@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import eu.cloudnetservice.ext.rest.api.config.BulkheadConfig;
+import eu.cloudnetservice.ext.rest.api.metrics.HttpServerMetrics;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The executor pools of the bulkheads configured for a http server. Each bulkhead gets its own bounded thread pool
+ * with a bounded queue, requests that neither fit into the running nor into the queued requests are rejected.
+ *
+ * @since 1.0
+ */
+final class NettyBulkheads implements AutoCloseable {
+
+  private static final long KEEP_ALIVE_SECONDS = 30L;
+
+  private final Map<String, Bulkhead> bulkheads;
+
+  /**
+   * Constructs the executor pools for the given bulkhead configurations.
+   *
+   * @param configs the configurations of the bulkheads, mapped by their name.
+   * @param metrics the metrics to register the bulkhead gauges and counters to.
+   * @throws NullPointerException if the given configurations or metrics are null.
+   */
+  public NettyBulkheads(@NonNull Map<String, BulkheadConfig> configs, @NonNull HttpServerMetrics metrics) {
+    this.bulkheads = new HashMap<>(configs.size());
+    for (var config : configs.values()) {
+      var bulkhead = new Bulkhead(config);
+      this.bulkheads.put(config.name(), bulkhead);
+
+      var labels = Map.of("bulkhead", config.name());
+      metrics.registerGauge(
+        "http_server_bulkhead_queue_size",
+        "The amount of requests waiting for a free thread of the bulkhead",
+        labels,
+        () -> bulkhead.executor.getQueue().size());
+      metrics.registerGauge(
+        "http_server_bulkhead_active_threads",
+        "The amount of bulkhead threads that are currently processing a request",
+        labels,
+        bulkhead.executor::getActiveCount);
+      metrics.registerCounter(
+        "http_server_bulkhead_rejected_total",
+        "The total amount of requests rejected because the bulkhead had no capacity left",
+        labels,
+        bulkhead.rejectedRequests::sum);
+    }
+  }
+
+  /**
+   * Submits the given task to the bulkhead with the given name.
+   *
+   * @param name the name of the bulkhead to execute the task in.
+   * @param task the task to execute.
+   * @return true if the task was accepted by the bulkhead, false if the bulkhead has no capacity left.
+   * @throws NullPointerException if the given name or task is null.
+   */
+  public boolean execute(@NonNull String name, @NonNull Runnable task) {
+    var bulkhead = this.bulkheads.get(name);
+    if (bulkhead == null) {
+      throw new IllegalArgumentException("Unknown bulkhead " + name);
+    }
+
+    try {
+      bulkhead.executor.execute(task);
+      return true;
+    } catch (RejectedExecutionException exception) {
+      bulkhead.rejectedRequests.increment();
+      return false;
+    }
+  }
+
+  /**
+   * Checks if a bulkhead with the given name is configured.
+   *
+   * @param name the name of the bulkhead to check for, can be null.
+   * @return true if a bulkhead with the given name is configured, false otherwise.
+   */
+  public boolean contains(@Nullable String name) {
+    return name != null && this.bulkheads.containsKey(name);
+  }
+
+  /**
+   * Shuts down the executor pools of all bulkheads, requests that are currently handled are completed.
+   */
+  @Override
+  public void close() {
+    for (var bulkhead : this.bulkheads.values()) {
+      bulkhead.executor.shutdown();
+    }
+  }
+
+  private static final class Bulkhead {
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejectedRequests = new LongAdder();
+
+    private Bulkhead(@NonNull BulkheadConfig config) {
+      // a synchronous queue hands requests directly to a thread, which is the only way to express a queue size of 0
+      BlockingQueue<Runnable> queue = config.maxQueueSize() == 0
+        ? new SynchronousQueue<>()
+        : new ArrayBlockingQueue<>(config.maxQueueSize());
+      var threadFactory = new ThreadFactoryBuilder()
+        .setDaemon(true)
+        .setNameFormat("rest-bulkhead-" + config.name() + "-%d")
+        .build();
+
+      // the core pool has the full size, a thread pool executor only grows beyond the core size once the queue is full
+      this.executor = new ThreadPoolExecutor(
+        config.maxConcurrency(),
+        config.maxConcurrency(),
+        KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS,
+        queue,
+        threadFactory,
+        new ThreadPoolExecutor.AbortPolicy());
+      this.executor.allowCoreThreadTimeOut(true);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import eu.cloudnetservice.ext.rest.api.metrics.ConnectionMetrics;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.handler.ssl.SslHandler;
+import io.netty5.util.concurrent.Future;
+import lombok.NonNull;
+
+/**
+ * A channel handler which records the network level metrics of a connection into the metrics of the listener that
+ * accepted the connection. The handler is inserted at the head of the pipeline to count the bytes that are actually
+ * transferred over the connection, including the bytes of tls records.
+ *
+ * @since 1.0
+ */
+final class NettyConnectionMetricsHandler implements ChannelHandler {
+
+  public static final String HANDLER_NAME = "connection-metrics-handler";
+
+  private final ConnectionMetrics metrics;
+  private long connectedAt;
+
+  /**
+   * Constructs a new connection metrics handler instance.
+   *
+   * @param metrics the metrics of the listener that accepted the connection.
+   * @throws NullPointerException if the given metrics are null.
+   */
+  public NettyConnectionMetricsHandler(@NonNull ConnectionMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * Records the duration and outcome of the handshake of the given ssl handler once the handshake completed.
+   *
+   * @param sslHandler the ssl handler of the connection.
+   * @throws NullPointerException if the given ssl handler is null.
+   */
+  public void trackTlsHandshake(@NonNull SslHandler sslHandler) {
+    sslHandler.handshakeFuture().addListener(future -> {
+      var handshakeDuration = System.nanoTime() - this.connectedAt;
+      this.metrics.recordTlsHandshake(handshakeDuration, future.isSuccess());
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void channelActive(@NonNull ChannelHandlerContext ctx) {
+    this.connectedAt = System.nanoTime();
+    this.metrics.recordConnectionOpened();
+    ctx.fireChannelActive();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void channelInactive(@NonNull ChannelHandlerContext ctx) {
+    this.metrics.recordConnectionClosed();
+    ctx.fireChannelInactive();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void channelRead(@NonNull ChannelHandlerContext ctx, @NonNull Object msg) {
+    if (msg instanceof Buffer buffer) {
+      this.metrics.recordBytesRead(buffer.readableBytes());
+    }
+
+    ctx.fireChannelRead(msg);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Future<Void> write(@NonNull ChannelHandlerContext ctx, @NonNull Object msg) {
+    if (msg instanceof Buffer buffer) {
+      this.metrics.recordBytesWritten(buffer.readableBytes());
+    }
+
+    return ctx.write(msg);
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import eu.cloudnetservice.ext.rest.api.metrics.HttpServerMetrics;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.util.concurrent.EventExecutor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A watchdog that detects event loops which are blocked by a task that runs too long. The watchdog periodically
+ * submits a probe task into each event loop and measures the delay until the probe gets executed. If a probe was not
+ * executed within the configured threshold, the current stack of the event loop thread is logged to find the task
+ * which blocks the event loop.
+ *
+ * @since 1.0
+ */
+final class NettyEventLoopWatchdog implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(NettyEventLoopWatchdog.class);
+
+  private static final long MIN_PROBE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long MAX_DELAY_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private final long thresholdNanos;
+  private final List<LoopProbe> loopProbes;
+  private final LongAdder detectedStalls = new LongAdder();
+
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * Constructs a new event loop watchdog for the given event loop group and starts probing the event loops of it.
+   *
+   * @param eventLoopGroup the event loop group to watch.
+   * @param threshold      the delay of a probe after which an event loop is considered to be blocked.
+   * @param metrics        the metrics to register the event loop metrics to.
+   * @throws NullPointerException     if one of the given parameters is null.
+   * @throws IllegalArgumentException if the given threshold is not positive.
+   */
+  public NettyEventLoopWatchdog(
+    @NonNull EventLoopGroup eventLoopGroup,
+    @NonNull Duration threshold,
+    @NonNull HttpServerMetrics metrics
+  ) {
+    if (!threshold.isPositive()) {
+      throw new IllegalArgumentException("Event loop stall threshold must be positive");
+    }
+
+    this.thresholdNanos = threshold.toNanos();
+    this.loopProbes = new ArrayList<>();
+    for (var executor : eventLoopGroup) {
+      var probe = new LoopProbe(this.loopProbes.size(), executor);
+      this.loopProbes.add(probe);
+      metrics.registerGauge(
+        "http_server_event_loop_max_delay_microseconds",
+        "The maximum delay of tasks submitted to the event loop during the last minute",
+        Map.of("loop", Integer.toString(probe.index)),
+        () -> TimeUnit.NANOSECONDS.toMicros(probe.maxDelayNanos(System.nanoTime())));
+    }
+
+    metrics.registerCounter(
+      "http_server_event_loop_stalls_total",
+      "The total amount of times an event loop was blocked for longer than the stall threshold",
+      Map.of(),
+      this.detectedStalls::sum);
+
+    // probe multiple times per threshold to detect stalls close to the time they exceed the threshold
+    var probeIntervalNanos = Math.max(MIN_PROBE_INTERVAL_NANOS, this.thresholdNanos / 4);
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+      .setDaemon(true)
+      .setNameFormat("rest-event-loop-watchdog")
+      .build());
+    this.scheduler.scheduleAtFixedRate(this::probeEventLoops, probeIntervalNanos, probeIntervalNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Stops probing the event loops.
+   */
+  @Override
+  public void close() {
+    this.scheduler.shutdownNow();
+  }
+
+  private void probeEventLoops() {
+    var now = System.nanoTime();
+    for (var loopProbe : this.loopProbes) {
+      var pendingSince = loopProbe.pendingSince;
+      if (pendingSince == LoopProbe.NO_PENDING_PROBE) {
+        // the previous probe completed, submit a new one
+        loopProbe.submit(now);
+      } else if (!loopProbe.stallReported && now - pendingSince > this.thresholdNanos) {
+        // the probe is pending for too long, only report each stall once
+        loopProbe.stallReported = true;
+        this.detectedStalls.increment();
+        this.reportStall(loopProbe, now - pendingSince);
+      }
+    }
+  }
+
+  private void reportStall(@NonNull LoopProbe loopProbe, long blockedNanos) {
+    var blockedMillis = TimeUnit.NANOSECONDS.toMillis(blockedNanos);
+    var loopThread = loopProbe.thread;
+    if (loopThread == null) {
+      LOGGER.warn("Event loop {} is blocked for at least {}ms", loopProbe.index, blockedMillis);
+      return;
+    }
+
+    var stackSample = new StringBuilder();
+    for (var element : loopThread.getStackTrace()) {
+      stackSample.append(System.lineSeparator()).append("\tat ").append(element);
+    }
+
+    LOGGER.warn(
+      "Event loop {} ({}) is blocked for at least {}ms, current stack:{}",
+      loopProbe.index,
+      loopThread.getName(),
+      blockedMillis,
+      stackSample);
+  }
+
+  /**
+   * The probe state of a single event loop. The pending state is only modified by the watchdog thread when submitting
+   * a probe and by the event loop when the probe completed, the delay statistics are only written by the event loop.
+   *
+   * @since 1.0
+   */
+  private static final class LoopProbe {
+
+    private static final long NO_PENDING_PROBE = -1;
+
+    private final int index;
+    private final EventExecutor executor;
+
+    private volatile Thread thread;
+    private volatile long pendingSince = NO_PENDING_PROBE;
+    private volatile boolean stallReported;
+
+    private volatile long windowStart = System.nanoTime();
+    private volatile long currentWindowMaxDelay;
+    private volatile long previousWindowMaxDelay;
+
+    private LoopProbe(int index, @NonNull EventExecutor executor) {
+      this.index = index;
+      this.executor = executor;
+    }
+
+    private void submit(long now) {
+      this.pendingSince = now;
+      this.stallReported = false;
+      try {
+        this.executor.execute(() -> this.complete(now));
+      } catch (RejectedExecutionException exception) {
+        // the event loop is shutting down
+        this.pendingSince = NO_PENDING_PROBE;
+      }
+    }
+
+    private void complete(long submittedAt) {
+      this.thread = Thread.currentThread();
+
+      // rotate the window to let the max delay decay after a stall
+      var now = System.nanoTime();
+      if (now - this.windowStart > MAX_DELAY_WINDOW_NANOS) {
+        this.previousWindowMaxDelay = this.currentWindowMaxDelay;
+        this.currentWindowMaxDelay = 0;
+        this.windowStart = now;
+      }
+
+      var delay = now - submittedAt;
+      if (delay > this.currentWindowMaxDelay) {
+        this.currentWindowMaxDelay = delay;
+      }
+
+      this.pendingSince = NO_PENDING_PROBE;
+    }
+
+    private long maxDelayNanos(long now) {
+      // a probe that is still pending also counts into the max delay, as the loop is blocked for at least that time
+      var pendingSince = this.pendingSince;
+      var pendingDelay = pendingSince == NO_PENDING_PROBE ? 0 : now - pendingSince;
+      return Math.max(pendingDelay, Math.max(this.currentWindowMaxDelay, this.previousWindowMaxDelay));
+    }
+  }
+}
@@ -17,6 +17,7 @@
 package eu.cloudnetservice.ext.rest.netty;
 
 import eu.cloudnetservice.ext.rest.api.HttpChannel;
+import eu.cloudnetservice.ext.rest.api.auth.ChannelAuthenticationMemo;
 import eu.cloudnetservice.ext.rest.api.util.HostAndPort;
 import io.netty5.channel.Channel;
 import lombok.NonNull;
@@ -30,7 +31,8 @@ record NettyHttpChannel(
   @NonNull Channel channel,
   @NonNull String scheme,
   @NonNull HostAndPort serverAddress,
-  @NonNull HostAndPort clientAddress
+  @NonNull HostAndPort clientAddress,
+  @NonNull ChannelAuthenticationMemo authenticationMemo
 ) implements HttpChannel {
 
   @Override
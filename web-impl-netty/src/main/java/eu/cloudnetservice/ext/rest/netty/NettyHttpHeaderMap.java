@@ -96,9 +96,7 @@ public boolean contains(@NonNull String headerName, @NonNull String headerValue)
 
   @Override
   public @NonNull HttpHeaderMap add(@NonNull HttpHeaderMap headerMap) {
-    for (var entry : headerMap) {
-      this.add(entry.getKey(), entry.getValue());
-    }
+    headerMap.forEachHeader(this.httpHeaders::add);
     return this;
   }
 
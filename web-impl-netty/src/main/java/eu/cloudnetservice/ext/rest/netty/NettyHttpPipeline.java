@@ -0,0 +1,225 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelFutureListeners;
+import io.netty5.channel.ChannelOption;
+import io.netty5.handler.stream.ChunkedInput;
+import io.netty5.util.Resource;
+import io.netty5.util.concurrent.Future;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The http/1.1 pipeline of a single connection. Requests that are pipelined on the connection are handled
+ * concurrently, but their responses are written in the order in which the requests were received, as required by the
+ * http/1.1 specification. Responses that complete before the responses of earlier requests are held back until they
+ * are next in line, and all responses that became writable at once are flushed together.
+ * <p>
+ * The amount of requests that can be outstanding on a connection is bounded, reading from the connection is suspended
+ * once the bound is reached and resumed once enough responses were written.
+ *
+ * @since 1.0
+ */
+final class NettyHttpPipeline {
+
+  private final Channel channel;
+  private final int maxPendingRequests;
+
+  // all state is only accessed from the event loop of the channel
+  private final Map<Long, PipelinedResponse> completedResponses = new HashMap<>();
+  private long nextRequestSequence;
+  private long nextResponseSequence;
+  private boolean readSuspended;
+  private boolean closed;
+
+  /**
+   * Constructs a new pipeline for the given channel.
+   *
+   * @param channel            the channel of the connection.
+   * @param maxPendingRequests the maximum amount of requests that can be outstanding before reading is suspended.
+   * @throws NullPointerException     if the given channel is null.
+   * @throws IllegalArgumentException if the given maximum amount of pending requests is not positive.
+   */
+  public NettyHttpPipeline(@NonNull Channel channel, int maxPendingRequests) {
+    if (maxPendingRequests <= 0) {
+      throw new IllegalArgumentException("Maximum pending requests must be positive");
+    }
+
+    this.channel = channel;
+    this.maxPendingRequests = maxPendingRequests;
+  }
+
+  /**
+   * Assigns the sequence number to the next request received from the connection, suspending the reading from the
+   * connection if the maximum amount of outstanding requests is reached. This method must be called from the event
+   * loop of the channel.
+   *
+   * @return the sequence number of the received request.
+   */
+  public long nextSequence() {
+    var sequence = this.nextRequestSequence++;
+    if (!this.readSuspended && this.pendingRequests() >= this.maxPendingRequests) {
+      this.readSuspended = true;
+      this.channel.setOption(ChannelOption.AUTO_READ, false);
+    }
+
+    return sequence;
+  }
+
+  /**
+   * Completes the request with the given sequence number with the given response. The response is written once the
+   * responses of all previous requests were written. This method can be called from any thread. Responses for requests
+   * that were already answered or for closed connections are discarded.
+   *
+   * @param sequence the sequence number of the request to answer.
+   * @param response the response to the request.
+   * @throws NullPointerException if the given response is null.
+   */
+  public void respond(long sequence, @NonNull PipelinedResponse response) {
+    var executor = this.channel.executor();
+    if (executor.inEventLoop()) {
+      this.enqueueResponse(sequence, response);
+    } else {
+      try {
+        executor.execute(() -> this.enqueueResponse(sequence, response));
+      } catch (RejectedExecutionException exception) {
+        // the event loop was shut down, the response can never be written
+        response.discard();
+      }
+    }
+  }
+
+  /**
+   * Closes this pipeline, discarding all responses that are waiting to be written. This method must be called from
+   * the event loop of the channel.
+   */
+  public void close() {
+    this.closed = true;
+    for (var response : this.completedResponses.values()) {
+      response.discard();
+    }
+    this.completedResponses.clear();
+  }
+
+  private long pendingRequests() {
+    return this.nextRequestSequence - this.nextResponseSequence;
+  }
+
+  private void enqueueResponse(long sequence, @NonNull PipelinedResponse response) {
+    if (this.closed || sequence < this.nextResponseSequence || this.completedResponses.containsKey(sequence)) {
+      // the connection was closed or the request was already answered
+      response.discard();
+      return;
+    }
+
+    // write all responses that are next in line and flush them at once
+    this.completedResponses.put(sequence, response);
+    var written = false;
+    PipelinedResponse next;
+    while (!this.closed && (next = this.completedResponses.remove(this.nextResponseSequence)) != null) {
+      this.nextResponseSequence++;
+      next.write(this.channel);
+      written = true;
+
+      // responses after a response that closes the connection can never be received by the client
+      if (next.closeAfter()) {
+        this.close();
+      }
+    }
+
+    if (written) {
+      this.channel.flush();
+    }
+
+    // resume reading from the connection if enough responses were written
+    if (this.readSuspended && !this.closed && this.pendingRequests() < this.maxPendingRequests) {
+      this.readSuspended = false;
+      this.channel.setOption(ChannelOption.AUTO_READ, true);
+    }
+  }
+
+  /**
+   * A response to a pipelined request.
+   *
+   * @param messages           the messages to write to the channel for the response, in order.
+   * @param closeAfter         if the connection should be closed after the response was written.
+   * @param completionListener a listener to call once the response was written or discarded, can be null.
+   * @since 1.0
+   */
+  record PipelinedResponse(
+    @NonNull List<Object> messages,
+    boolean closeAfter,
+    @Nullable Runnable completionListener
+  ) {
+
+    /**
+     * Writes the messages of this response to the given channel, without flushing the channel.
+     *
+     * @param channel the channel to write the response to.
+     * @throws NullPointerException if the given channel is null.
+     */
+    void write(@NonNull Channel channel) {
+      Future<Void> future = null;
+      for (var message : this.messages) {
+        future = channel.write(message);
+      }
+
+      if (future == null) {
+        // nothing to write, the response was sent by some other means
+        this.complete();
+        return;
+      }
+
+      future.addListener(channel, ChannelFutureListeners.FIRE_EXCEPTION_ON_FAILURE);
+      if (this.closeAfter) {
+        future.addListener(channel, ChannelFutureListeners.CLOSE);
+      }
+      future.addListener(ignored -> this.complete());
+    }
+
+    /**
+     * Releases the messages of this response without writing them.
+     */
+    void discard() {
+      for (var message : this.messages) {
+        if (message instanceof ChunkedInput<?> chunkedInput) {
+          try {
+            chunkedInput.close();
+          } catch (Exception ignored) {
+            // nothing we can do about that
+          }
+        } else {
+          Resource.dispose(message);
+        }
+      }
+
+      this.complete();
+    }
+
+    private void complete() {
+      if (this.completionListener != null) {
+        this.completionListener.run();
+      }
+    }
+  }
+}
@@ -17,10 +17,13 @@
 package eu.cloudnetservice.ext.rest.netty;
 
 import eu.cloudnetservice.ext.rest.api.HttpServer;
+import eu.cloudnetservice.ext.rest.api.accesslog.AccessLog;
+import eu.cloudnetservice.ext.rest.api.accesslog.Slf4jAccessLogWriter;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.DefaultHttpAnnotationParser;
 import eu.cloudnetservice.ext.rest.api.annotation.parser.HttpAnnotationParser;
 import eu.cloudnetservice.ext.rest.api.config.ComponentConfig;
 import eu.cloudnetservice.ext.rest.api.config.SslConfiguration;
+import eu.cloudnetservice.ext.rest.api.metrics.HttpServerMetrics;
 import eu.cloudnetservice.ext.rest.api.registry.HttpHandlerRegistry;
 import eu.cloudnetservice.ext.rest.api.util.HostAndPort;
 import io.netty5.bootstrap.ServerBootstrap;
@@ -38,6 +41,8 @@
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -60,6 +65,12 @@ final class NettyHttpServer implements HttpServer {
   private final HttpHandlerRegistry httpHandlerRegistry;
   private final HttpAnnotationParser annotationParser;
 
+  private final HttpServerMetrics metrics = new HttpServerMetrics();
+  private final NettyEventLoopWatchdog eventLoopWatchdog;
+  private final AccessLog accessLog;
+  private final NettySlowRequestDetector slowRequestDetector;
+  private final NettyBulkheads bulkheads;
+
   /**
    * Constructs a new netty http server instance with the given ssl configuration.
    *
@@ -79,6 +90,55 @@ public NettyHttpServer(@NonNull ComponentConfig componentConfig) {
     this.transportType = NettyTransportType.availableTransport(componentConfig.disableNativeTransport());
     this.bossEventLoopGroup = this.transportType.createEventLoopGroup(1);
     this.workerEventLoopGroup = this.transportType.createEventLoopGroup(0);
+
+    // watch the worker event loops for tasks that block them, if enabled
+    var eventLoopStallThreshold = componentConfig.eventLoopStallThreshold();
+    if (eventLoopStallThreshold != null) {
+      this.eventLoopWatchdog = new NettyEventLoopWatchdog(this.workerEventLoopGroup, eventLoopStallThreshold, this.metrics);
+    } else {
+      this.eventLoopWatchdog = null;
+    }
+
+    // write the access log in the background, if enabled
+    if (componentConfig.accessLog()) {
+      this.accessLog = new AccessLog(AccessLog.DEFAULT_CAPACITY, new Slf4jAccessLogWriter());
+      this.metrics.registerCounter(
+        "http_server_access_log_dropped_total",
+        "The total amount of access log entries dropped because the writer could not keep up",
+        Map.of(),
+        this.accessLog::droppedEntries);
+    } else {
+      this.accessLog = null;
+    }
+
+    // detect requests which are handled too long, if enabled
+    var slowRequestThreshold = componentConfig.slowRequestThreshold();
+    if (slowRequestThreshold != null) {
+      this.slowRequestDetector = new NettySlowRequestDetector(slowRequestThreshold, this.metrics);
+    } else {
+      this.slowRequestDetector = null;
+    }
+
+    // isolate the handlers assigned to a bulkhead in their own executor pools
+    this.bulkheads = new NettyBulkheads(componentConfig.bulkheads(), this.metrics);
+
+    // expose the state of the request executor
+    registerExecutorMetrics(this.metrics, componentConfig.executorService());
+  }
+
+  private static void registerExecutorMetrics(@NonNull HttpServerMetrics metrics, @NonNull ExecutorService executor) {
+    if (executor instanceof ThreadPoolExecutor threadPoolExecutor) {
+      metrics.registerGauge(
+        "http_server_executor_queue_size",
+        "The amount of requests waiting for a free request executor thread",
+        Map.of(),
+        () -> threadPoolExecutor.getQueue().size());
+      metrics.registerGauge(
+        "http_server_executor_active_threads",
+        "The amount of request executor threads that are currently processing a request",
+        Map.of(),
+        threadPoolExecutor::getActiveCount);
+    }
   }
 
   private static @Nullable SslContext initSslContext(@Nullable SslConfiguration sslConfiguration) {
@@ -130,6 +190,41 @@ public boolean sslEnabled() {
     return this.httpHandlerRegistry;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpServerMetrics metrics() {
+    return this.metrics;
+  }
+
+  /**
+   * Get the access log of this http server.
+   *
+   * @return the access log of this http server, null if the access log is disabled.
+   */
+  @Nullable AccessLog accessLog() {
+    return this.accessLog;
+  }
+
+  /**
+   * Get the slow request detector of this http server.
+   *
+   * @return the slow request detector of this http server, null if the detection is disabled.
+   */
+  @Nullable NettySlowRequestDetector slowRequestDetector() {
+    return this.slowRequestDetector;
+  }
+
+  /**
+   * Get the executor pools of the bulkheads configured for this http server.
+   *
+   * @return the executor pools of the bulkheads configured for this http server.
+   */
+  @NonNull NettyBulkheads bulkheads() {
+    return this.bulkheads;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -184,6 +279,20 @@ public void close() {
       entry.cancel();
     }
 
+    if (this.eventLoopWatchdog != null) {
+      this.eventLoopWatchdog.close();
+    }
+
+    if (this.slowRequestDetector != null) {
+      this.slowRequestDetector.close();
+    }
+
+    if (this.accessLog != null) {
+      this.accessLog.close();
+    }
+
+    this.bulkheads.close();
+
     this.bossEventLoopGroup.shutdownGracefully();
     this.workerEventLoopGroup.shutdownGracefully();
   }
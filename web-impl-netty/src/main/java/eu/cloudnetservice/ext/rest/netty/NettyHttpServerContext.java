@@ -24,7 +24,11 @@
 import eu.cloudnetservice.ext.rest.api.HttpRequest;
 import eu.cloudnetservice.ext.rest.api.HttpResponse;
 import eu.cloudnetservice.ext.rest.api.HttpServer;
+import eu.cloudnetservice.ext.rest.api.RequestDeadline;
+import eu.cloudnetservice.ext.rest.api.auth.RestUser;
 import eu.cloudnetservice.ext.rest.api.connection.BasicHttpConnectionInfo;
+import eu.cloudnetservice.ext.rest.api.metrics.RequestTimings;
+import eu.cloudnetservice.ext.rest.api.util.RequestTarget;
 import eu.cloudnetservice.ext.rest.api.websocket.WebSocketChannel;
 import io.netty5.buffer.Buffer;
 import io.netty5.buffer.DefaultBufferAllocators;
@@ -33,10 +37,10 @@
 import io.netty5.handler.codec.http.HttpResponseStatus;
 import io.netty5.handler.codec.http.websocketx.WebSocketServerHandshakerFactory;
 import io.netty5.util.Send;
-import java.net.URI;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -47,20 +51,24 @@
  */
 final class NettyHttpServerContext implements HttpContext {
 
+  final NettyHttpServerRequest httpServerRequest;
   final NettyHttpServerResponse httpServerResponse;
   final Multimap<String, Object> invocationHints = ArrayListMultimap.create();
 
   private final Channel nettyChannel;
   private final io.netty5.handler.codec.http.HttpRequest httpRequest;
 
+  private final RequestTimings timings;
   private final NettyHttpServer nettyHttpServer;
   private final BasicHttpConnectionInfo connectionInfo;
-  private final NettyHttpServerRequest httpServerRequest;
+  private final AtomicBoolean completed = new AtomicBoolean();
 
   volatile boolean closeAfter = false;
   volatile boolean cancelSendResponse = false;
+  volatile NettyRequestDeadline deadline;
 
   private NettyHttpChannel channel;
+  private volatile RestUser authenticatedUser;
   private volatile NettyWebSocketServerChannel webSocketServerChannel;
 
   /**
@@ -68,26 +76,29 @@ final class NettyHttpServerContext implements HttpContext {
    *
    * @param nettyHttpServer the http server which received the request handled by this context.
    * @param channel         the channel to which the request was sent.
-   * @param uri             the uri of the request.
+   * @param target          the parsed request target of the request.
    * @param pathParameters  the path parameters pre-parsed, by default an empty map.
    * @param httpRequest     the http request which was received originally.
    * @param buffer          the buffer wrapped in a send which contains the request body.
+   * @param timings         the timings of the processing stages of the request.
    * @throws NullPointerException if one of the constructor parameters is null.
    */
   public NettyHttpServerContext(
     @NonNull NettyHttpServer nettyHttpServer,
     @NonNull NettyHttpChannel channel,
-    @NonNull URI uri,
+    @NonNull RequestTarget target,
     @NonNull Map<String, String> pathParameters,
     @NonNull io.netty5.handler.codec.http.HttpRequest httpRequest,
-    @Nullable Send<Buffer> buffer
+    @Nullable Send<Buffer> buffer,
+    @NonNull RequestTimings timings
   ) {
+    this.timings = timings;
     this.nettyHttpServer = nettyHttpServer;
     this.channel = channel;
     this.httpRequest = httpRequest;
     this.nettyChannel = channel.channel();
 
-    this.httpServerRequest = new NettyHttpServerRequest(this, httpRequest, pathParameters, uri, buffer);
+    this.httpServerRequest = new NettyHttpServerRequest(this, httpRequest, pathParameters, target, buffer);
     this.httpServerResponse = new NettyHttpServerResponse(this, httpRequest);
 
     // extract the requesting connection info
@@ -100,6 +111,16 @@ public NettyHttpServerContext(
       .extractConnectionInfo(this, baseConnectInfo);
   }
 
+  /**
+   * Marks the handling of the request of this context as completed. A request is only recorded once as completed,
+   * even if it fails after its response was already passed to the connection.
+   *
+   * @return true if the request was marked as completed by this call, false if it was completed before.
+   */
+  boolean markCompleted() {
+    return this.completed.compareAndSet(false, true);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -136,7 +157,8 @@ public NettyHttpServerContext(
               this.channel.channel(),
               this.nettyHttpServer.sslEnabled() ? "wss" : "ws",
               this.channel.serverAddress(),
-              this.channel.clientAddress());
+              this.channel.clientAddress(),
+              this.channel.authenticationMemo());
 
             // successfully greeted the client, setup everything we need
             this.webSocketServerChannel = new NettyWebSocketServerChannel(this.channel, this.nettyChannel);
@@ -211,6 +233,39 @@ public NettyHttpServerContext(
     return this.connectionInfo;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull RequestTimings timings() {
+    return this.timings;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable RequestDeadline deadline() {
+    return this.deadline;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable RestUser authenticatedUser() {
+    return this.authenticatedUser;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpContext authenticatedUser(@Nullable RestUser user) {
+    this.authenticatedUser = user;
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -19,21 +19,31 @@
 import com.google.common.net.HttpHeaders;
 import eu.cloudnetservice.ext.rest.api.HttpContext;
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
+import eu.cloudnetservice.ext.rest.api.RequestDeadline;
+import eu.cloudnetservice.ext.rest.api.accesslog.AccessLogEntry;
+import eu.cloudnetservice.ext.rest.api.auth.ChannelAuthenticationMemo;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
 import eu.cloudnetservice.ext.rest.api.cors.CorsRequestProcessor;
 import eu.cloudnetservice.ext.rest.api.cors.DefaultCorsRequestProcessor;
+import eu.cloudnetservice.ext.rest.api.metrics.HttpServerMetrics;
+import eu.cloudnetservice.ext.rest.api.metrics.RequestTimingEvent;
+import eu.cloudnetservice.ext.rest.api.metrics.RequestTimings;
+import eu.cloudnetservice.ext.rest.api.metrics.RouteMetrics;
+import eu.cloudnetservice.ext.rest.api.problem.StandardProblemDetail;
 import eu.cloudnetservice.ext.rest.api.response.IntoResponse;
 import eu.cloudnetservice.ext.rest.api.response.Response;
 import eu.cloudnetservice.ext.rest.api.tree.HttpHandlerConfigPair;
 import eu.cloudnetservice.ext.rest.api.util.HostAndPort;
+import eu.cloudnetservice.ext.rest.api.util.RequestTarget;
 import io.netty5.buffer.Buffer;
 import io.netty5.channel.Channel;
-import io.netty5.channel.ChannelFutureListeners;
 import io.netty5.channel.ChannelHandlerContext;
 import io.netty5.channel.SimpleChannelInboundHandler;
 import io.netty5.handler.codec.http.DefaultHttpResponse;
 import io.netty5.handler.codec.http.EmptyLastHttpContent;
 import io.netty5.handler.codec.http.FullHttpRequest;
 import io.netty5.handler.codec.http.HttpChunkedInput;
+import io.netty5.handler.codec.http.HttpHeaderNames;
 import io.netty5.handler.codec.http.HttpHeaderValues;
 import io.netty5.handler.codec.http.HttpRequest;
 import io.netty5.handler.codec.http.HttpResponseStatus;
@@ -42,11 +52,12 @@
 import io.netty5.handler.timeout.ReadTimeoutException;
 import io.netty5.util.AttributeKey;
 import io.netty5.util.Send;
-import io.netty5.util.concurrent.Future;
 import java.io.IOException;
-import java.net.URI;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -71,7 +82,9 @@ final class NettyHttpServerHandler extends SimpleChannelInboundHandler<HttpReque
 
   private final ExecutorService executorService;
 
+  // both are only written on the event loop of the channel, the executor task submission publishes them safely
   private NettyHttpChannel channel;
+  private NettyHttpPipeline pipeline;
 
   /**
    * Constructs a new http server handler instance.
@@ -92,11 +105,21 @@ public NettyHttpServerHandler(
     this.executorService = executorService;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handlerAdded(@NonNull ChannelHandlerContext ctx) {
+    var maxPipelinedRequests = this.nettyHttpServer.componentConfig().maxPipelinedRequests();
+    this.pipeline = new NettyHttpPipeline(ctx.channel(), maxPipelinedRequests);
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public void channelInactive(@NonNull ChannelHandlerContext ctx) {
+    this.pipeline.close();
     if (!ctx.channel().isActive() || !ctx.channel().isOpen() || !ctx.channel().isWritable()) {
       ctx.channel().close();
     }
@@ -125,12 +148,33 @@ public void channelReadComplete(@NonNull ChannelHandlerContext ctx) {
    */
   @Override
   protected void messageReceived(@NonNull ChannelHandlerContext ctx, @NonNull HttpRequest msg) {
-    // validate that the request was actually decoded before processing
+    // validate that the request was actually decoded before processing, the response must still be sent after the
+    // responses to the requests that were pipelined before this request
+    var sequence = this.pipeline.nextSequence();
     if (msg.decoderResult().isFailure()) {
-      NettyHttpServerUtil.sendResponseAndClose(ctx, HttpResponseStatus.BAD_REQUEST);
+      this.respondAndClose(sequence, HttpResponseStatus.BAD_REQUEST);
       return;
     }
 
+    // check if the HttpChannel for this channel wasn't constructed yet - do that if needed now
+    if (this.channel == null) {
+      // get the client address of the channel - either from some proxy info or from the supplied client address
+      var channel = ctx.channel();
+      var clientAddress = channel.attr(PROXY_REMOTE_ADDRESS_KEY).getAndSet(null);
+      if (clientAddress == null) {
+        clientAddress = HostAndPortUtil.extractFromSocketAddressInfo(channel.remoteAddress());
+      }
+
+      // get the request scheme and construct the channel info
+      var requestScheme = this.nettyHttpServer.sslEnabled() ? "https" : "http";
+      this.channel = new NettyHttpChannel(
+        channel,
+        requestScheme,
+        this.connectedAddress,
+        clientAddress,
+        new ChannelAuthenticationMemo());
+    }
+
     // handle the message inside the executor from here on
     Send<Buffer> buffer;
     if (msg instanceof FullHttpRequest request) {
@@ -139,7 +183,45 @@ protected void messageReceived(@NonNull ChannelHandlerContext ctx, @NonNull Http
       buffer = null;
     }
 
-    this.executorService.submit(() -> this.handleMessage(ctx.channel(), msg, buffer));
+    var receivedAt = System.nanoTime();
+    this.executorService.execute(() -> this.handleMessage(ctx.channel(), msg, buffer, sequence, receivedAt));
+  }
+
+  private void respondAndClose(long sequence, @NonNull HttpResponseStatus status) {
+    var response = NettyHttpServerUtil.newClosingResponse(status);
+    this.pipeline.respond(sequence, new NettyHttpPipeline.PipelinedResponse(List.of(response), true, null));
+  }
+
+  /**
+   * Answers a request that failed unexpectedly while handling it with an internal server error and closes the
+   * connection. The request must be answered in any case, the requests pipelined after it would never be answered
+   * otherwise. The body of the request is released and the request is recorded as completed, unless that already
+   * happened before the request failed.
+   *
+   * @param context      the handling context of the request, null if the request failed before it was constructed.
+   * @param routeMetrics the metrics of the route that handles the request.
+   * @param sequence     the sequence number of the request in the pipeline of the connection.
+   * @param receivedAt   the nano time at which the request was received from the channel.
+   * @param throwable    the throwable that caused the request to fail.
+   * @throws NullPointerException if the given route metrics or throwable is null.
+   */
+  private void failRequest(
+    @Nullable NettyHttpServerContext context,
+    @NonNull RouteMetrics routeMetrics,
+    long sequence,
+    long receivedAt,
+    @NonNull Throwable throwable
+  ) {
+    LOGGER.error("Exception caught during processing of http request", throwable);
+    this.respondAndClose(sequence, HttpResponseStatus.INTERNAL_SERVER_ERROR);
+
+    var statusCode = HttpResponseStatus.INTERNAL_SERVER_ERROR.code();
+    if (context == null) {
+      this.completeRequest(routeMetrics, statusCode, receivedAt);
+    } else {
+      context.httpServerRequest.release();
+      this.completeRequest(context, routeMetrics, statusCode, receivedAt);
+    }
   }
 
   /**
@@ -148,74 +230,257 @@ protected void messageReceived(@NonNull ChannelHandlerContext ctx, @NonNull Http
    * @param channel     the channel from which the request came.
    * @param httpRequest the decoded request to handle.
    * @param buffer      the buffer of the incoming request containing the request body.
+   * @param sequence    the sequence number of the request in the pipeline of the connection.
+   * @param receivedAt  the nano time at which the request was received from the channel.
    * @throws NullPointerException if the given channel or request is null.
    */
   private void handleMessage(
     @NonNull Channel channel,
     @NonNull HttpRequest httpRequest,
-    @Nullable Send<Buffer> buffer
+    @Nullable Send<Buffer> buffer,
+    long sequence,
+    long receivedAt
   ) {
-    // if an opaque uri is sent to the server we reject the request immediately as it does
-    // not contain the required information to properly process the request (especially due
-    // to the lack of path information which is the base of our internal handling)
-    var uri = URI.create(httpRequest.uri());
-    if (uri.isOpaque()) {
-      NettyHttpServerUtil.sendResponseAndClose(channel, HttpResponseStatus.BAD_REQUEST);
-      return;
-    }
+    var handleBegin = System.nanoTime();
+    var metrics = this.nettyHttpServer.metrics();
+    metrics.requestStarted();
 
-    // check if the HttpChannel for this channel wasn't constructed yet - do that if needed now
-    if (this.channel == null) {
-      // get the client address of the channel - either from some proxy info or from the supplied client address
-      var clientAddress = channel.attr(PROXY_REMOTE_ADDRESS_KEY).getAndSet(null);
-      if (clientAddress == null) {
-        clientAddress = HostAndPortUtil.extractFromSocketAddressInfo(channel.remoteAddress());
+    NettyHttpServerContext context = null;
+    try {
+      // if an opaque or malformed uri is sent to the server we reject the request immediately as it does
+      // not contain the required information to properly process the request (especially due
+      // to the lack of path information which is the base of our internal handling)
+      RequestTarget target;
+      try {
+        target = RequestTarget.parse(httpRequest.uri());
+      } catch (IllegalArgumentException exception) {
+        if (buffer != null) {
+          buffer.close();
+        }
+
+        this.respondAndClose(sequence, HttpResponseStatus.BAD_REQUEST);
+        this.completeRequest(metrics.unmatchedRoute(), HttpResponseStatus.BAD_REQUEST.code(), receivedAt);
+        return;
       }
 
-      // get the request scheme and construct the channel info
-      var requestScheme = this.nettyHttpServer.sslEnabled() ? "https" : "http";
-      this.channel = new NettyHttpChannel(channel, requestScheme, this.connectedAddress, clientAddress);
+      // only record the request timings if they are either sent to the client or recorded by the flight recorder
+      var componentConfig = this.nettyHttpServer.componentConfig();
+      var timingEvent = new RequestTimingEvent();
+      timingEvent.begin();
+      var timings = RequestTimings.create(componentConfig.serverTimingHeader() || timingEvent.isEnabled());
+      timings.record(RequestTimings.Stage.QUEUE, handleBegin - receivedAt);
+
+      // build the handling context
+      context = new NettyHttpServerContext(
+        this.nettyHttpServer,
+        this.channel,
+        target,
+        new HashMap<>(),
+        httpRequest,
+        buffer,
+        timings);
+      timings.end(RequestTimings.Stage.DECODE, handleBegin);
+
+      this.routeRequest(channel, httpRequest, target, context, timingEvent, sequence, receivedAt);
+    } catch (Throwable throwable) {
+      // the body is owned by the context once it was constructed
+      if (context == null && buffer != null) {
+        buffer.close();
+      }
+
+      this.failRequest(context, metrics.unmatchedRoute(), sequence, receivedAt, throwable);
     }
+  }
 
-    // build the handling context
-    var context = new NettyHttpServerContext(
-      this.nettyHttpServer,
-      this.channel,
-      uri,
-      new HashMap<>(),
-      httpRequest,
-      buffer);
+  /**
+   * Routes the request of the given context to the handler that is responsible for it and invokes the handler, either
+   * directly or in the executor of the bulkhead the handler is assigned to.
+   *
+   * @param channel     the channel from which the request came.
+   * @param httpRequest the decoded request to route.
+   * @param target      the parsed target of the request.
+   * @param context     the handling context of the request.
+   * @param timingEvent the flight recorder event of the request.
+   * @param sequence    the sequence number of the request in the pipeline of the connection.
+   * @param receivedAt  the nano time at which the request was received from the channel.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  private void routeRequest(
+    @NonNull Channel channel,
+    @NonNull HttpRequest httpRequest,
+    @NonNull RequestTarget target,
+    @NonNull NettyHttpServerContext context,
+    @NonNull RequestTimingEvent timingEvent,
+    long sequence,
+    long receivedAt
+  ) {
+    var metrics = this.nettyHttpServer.metrics();
+    var timings = context.timings();
+
+    // track the request while it is handled to detect requests which are handled too long
+    var slowRequestDetector = this.nettyHttpServer.slowRequestDetector();
+    var inFlightRequest = slowRequestDetector == null ? null : slowRequestDetector.track(context, receivedAt);
 
     // find the node that is responsible to handle the request
-    var fullPath = uri.getPath();
-    var matchingTreeNode = this.nettyHttpServer.handlerRegistry().findHandler(fullPath, context);
+    var routingBegin = timings.begin();
+    var matchingTreeNode = this.nettyHttpServer.handlerRegistry().findHandler(target.pathSegments(), context);
+    var routeMetrics = metrics.unmatchedRoute();
+    var routePath = matchingTreeNode != null ? matchingTreeNode.treePath() : HttpServerMetrics.UNMATCHED_ROUTE;
+    if (inFlightRequest != null) {
+      inFlightRequest.route(routePath);
+    }
 
-    if (matchingTreeNode == null) {
-      // no matching node found - fallback
-      this.postToFallbackHandler(context);
-    } else {
-      var preflightRequestInfo = this.corsRequestProcessor.extractInfoFromPreflightRequest(context.request());
-      if (preflightRequestInfo != null) {
-        // preflight request info is present, respond accordingly to the request
-        var targetHandler = matchingTreeNode.pathNode().findHandlerForMethod(preflightRequestInfo.requestMethod());
-        var handlerConfig = targetHandler != null ? targetHandler.config() : null;
-        this.corsRequestProcessor.processPreflightRequest(context, preflightRequestInfo, handlerConfig);
+    HttpHandlerConfigPair invokedHandler = null;
+    try {
+      if (matchingTreeNode == null) {
+        // no matching node found - fallback
+        timings.end(RequestTimings.Stage.ROUTING, routingBegin);
+        this.postToFallbackHandler(context);
       } else {
-        // validate that the target handler for the request is present
-        var targetHandler = matchingTreeNode.pathNode().findHandlerForMethod(httpRequest.method().name());
-        if (targetHandler == null) {
-          // no target handler found - fallback
-          this.postToFallbackHandler(context);
+        var preflightRequestInfo = this.corsRequestProcessor.extractInfoFromPreflightRequest(context.request());
+        if (preflightRequestInfo != null) {
+          // preflight request info is present, respond accordingly to the request
+          var targetHandler = matchingTreeNode.pathNode().findHandlerForMethod(preflightRequestInfo.requestMethod());
+          var handlerConfig = targetHandler != null ? targetHandler.config() : null;
+          routeMetrics = metrics.route(httpRequest.method().name(), routePath);
+          this.corsRequestProcessor.processPreflightRequest(context, preflightRequestInfo, handlerConfig);
+          timings.end(RequestTimings.Stage.ROUTING, routingBegin);
         } else {
-          // validate that the request conforms to the CORS policy before handling
-          if (this.corsRequestProcessor.processNormalRequest(context, targetHandler.config())) {
-            var handlerResponse = this.postRequestToHandler(context, targetHandler);
-            if (handlerResponse != null) {
-              handlerResponse.serializeIntoResponse(context.response());
+          // validate that the target handler for the request is present
+          var targetHandler = matchingTreeNode.pathNode().findHandlerForMethod(httpRequest.method().name());
+          if (targetHandler == null) {
+            // no target handler found - fallback
+            timings.end(RequestTimings.Stage.ROUTING, routingBegin);
+            this.postToFallbackHandler(context);
+          } else {
+            // validate that the request conforms to the CORS policy before handling
+            routeMetrics = metrics.route(httpRequest.method().name(), routePath);
+            var corsAllowed = this.corsRequestProcessor.processNormalRequest(context, targetHandler.config());
+            timings.end(RequestTimings.Stage.ROUTING, routingBegin);
+            if (corsAllowed) {
+              invokedHandler = targetHandler;
             }
           }
         }
       }
+    } finally {
+      if (inFlightRequest != null) {
+        inFlightRequest.close();
+      }
+    }
+
+    var request = new RoutedRequest(
+      channel,
+      httpRequest,
+      context,
+      routeMetrics,
+      routePath,
+      timingEvent,
+      sequence,
+      receivedAt);
+    if (invokedHandler == null) {
+      // the request was already handled while routing
+      this.sendResponse(request);
+      return;
+    }
+
+    // invoke handlers that are assigned to a bulkhead in the executor pool of the bulkhead
+    var bulkhead = invokedHandler.config().bulkhead();
+    var bulkheads = this.nettyHttpServer.bulkheads();
+    if (bulkheads.contains(bulkhead)) {
+      var targetHandler = invokedHandler;
+      var queuedAt = timings.begin();
+      var accepted = bulkheads.execute(bulkhead, () -> {
+        try {
+          timings.end(RequestTimings.Stage.QUEUE, queuedAt);
+          this.invokeHandler(request, targetHandler);
+        } catch (Throwable throwable) {
+          this.failRequest(context, request.routeMetrics(), sequence, receivedAt, throwable);
+        }
+      });
+      if (!accepted) {
+        // the bulkhead has no capacity left, reject the request without affecting the other handlers
+        StandardProblemDetail.BULKHEAD_SATURATED.intoResponse().serializeIntoResponse(context.response());
+        this.sendResponse(request);
+      }
+    } else {
+      try {
+        this.invokeHandler(request, invokedHandler);
+      } catch (Throwable throwable) {
+        this.failRequest(context, request.routeMetrics(), sequence, receivedAt, throwable);
+      }
+    }
+  }
+
+  /**
+   * Invokes the given handler for the given routed request and sends the response of the handler to the client.
+   *
+   * @param request       the request to invoke the handler for.
+   * @param targetHandler the handler to invoke.
+   * @throws NullPointerException if the given request or handler is null.
+   */
+  private void invokeHandler(@NonNull RoutedRequest request, @NonNull HttpHandlerConfigPair targetHandler) {
+    var context = request.context();
+    var slowRequestDetector = this.nettyHttpServer.slowRequestDetector();
+    var inFlightRequest = slowRequestDetector == null ? null : slowRequestDetector.track(context, request.receivedAt());
+    try {
+      if (inFlightRequest != null) {
+        inFlightRequest.route(request.routePath());
+      }
+
+      this.startDeadline(request, targetHandler.config());
+      var handlerResponse = this.postRequestToHandler(context, targetHandler);
+      if (handlerResponse != null) {
+        var serializationBegin = context.timings().begin();
+        handlerResponse.serializeIntoResponse(context.response());
+        context.timings().end(RequestTimings.Stage.SERIALIZATION, serializationBegin);
+      }
+    } finally {
+      if (inFlightRequest != null) {
+        inFlightRequest.close();
+      }
+
+      // the handler is done with the request, regardless of the outcome. stop the timeout task and clear the interrupt
+      // used to cancel the handler in case the deadline expired, the thread is reused for other requests
+      var deadline = context.deadline;
+      if (deadline != null && !deadline.complete()) {
+        Thread.interrupted();
+      }
+    }
+
+    this.sendResponse(request);
+  }
+
+  /**
+   * Sends the response that was set in the context of the given request to the client, unless the deadline of the
+   * request expired or the response is not sent by the server. The response is written once the responses to all
+   * requests that were pipelined before the request on the connection were written.
+   *
+   * @param request the request to send the response of.
+   * @throws NullPointerException if the given request is null.
+   */
+  private void sendResponse(@NonNull RoutedRequest request) {
+    var context = request.context();
+    var timings = context.timings();
+    var timingEvent = request.timingEvent();
+    var method = request.httpRequest().method().name();
+    var routePath = request.routePath();
+    var receivedAt = request.receivedAt();
+
+    // the handler is done with the request, views of the request body are no longer valid from here on
+    context.httpServerRequest.release();
+
+    // check if the deadline of the request expired while handling it, in that case the client already received a
+    // timeout response and the result of the handler is discarded
+    var deadline = context.deadline;
+    if (deadline != null && deadline.expired()) {
+      context.httpServerResponse.httpResponse.close();
+
+      var statusCode = HttpResponseStatus.GATEWAY_TIMEOUT.code();
+      timingEvent.commit(method, routePath, statusCode, timings);
+      this.completeRequest(context, request.routeMetrics(), statusCode, receivedAt);
+      this.logAccess(context, routePath, statusCode, -1, receivedAt);
+      return;
     }
 
     // check if the response set in the context should actually be transferred to the client
@@ -228,40 +493,174 @@ private void handleMessage(
         netty.headers().set(HttpHeaders.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
       }
 
+      // append the timings of the processing stages if requested
+      if (this.nettyHttpServer.componentConfig().serverTimingHeader()) {
+        var serverTiming = timings.toServerTimingHeader();
+        if (!serverTiming.isEmpty()) {
+          netty.headers().set(HttpHeaders.SERVER_TIMING, serverTiming);
+        }
+      }
+
       // transfer the data chunked to the client if a response stream was set, indicating a huge data chunk
-      Future<Void> future;
+      List<Object> messages;
+      long responseBytes;
+      var writeBegin = timings.begin();
       if (response.bodyStream() != null) {
         // set the chunk transfer header
         HttpUtil.setTransferEncodingChunked(netty, true);
-
-        // write the initial response to the client, use a void future as no monitoring is required
-        channel.write(new DefaultHttpResponse(netty.protocolVersion(), netty.status(), netty.headers()));
-        // write the actual content of the transfer into the channel using a progressive future
-        future = channel.writeAndFlush(new HttpChunkedInput(
-          new ChunkedStream(response.bodyStream()),
-          new EmptyLastHttpContent(channel.bufferAllocator())));
+        responseBytes = -1;
+
+        // write the initial response to the client, followed by the actual content of the transfer
+        messages = List.of(
+          new DefaultHttpResponse(netty.protocolVersion(), netty.status(), netty.headers()),
+          new HttpChunkedInput(
+            new ChunkedStream(response.bodyStream()),
+            new EmptyLastHttpContent(request.channel().bufferAllocator())));
       } else {
         // do not mark the request data as chunked
         HttpUtil.setTransferEncodingChunked(netty, false);
 
-        // Set the content length of the response and transfer the data to the client
-        HttpUtil.setContentLength(netty, netty.payload().readableBytes());
-        future = channel.writeAndFlush(netty);
+        // Set the content length of the response and transfer the data to the client. a not modified response has no
+        // body, a content length would describe the representation the client already has
+        responseBytes = netty.payload().readableBytes();
+        if (netty.status().code() == HttpResponseCode.NOT_MODIFIED.code()) {
+          netty.headers().remove(HttpHeaderNames.CONTENT_LENGTH);
+        } else {
+          HttpUtil.setContentLength(netty, responseBytes);
+        }
+        messages = List.of(netty);
       }
 
-      // add the listener that fires the exception if an error occurs during writing of the response
-      future.addListener(channel, ChannelFutureListeners.FIRE_EXCEPTION_ON_FAILURE);
-      if (context.closeAfter) {
-        future.addListener(channel, ChannelFutureListeners.CLOSE);
+      // record the request once the response was fully written to the client
+      var statusCode = netty.status().code();
+      this.pipeline.respond(request.sequence(), new NettyHttpPipeline.PipelinedResponse(
+        messages,
+        context.closeAfter,
+        () -> {
+          timings.end(RequestTimings.Stage.WRITE, writeBegin);
+          timingEvent.commit(method, routePath, statusCode, timings);
+          this.completeRequest(context, request.routeMetrics(), statusCode, receivedAt);
+          this.logAccess(context, routePath, statusCode, responseBytes, receivedAt);
+        }));
+    } else {
+      // the response is not sent by us, which only happens when upgrading to a websocket connection
+      this.pipeline.respond(request.sequence(), new NettyHttpPipeline.PipelinedResponse(List.of(), false, null));
+      var statusCode = HttpResponseStatus.SWITCHING_PROTOCOLS.code();
+      timingEvent.commit(method, routePath, statusCode, timings);
+      this.completeRequest(context, request.routeMetrics(), statusCode, receivedAt);
+      this.logAccess(context, routePath, statusCode, -1, receivedAt);
+    }
+  }
+
+  private void completeRequest(@NonNull RouteMetrics routeMetrics, int statusCode, long receivedAt) {
+    this.nettyHttpServer.metrics().requestCompleted(routeMetrics, statusCode, System.nanoTime() - receivedAt);
+  }
+
+  private void completeRequest(
+    @NonNull NettyHttpServerContext context,
+    @NonNull RouteMetrics routeMetrics,
+    int statusCode,
+    long receivedAt
+  ) {
+    if (context.markCompleted()) {
+      this.completeRequest(routeMetrics, statusCode, receivedAt);
+    }
+  }
+
+  private void startDeadline(@NonNull RoutedRequest request, @NonNull HttpHandlerConfig handlerConfig) {
+    var context = request.context();
+    var timeout = this.resolveRequestTimeout(context, handlerConfig);
+    if (timeout != null) {
+      // the deadline is relative to the time the request was received, the time in the queue counts into it
+      var deadline = new NettyRequestDeadline(request.receivedAt() + timeout.toNanos());
+      context.deadline = deadline;
+
+      var remainingNanos = Math.max(0, deadline.deadlineNanos() - System.nanoTime());
+      deadline.timeoutFuture(request.channel().executor().schedule(
+        () -> this.expireRequest(request, deadline),
+        remainingNanos,
+        TimeUnit.NANOSECONDS));
+    }
+  }
+
+  private @Nullable Duration resolveRequestTimeout(
+    @NonNull HttpContext context,
+    @NonNull HttpHandlerConfig handlerConfig
+  ) {
+    // the timeout of the handler overrides the global timeout, a zero timeout disables the timeout for the handler.
+    // in that case the client is not allowed to impose a timeout either, as there is no timeout to shorten
+    var timeout = handlerConfig.timeout();
+    if (timeout == null) {
+      timeout = this.nettyHttpServer.componentConfig().requestTimeout();
+    } else if (timeout.isZero() || timeout.isNegative()) {
+      return null;
+    }
+
+    // the client can request a timeout in milliseconds, but is only allowed to shorten the timeout
+    var requestedTimeout = context.request().headers().firstValue(RequestDeadline.TIMEOUT_HEADER);
+    if (requestedTimeout != null) {
+      try {
+        var requestedMillis = Long.parseLong(requestedTimeout.trim());
+        if (requestedMillis > 0 && (timeout == null || requestedMillis < timeout.toMillis())) {
+          timeout = Duration.ofMillis(requestedMillis);
+        }
+      } catch (NumberFormatException ignored) {
+        // invalid timeout requested by the client, ignore it
       }
     }
+
+    return timeout;
+  }
+
+  private void expireRequest(@NonNull RoutedRequest request, @NonNull NettyRequestDeadline deadline) {
+    // do not interfere with requests that were upgraded to a websocket connection
+    var context = request.context();
+    if (context.cancelSendResponse || !deadline.expire()) {
+      return;
+    }
+
+    // the handler might still modify the response of the context, use a fresh response to notify the client
+    var response = new NettyHttpServerResponse(context, request.httpRequest());
+    StandardProblemDetail.REQUEST_DEADLINE_EXCEEDED.intoResponse().serializeIntoResponse(response);
+
+    // close the connection as the handler might still be running
+    var netty = response.httpResponse;
+    netty.headers().set(HttpHeaders.CONNECTION, HttpHeaderValues.CLOSE);
+    HttpUtil.setContentLength(netty, netty.payload().readableBytes());
+    this.pipeline.respond(request.sequence(), new NettyHttpPipeline.PipelinedResponse(List.of(netty), true, null));
+  }
+
+  private void logAccess(
+    @NonNull HttpContext context,
+    @NonNull String routePath,
+    int statusCode,
+    long responseBytes,
+    long receivedAt
+  ) {
+    var accessLog = this.nettyHttpServer.accessLog();
+    if (accessLog != null) {
+      var user = context.authenticatedUser();
+      accessLog.log(new AccessLogEntry(
+        context.request().method(),
+        routePath,
+        statusCode,
+        responseBytes,
+        System.nanoTime() - receivedAt,
+        user == null ? null : user.username(),
+        context.connectionInfo().clientAddress().host()));
+    }
   }
 
   private void postToFallbackHandler(@NonNull NettyHttpServerContext context) {
     var fallbackHandler = this.nettyHttpServer.componentConfig().fallbackHttpHandler();
     try {
+      var invocationBegin = context.timings().begin();
       var response = fallbackHandler.handle(context).intoResponse();
+      context.timings().end(RequestTimings.Stage.INVOCATION, invocationBegin);
+
+      var serializationBegin = context.timings().begin();
       response.serializeIntoResponse(context.response());
+      context.timings().end(RequestTimings.Stage.SERIALIZATION, serializationBegin);
     } catch (Exception exception) {
       // unable to handle the exception
       LOGGER.debug("Exception in post-processing exception handler", exception);
@@ -282,8 +681,14 @@ private void postToFallbackHandler(@NonNull NettyHttpServerContext context) {
         return null;
       }
 
-      // post the request to the actual handler
+      // post the request to the actual handler, excluding the parameter resolution of annotated handlers from the
+      // invocation time as it is recorded separately
+      var timings = context.timings();
+      var nestedDurationBefore = nestedHandlerDuration(timings);
+      var invocationBegin = timings.begin();
       var response = httpHandler.handle(context).intoResponse();
+      var nestedDuration = nestedHandlerDuration(timings) - nestedDurationBefore;
+      timings.end(RequestTimings.Stage.INVOCATION, invocationBegin + nestedDuration);
 
       // post process the response
       var returnAllowed = config.invokePostProcessors(context, httpHandler, config, response);
@@ -306,8 +711,45 @@ private void postToFallbackHandler(@NonNull NettyHttpServerContext context) {
         LOGGER.debug("Exception in post-processing exception handler", exception);
         context.response().status(HttpResponseCode.INTERNAL_SERVER_ERROR);
       }
+    } finally {
+      // notify the interceptors that the handler is done, regardless of the outcome
+      try {
+        config.invokeCompletionProcessors(context, httpHandler, config);
+      } catch (Exception exception) {
+        LOGGER.debug("Exception in handler completion processor", exception);
+      }
     }
 
     return null;
   }
+
+  private static long nestedHandlerDuration(@NonNull RequestTimings timings) {
+    return timings.duration(RequestTimings.Stage.PARAMETERS) + timings.duration(RequestTimings.Stage.VALIDATION);
+  }
+
+  /**
+   * A request for which the handling target was resolved, holding the state that is needed to complete the request.
+   *
+   * @param channel      the channel from which the request came.
+   * @param httpRequest  the decoded request.
+   * @param context      the context of the request.
+   * @param routeMetrics the metrics of the route that handles the request.
+   * @param routePath    the path template of the route that handles the request.
+   * @param timingEvent  the flight recorder event of the request.
+   * @param sequence     the sequence number of the request in the pipeline of the connection.
+   * @param receivedAt   the nano time at which the request was received from the channel.
+   * @since 1.0
+   */
+  private record RoutedRequest(
+    @NonNull Channel channel,
+    @NonNull HttpRequest httpRequest,
+    @NonNull NettyHttpServerContext context,
+    @NonNull RouteMetrics routeMetrics,
+    @NonNull String routePath,
+    @NonNull RequestTimingEvent timingEvent,
+    long sequence,
+    long receivedAt
+  ) {
+
+  }
 }
@@ -17,6 +17,7 @@
 package eu.cloudnetservice.ext.rest.netty;
 
 import eu.cloudnetservice.ext.rest.api.config.HttpProxyMode;
+import eu.cloudnetservice.ext.rest.api.metrics.ConnectionMetrics;
 import eu.cloudnetservice.ext.rest.api.util.HostAndPort;
 import io.netty5.channel.Channel;
 import io.netty5.channel.ChannelInitializer;
@@ -42,6 +43,7 @@ final class NettyHttpServerInitializer extends ChannelInitializer<Channel> {
   private final NettyHttpServer nettyHttpServer;
 
   private final ExecutorService executorService;
+  private final ConnectionMetrics connectionMetrics;
 
   private final int maxContentLength;
 
@@ -67,6 +69,13 @@ public NettyHttpServerInitializer(
     this.nettyHttpServer = nettyHttpServer;
     this.executorService = executorService;
     this.maxContentLength = maxContentLength;
+
+    // only collect the network level metrics of the listener if requested
+    if (nettyHttpServer.componentConfig().connectionMetrics()) {
+      this.connectionMetrics = nettyHttpServer.metrics().listener(listenerAddress);
+    } else {
+      this.connectionMetrics = null;
+    }
   }
 
   /**
@@ -76,6 +85,13 @@ public NettyHttpServerInitializer(
   protected void initChannel(@NonNull Channel ch) {
     var componentConfig = this.nettyHttpServer.componentConfig();
 
+    // add the metrics handler first to see all bytes that are transferred over the connection
+    NettyConnectionMetricsHandler metricsHandler = null;
+    if (this.connectionMetrics != null) {
+      metricsHandler = new NettyConnectionMetricsHandler(this.connectionMetrics);
+      ch.pipeline().addLast(NettyConnectionMetricsHandler.HANDLER_NAME, metricsHandler);
+    }
+
     // add the HA proxy handler, if needed
     var haProxyMode = componentConfig.haProxyMode();
     if (haProxyMode != HttpProxyMode.DISABLED) {
@@ -84,17 +100,23 @@ protected void initChannel(@NonNull Channel ch) {
 
     // add the ssl handler if needed
     if (this.serverSslContext != null) {
-      ch.pipeline().addLast("ssl-handler", this.serverSslContext.newHandler(ch.bufferAllocator()));
+      var sslHandler = this.serverSslContext.newHandler(ch.bufferAllocator());
+      ch.pipeline().addLast("ssl-handler", sslHandler);
+      if (metricsHandler != null) {
+        metricsHandler.trackTlsHandshake(sslHandler);
+      }
     }
 
     ch.pipeline()
-      .addLast("read-timeout-handler", new NettyIdleStateHandler(30))
+      .addLast("read-timeout-handler", new NettyIdleStateHandler(30, this.connectionMetrics))
       .addLast("http-request-decoder", new HttpRequestDecoder())
       .addLast("http-request-decompressor", new HttpContentDecompressor())
       .addLast("http-response-encoder", new HttpResponseEncoder())
       .addLast("http-response-compressor", new HttpContentCompressor())
       .addLast("http-response-chunk-writer", new ChunkedWriteHandler())
-      .addLast("http-object-aggregator", new NettyOversizedClosingHttpAggregator<>(this.maxContentLength))
+      .addLast("http-object-aggregator", new NettyOversizedClosingHttpAggregator<>(
+        this.maxContentLength,
+        this.connectionMetrics))
       .addLast("http-server-handler", new NettyHttpServerHandler(
         this.nettyHttpServer,
         this.listenerAddress,
@@ -22,20 +22,20 @@
 import eu.cloudnetservice.ext.rest.api.HttpRequest;
 import eu.cloudnetservice.ext.rest.api.HttpVersion;
 import eu.cloudnetservice.ext.rest.api.header.HttpHeaderMap;
+import eu.cloudnetservice.ext.rest.api.util.RequestTarget;
 import io.netty5.buffer.Buffer;
 import io.netty5.buffer.BufferInputStream;
-import io.netty5.handler.codec.http.FullHttpRequest;
-import io.netty5.handler.codec.http.QueryStringDecoder;
 import io.netty5.handler.codec.http.headers.DefaultHttpCookiePair;
 import io.netty5.handler.codec.http.headers.HttpCookiePair;
 import io.netty5.util.Send;
 import java.io.InputStream;
-import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -48,16 +48,18 @@ final class NettyHttpServerRequest extends NettyHttpMessage implements HttpReque
 
   private final NettyHttpServerContext context;
 
-  private final URI uri;
+  private final RequestTarget target;
   private final HttpHeaderMap httpHeaderMap;
   private final io.netty5.handler.codec.http.HttpRequest httpRequest;
 
   private final Map<String, String> pathParameters;
-  private final Map<String, List<String>> queryParameters;
 
   private Buffer buffer;
+  private List<HttpCookie> cookies;
 
   private byte[] body;
+  private String bodyString;
+  private ByteBuffer bodyView;
 
   /**
    * Constructs a new netty http request instance.
@@ -65,25 +67,25 @@ final class NettyHttpServerRequest extends NettyHttpMessage implements HttpReque
    * @param context        the context in which the request is processed.
    * @param httpRequest    the original netty request which gets wrapped.
    * @param pathParameters the extracted path parameters from the uri.
-   * @param uri            the original uri of the request.
+   * @param target         the parsed request target of the request.
    * @throws NullPointerException if one of the given properties is null.
    */
   public NettyHttpServerRequest(
     @NonNull NettyHttpServerContext context,
     @NonNull io.netty5.handler.codec.http.HttpRequest httpRequest,
     @NonNull Map<String, String> pathParameters,
-    @NonNull URI uri,
+    @NonNull RequestTarget target,
     @Nullable Send<Buffer> bufferSend
   ) {
     this.context = context;
     this.httpRequest = httpRequest;
-    this.uri = uri;
+    this.target = target;
     this.pathParameters = pathParameters;
     this.httpHeaderMap = new NettyHttpHeaderMap(httpRequest.headers());
-    this.queryParameters = new QueryStringDecoder(httpRequest.uri()).parameters();
 
     if (bufferSend != null) {
-      this.buffer = bufferSend.receive();
+      // the body is read-only, which allows copies of it to share the memory of the body
+      this.buffer = bufferSend.receive().makeReadOnly();
     }
   }
 
@@ -100,7 +102,7 @@ public NettyHttpServerRequest(
    */
   @Override
   public @NonNull String path() {
-    return this.uri.getPath();
+    return this.target.path();
   }
 
   /**
@@ -124,7 +126,7 @@ public NettyHttpServerRequest(
    */
   @Override
   public @NonNull Map<String, List<String>> queryParameters() {
-    return this.queryParameters;
+    return this.target.queryParameters();
   }
 
   /**
@@ -186,7 +188,76 @@ public byte[] body() {
    */
   @Override
   public @NonNull String bodyAsString() {
-    return new String(this.body(), StandardCharsets.UTF_8);
+    if (this.bodyString == null) {
+      this.bodyString = new String(this.body(), StandardCharsets.UTF_8);
+    }
+
+    return this.bodyString;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull ByteBuffer bodyBuffer() {
+    if (this.bodyView == null) {
+      this.bodyView = this.createBodyView();
+    }
+
+    // hand out independent views to allow each caller to move the position and limit freely
+    return this.bodyView.duplicate();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull CharSequence bodyAsCharSequence() {
+    // ascii bytes are the same in utf-8, no need to decode the body in that case
+    var body = this.bodyBuffer();
+    for (var index = body.position(); index < body.limit(); index++) {
+      if (body.get(index) < 0) {
+        return this.bodyAsString();
+      }
+    }
+
+    return new AsciiCharSequence(body, body.position(), body.remaining());
+  }
+
+  /**
+   * Creates a read-only view of the readable bytes of the body. The view is backed by the memory of the body if the
+   * body consists of a single component, a composite body (for example aggregated from multiple chunks) is copied
+   * once into a contiguous buffer.
+   *
+   * @return a read-only view of the body.
+   */
+  private @NonNull ByteBuffer createBodyView() {
+    if (this.buffer == null || this.buffer.readableBytes() == 0) {
+      return ByteBuffer.allocate(0).asReadOnlyBuffer();
+    }
+
+    if (this.buffer.countReadableComponents() == 1) {
+      try (var iterator = this.buffer.forEachComponent()) {
+        var component = iterator.firstReadable();
+        if (component != null) {
+          return component.readableBuffer().asReadOnlyBuffer();
+        }
+      }
+    }
+
+    return ByteBuffer.wrap(this.body()).asReadOnlyBuffer();
+  }
+
+  /**
+   * Releases the memory backing the body of this request. Views of the body must not be used anymore after this method
+   * was called, streams obtained from {@link #bodyStream()} stay usable as they hold their own reference.
+   */
+  void release() {
+    if (this.buffer != null) {
+      this.buffer.close();
+      this.buffer = null;
+      this.bodyView = null;
+    }
   }
 
   /**
@@ -211,7 +282,9 @@ public byte[] body() {
   @Override
   public @Nullable InputStream bodyStream() {
     if (this.buffer != null) {
-      return new BufferInputStream(this.buffer.send());
+      // the body is read-only, the copy shares the memory of the body instead of copying it
+      var body = this.buffer.copy(this.buffer.readerOffset(), this.buffer.readableBytes(), true);
+      return new BufferInputStream(body.send());
     } else {
       return null;
     }
@@ -230,7 +303,7 @@ public byte[] body() {
    */
   @Override
   public boolean hasBody() {
-    return this.httpRequest instanceof FullHttpRequest request && request.payload().readableBytes() > 0;
+    return this.buffer != null && this.buffer.readableBytes() > 0;
   }
 
   /**
@@ -238,8 +311,13 @@ public boolean hasBody() {
    */
   @Override
   public @Nullable HttpCookie cookie(@NonNull String name) {
-    var cookie = this.httpRequest.headers().getCookie(name);
-    return cookie == null ? null : this.convertFromNettyCookiePair(cookie);
+    for (var cookie : this.parsedCookies()) {
+      if (cookie.name().equals(name)) {
+        return cookie;
+      }
+    }
+
+    return null;
   }
 
   /**
@@ -247,12 +325,7 @@ public boolean hasBody() {
    */
   @Override
   public @NonNull Collection<HttpCookie> cookies() {
-    List<HttpCookie> cookies = new ArrayList<>();
-    this.httpRequest.headers().getCookies().forEach(cookie -> {
-      var convertedCookie = this.convertFromNettyCookiePair(cookie);
-      cookies.add(convertedCookie);
-    });
-    return cookies;
+    return new ArrayList<>(this.parsedCookies());
   }
 
   /**
@@ -260,7 +333,7 @@ public boolean hasBody() {
    */
   @Override
   public boolean hasCookie(@NonNull String name) {
-    return this.httpRequest.headers().getCookie(name) != null;
+    return this.cookie(name) != null;
   }
 
   /**
@@ -269,6 +342,7 @@ public boolean hasCookie(@NonNull String name) {
   @Override
   public @NonNull HttpRequest cookies(@NonNull Collection<HttpCookie> cookies) {
     this.httpRequest.headers().remove(HttpHeaders.COOKIE);
+    this.cookies = null;
     cookies.forEach(this::addCookie);
     return this;
   }
@@ -280,6 +354,7 @@ public boolean hasCookie(@NonNull String name) {
   public @NonNull HttpRequest addCookie(@NonNull HttpCookie httpCookie) {
     var convertedCookie = this.convertToNettyCookiePair(httpCookie);
     this.httpRequest.headers().addCookie(convertedCookie);
+    this.cookies = null;
     return this;
   }
 
@@ -289,6 +364,7 @@ public boolean hasCookie(@NonNull String name) {
   @Override
   public @NonNull HttpRequest removeCookie(@NonNull String name) {
     this.httpRequest.headers().removeCookies(name);
+    this.cookies = null;
     return this;
   }
 
@@ -298,9 +374,30 @@ public boolean hasCookie(@NonNull String name) {
   @Override
   public @NonNull HttpRequest clearCookies() {
     this.httpRequest.headers().remove(HttpHeaders.COOKIE);
+    this.cookies = null;
     return this;
   }
 
+  /**
+   * Get the cookies of this request, parsing them from the cookie headers on first access. The parsed cookies are
+   * cached until the cookies of this request are modified.
+   *
+   * @return the cookies of this request.
+   */
+  private @NonNull List<HttpCookie> parsedCookies() {
+    var cookies = this.cookies;
+    if (cookies == null) {
+      cookies = new ArrayList<>();
+      for (var cookie : this.httpRequest.headers().getCookies()) {
+        cookies.add(this.convertFromNettyCookiePair(cookie));
+      }
+
+      this.cookies = cookies;
+    }
+
+    return cookies;
+  }
+
   /**
    * Converts the netty cookie pair to a {@link HttpCookie}.
    *
@@ -330,4 +427,66 @@ public boolean hasCookie(@NonNull String name) {
   private @NonNull HttpCookiePair convertToNettyCookiePair(@NonNull HttpCookie cookie) {
     return new DefaultHttpCookiePair(cookie.name(), cookie.value(), cookie.wrap());
   }
+
+  /**
+   * A character sequence view of a buffer which only contains ascii characters.
+   *
+   * @since 1.0
+   */
+  private static final class AsciiCharSequence implements CharSequence {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    /**
+     * Constructs a new ascii character sequence view.
+     *
+     * @param buffer the buffer containing the ascii characters.
+     * @param offset the absolute index of the first character in the buffer.
+     * @param length the amount of characters in the view.
+     * @throws NullPointerException if the given buffer is null.
+     */
+    private AsciiCharSequence(@NonNull ByteBuffer buffer, int offset, int length) {
+      this.buffer = buffer;
+      this.offset = offset;
+      this.length = length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int length() {
+      return this.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char charAt(int index) {
+      Objects.checkIndex(index, this.length);
+      return (char) this.buffer.get(this.offset + index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull CharSequence subSequence(int start, int end) {
+      Objects.checkFromToIndex(start, end, this.length);
+      return new AsciiCharSequence(this.buffer, this.offset + start, end - start);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull String toString() {
+      var bytes = new byte[this.length];
+      this.buffer.get(this.offset, bytes);
+      return new String(bytes, StandardCharsets.US_ASCII);
+    }
+  }
 }
@@ -24,6 +24,8 @@
 import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
 import eu.cloudnetservice.ext.rest.api.HttpVersion;
 import eu.cloudnetservice.ext.rest.api.header.HttpHeaderMap;
+import eu.cloudnetservice.ext.rest.api.response.type.StaticResponse;
+import io.netty5.buffer.Buffer;
 import io.netty5.buffer.DefaultBufferAllocators;
 import io.netty5.handler.codec.http.DefaultFullHttpResponse;
 import io.netty5.handler.codec.http.FullHttpResponse;
@@ -38,6 +40,8 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -48,7 +52,10 @@
  */
 final class NettyHttpServerResponse extends NettyHttpMessage implements HttpResponse {
 
-  final FullHttpResponse httpResponse;
+  private static final Function<byte[], Supplier<Buffer>> STATIC_BODY_ENCODER =
+    body -> DefaultBufferAllocators.offHeapAllocator().constBufferSupplier(body);
+
+  FullHttpResponse httpResponse;
   private final HttpHeaderMap httpHeaderMap;
   private final NettyHttpServerContext context;
 
@@ -149,6 +156,11 @@ public byte[] body() {
    */
   @Override
   public @NonNull HttpResponse body(byte[] byteArray) {
+    // the payload is read-only if the body of a static response was set previously
+    if (this.httpResponse.payload().readOnly()) {
+      this.replacePayload(DefaultBufferAllocators.offHeapAllocator().allocate(byteArray.length));
+    }
+
     this.httpResponse.payload()
       .resetOffsets()
       .fill((byte) 0)
@@ -156,6 +168,18 @@ public byte[] body() {
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HttpResponse body(@NonNull StaticResponse<?> response) {
+    // the body of the static response is encoded into a read-only buffer once, the buffers supplied for each response
+    // share the memory of that buffer instead of copying the body
+    var bodySupplier = response.encodedForm(NettyHttpServerResponse.class, STATIC_BODY_ENCODER);
+    this.replacePayload(bodySupplier.get());
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -188,6 +212,23 @@ public InputStream bodyStream() {
     return this;
   }
 
+  /**
+   * Replaces the payload of the underlying netty response with the given buffer, closing the previous payload.
+   *
+   * @param payload the new payload of the response.
+   * @throws NullPointerException if the given payload is null.
+   */
+  private void replacePayload(@NonNull Buffer payload) {
+    var previous = this.httpResponse;
+    this.httpResponse = new DefaultFullHttpResponse(
+      previous.protocolVersion(),
+      previous.status(),
+      payload,
+      previous.headers(),
+      previous.trailingHeaders());
+    previous.close();
+  }
+
   /**
    * {@inheritDoc}
    */
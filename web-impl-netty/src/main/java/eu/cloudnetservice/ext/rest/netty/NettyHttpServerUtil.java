@@ -20,6 +20,7 @@
 import io.netty5.handler.codec.http.DefaultHttpResponse;
 import io.netty5.handler.codec.http.HttpHeaderNames;
 import io.netty5.handler.codec.http.HttpHeaderValues;
+import io.netty5.handler.codec.http.HttpResponse;
 import io.netty5.handler.codec.http.HttpResponseStatus;
 import io.netty5.handler.codec.http.HttpVersion;
 import lombok.NonNull;
@@ -31,10 +32,14 @@ private NettyHttpServerUtil() {
   }
 
   public static void sendResponseAndClose(@NonNull ChannelOutboundInvoker channel, @NonNull HttpResponseStatus status) {
+    channel.writeAndFlush(newClosingResponse(status)).addListener(ignored -> channel.close());
+  }
+
+  public static @NonNull HttpResponse newClosingResponse(@NonNull HttpResponseStatus status) {
     var response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, status);
     response.headers()
       .set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE)
       .set(HttpHeaderNames.CONTENT_LENGTH, HttpHeaderValues.ZERO);
-    channel.writeAndFlush(response).addListener(ignored -> channel.close());
+    return response;
   }
 }
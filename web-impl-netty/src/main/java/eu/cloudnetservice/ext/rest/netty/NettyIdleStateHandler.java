@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.ext.rest.netty;
 
+import eu.cloudnetservice.ext.rest.api.metrics.ConnectionMetrics;
 import io.netty5.channel.ChannelHandlerContext;
 import io.netty5.handler.timeout.IdleState;
 import io.netty5.handler.timeout.IdleStateEvent;
@@ -23,6 +24,7 @@
 import io.netty5.handler.timeout.ReadTimeoutException;
 import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A custom idle state handler which closes a connection after the given seconds of client inactivity while also
@@ -34,15 +36,19 @@
  */
 final class NettyIdleStateHandler extends IdleStateHandler {
 
+  private final ConnectionMetrics connectionMetrics;
+
   private boolean closed = false;
 
   /**
    * Constructs a new netty idle state handler instance.
    *
-   * @param timeoutSeconds the seconds a client is allowed to idle before a forced disconnect.
+   * @param timeoutSeconds    the seconds a client is allowed to idle before a forced disconnect.
+   * @param connectionMetrics the metrics to record idle timeouts into, null if metrics are disabled.
    */
-  public NettyIdleStateHandler(int timeoutSeconds) {
+  public NettyIdleStateHandler(int timeoutSeconds, @Nullable ConnectionMetrics connectionMetrics) {
     super(0, 0, timeoutSeconds, TimeUnit.SECONDS);
+    this.connectionMetrics = connectionMetrics;
   }
 
   /**
@@ -54,6 +60,10 @@ protected void channelIdle(@NonNull ChannelHandlerContext ctx, @NonNull IdleStat
       ctx.fireChannelExceptionCaught(ReadTimeoutException.INSTANCE);
       ctx.close();
       this.closed = true;
+
+      if (this.connectionMetrics != null) {
+        this.connectionMetrics.recordIdleTimeout();
+      }
     }
   }
 }
@@ -16,22 +16,31 @@
 
 package eu.cloudnetservice.ext.rest.netty;
 
+import eu.cloudnetservice.ext.rest.api.metrics.ConnectionMetrics;
 import io.netty5.channel.ChannelHandlerContext;
 import io.netty5.handler.codec.http.HttpContent;
 import io.netty5.handler.codec.http.HttpObjectAggregator;
 import io.netty5.handler.codec.http.HttpRequest;
 import io.netty5.handler.codec.http.HttpResponseStatus;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 final class NettyOversizedClosingHttpAggregator<C extends HttpContent<C>> extends HttpObjectAggregator<C> {
 
-  public NettyOversizedClosingHttpAggregator(int maxContentLength) {
+  private final ConnectionMetrics connectionMetrics;
+
+  public NettyOversizedClosingHttpAggregator(int maxContentLength, @Nullable ConnectionMetrics connectionMetrics) {
     super(maxContentLength);
+    this.connectionMetrics = connectionMetrics;
   }
 
   @Override
   protected void handleOversizedMessage(@NonNull ChannelHandlerContext ctx, @NonNull Object tooLarge) throws Exception {
     if (tooLarge instanceof HttpRequest) {
+      if (this.connectionMetrics != null) {
+        this.connectionMetrics.recordOversizedRequest();
+      }
+
       // always the close the connection when the client sent a too large request body as this leaves
       // the decoder and this aggregator in a mismatched state which would cause the following request
       // with a too large body to hand forever
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import eu.cloudnetservice.ext.rest.api.RequestDeadline;
+import io.netty5.util.concurrent.Future;
+import lombok.NonNull;
+
+/**
+ * The netty implementation of a request deadline. The deadline coordinates the thread handling the request and the
+ * timeout task: only one of them can win the race for the request, either the handler completes in time and its result
+ * is sent, or the deadline expires, the handler thread is interrupted and the late result is discarded.
+ *
+ * @since 1.0
+ */
+final class NettyRequestDeadline implements RequestDeadline {
+
+  private static final int STATE_RUNNING = 0;
+  private static final int STATE_COMPLETED = 1;
+  private static final int STATE_EXPIRED = 2;
+
+  private final long deadlineNanos;
+  private final Thread handlerThread;
+
+  private int state = STATE_RUNNING;
+  private volatile Future<Void> timeoutFuture;
+
+  /**
+   * Constructs a new deadline for a request that is handled by the current thread.
+   *
+   * @param deadlineNanos the deadline of the request, as a {@link System#nanoTime()} timestamp.
+   */
+  public NettyRequestDeadline(long deadlineNanos) {
+    this.deadlineNanos = deadlineNanos;
+    this.handlerThread = Thread.currentThread();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long deadlineNanos() {
+    return this.deadlineNanos;
+  }
+
+  /**
+   * Sets the future of the task that expires this deadline, which is cancelled when the request completes in time.
+   *
+   * @param timeoutFuture the future of the timeout task.
+   * @throws NullPointerException if the given future is null.
+   */
+  public void timeoutFuture(@NonNull Future<Void> timeoutFuture) {
+    this.timeoutFuture = timeoutFuture;
+  }
+
+  /**
+   * Marks the handling of the request as completed. This method must be called by the thread handling the request.
+   *
+   * @return true if the request completed in time, false if the deadline already expired.
+   */
+  public boolean complete() {
+    synchronized (this) {
+      if (this.state != STATE_RUNNING) {
+        return false;
+      }
+
+      this.state = STATE_COMPLETED;
+    }
+
+    var timeoutFuture = this.timeoutFuture;
+    if (timeoutFuture != null) {
+      timeoutFuture.cancel();
+    }
+
+    return true;
+  }
+
+  /**
+   * Get if this deadline expired before the handling of the request was completed.
+   *
+   * @return true if the deadline expired, false otherwise.
+   */
+  public synchronized boolean expired() {
+    return this.state == STATE_EXPIRED;
+  }
+
+  /**
+   * Marks the deadline as expired and interrupts the thread handling the request, unless the request already
+   * completed. The interrupt happens while holding the lock, which ensures that the thread is never interrupted after
+   * it completed the request and moved on to other work.
+   *
+   * @return true if the deadline expired, false if the request already completed.
+   */
+  public synchronized boolean expire() {
+    if (this.state != STATE_RUNNING) {
+      return false;
+    }
+
+    this.state = STATE_EXPIRED;
+    this.handlerThread.interrupt();
+    return true;
+  }
+}
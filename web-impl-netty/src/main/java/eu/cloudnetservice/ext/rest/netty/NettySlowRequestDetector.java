@@ -0,0 +1,188 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.netty;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import eu.cloudnetservice.ext.rest.api.HttpContext;
+import eu.cloudnetservice.ext.rest.api.metrics.HttpServerMetrics;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A detector for requests of which the handling takes longer than a configured threshold. The in-flight requests are
+ * checked periodically and for each request that exceeds the threshold the current stack of the thread handling the
+ * request is logged, together with the route and user of the request.
+ *
+ * @since 1.0
+ */
+final class NettySlowRequestDetector implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(NettySlowRequestDetector.class);
+
+  private static final long MIN_CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final long thresholdNanos;
+  private final LongAdder slowRequests = new LongAdder();
+  private final Set<InFlightRequest> inFlightRequests = ConcurrentHashMap.newKeySet();
+
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * Constructs a new slow request detector and starts checking the in-flight requests.
+   *
+   * @param threshold the handling duration after which a request is considered to be slow.
+   * @param metrics   the metrics to register the slow request counter to.
+   * @throws NullPointerException     if the given threshold or metrics are null.
+   * @throws IllegalArgumentException if the given threshold is not positive.
+   */
+  public NettySlowRequestDetector(@NonNull Duration threshold, @NonNull HttpServerMetrics metrics) {
+    if (!threshold.isPositive()) {
+      throw new IllegalArgumentException("Slow request threshold must be positive");
+    }
+
+    this.thresholdNanos = threshold.toNanos();
+    metrics.registerCounter(
+      "http_server_slow_requests_total",
+      "The total amount of requests of which the handling exceeded the slow request threshold",
+      Map.of(),
+      this.slowRequests::sum);
+
+    var checkIntervalNanos = Math.max(MIN_CHECK_INTERVAL_NANOS, this.thresholdNanos / 2);
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+      .setDaemon(true)
+      .setNameFormat("rest-slow-request-detector")
+      .build());
+    this.scheduler.scheduleAtFixedRate(this::checkInFlightRequests, checkIntervalNanos, checkIntervalNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Starts tracking the given request which is handled by the current thread. The returned request must be closed
+   * once the handling of the request completed on the current thread.
+   *
+   * @param context   the context of the request.
+   * @param startedAt the nano time at which the request was received.
+   * @return the tracked request, to be closed when the handling of the request completed.
+   * @throws NullPointerException if the given context is null.
+   */
+  public @NonNull InFlightRequest track(@NonNull HttpContext context, long startedAt) {
+    var request = new InFlightRequest(this, Thread.currentThread(), context, startedAt);
+    this.inFlightRequests.add(request);
+    return request;
+  }
+
+  /**
+   * Stops checking the in-flight requests.
+   */
+  @Override
+  public void close() {
+    this.scheduler.shutdownNow();
+    this.inFlightRequests.clear();
+  }
+
+  private void checkInFlightRequests() {
+    var now = System.nanoTime();
+    for (var request : this.inFlightRequests) {
+      var elapsedNanos = now - request.startedAt;
+      if (!request.reported && elapsedNanos > this.thresholdNanos) {
+        // only report each slow request once, the stack is only captured if the request is still handled
+        request.reported = true;
+        this.slowRequests.increment();
+        this.reportSlowRequest(request, elapsedNanos);
+      }
+    }
+  }
+
+  private void reportSlowRequest(@NonNull InFlightRequest request, long elapsedNanos) {
+    var stack = request.thread.getStackTrace();
+    if (!this.inFlightRequests.contains(request)) {
+      // the request completed while capturing the stack, which is therefore meaningless
+      return;
+    }
+
+    var stackSample = new StringBuilder();
+    for (var element : stack) {
+      stackSample.append(System.lineSeparator()).append("\tat ").append(element);
+    }
+
+    var context = request.context;
+    var user = context.authenticatedUser();
+    LOGGER.warn(
+      "Request {} {} (route: {}, user: {}) is being handled for {}ms by {}, current stack:{}",
+      context.request().method(),
+      context.request().path(),
+      request.route,
+      user == null ? "-" : user.username(),
+      TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+      request.thread.getName(),
+      stackSample);
+  }
+
+  /**
+   * A request of which the handling is tracked by the detector.
+   *
+   * @since 1.0
+   */
+  static final class InFlightRequest implements AutoCloseable {
+
+    private final NettySlowRequestDetector detector;
+    private final Thread thread;
+    private final HttpContext context;
+    private final long startedAt;
+
+    private volatile String route = HttpServerMetrics.UNMATCHED_ROUTE;
+    private volatile boolean reported;
+
+    private InFlightRequest(
+      @NonNull NettySlowRequestDetector detector,
+      @NonNull Thread thread,
+      @NonNull HttpContext context,
+      long startedAt
+    ) {
+      this.detector = detector;
+      this.thread = thread;
+      this.context = context;
+      this.startedAt = startedAt;
+    }
+
+    /**
+     * Sets the path template of the handler that handles the request.
+     *
+     * @param route the path template of the handler that handles the request.
+     * @throws NullPointerException if the given route is null.
+     */
+    public void route(@NonNull String route) {
+      this.route = route;
+    }
+
+    /**
+     * Stops tracking this request.
+     */
+    @Override
+    public void close() {
+      this.detector.inFlightRequests.remove(this);
+    }
+  }
+}
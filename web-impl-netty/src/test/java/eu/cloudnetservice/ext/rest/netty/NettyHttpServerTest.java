@@ -16,13 +16,30 @@
 
 package eu.cloudnetservice.ext.rest.netty;
 
+import eu.cloudnetservice.ext.rest.api.HttpMethod;
+import eu.cloudnetservice.ext.rest.api.HttpResponse;
+import eu.cloudnetservice.ext.rest.api.HttpResponseCode;
+import eu.cloudnetservice.ext.rest.api.config.BulkheadConfig;
 import eu.cloudnetservice.ext.rest.api.config.ComponentConfig;
+import eu.cloudnetservice.ext.rest.api.config.HttpHandlerConfig;
+import eu.cloudnetservice.ext.rest.api.header.HttpHeaderMap;
+import eu.cloudnetservice.ext.rest.api.response.DefaultResponse;
+import eu.cloudnetservice.ext.rest.api.response.Response;
+import eu.cloudnetservice.ext.rest.api.util.HostAndPort;
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -57,4 +74,300 @@ void testRejectsRequestWithBadChar() throws Exception {
     Assertions.assertTrue(lines.contains("connection: close"));
     Assertions.assertNull(reader.readLine()); // server should've closed the connection now
   }
+
+  @Test
+  void testRespondsWithGatewayTimeoutWhenDeadlineExceeded() throws Exception {
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder()
+      .executorService(Executors.newSingleThreadExecutor())
+      .requestTimeout(Duration.ofMinutes(1))
+      .build();
+    var server = new NettyHttpServer(config);
+    server.addListener(bindHost).join();
+
+    var handlerInterrupted = new CountDownLatch(1);
+    server.handlerRegistry().registerHandler(
+      "/slow",
+      context -> {
+        try {
+          Thread.sleep(Duration.ofMinutes(1));
+        } catch (InterruptedException exception) {
+          handlerInterrupted.countDown();
+        }
+        return HttpResponseCode.OK;
+      },
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build());
+
+    var socket = new Socket();
+    socket.setReuseAddress(true);
+    socket.connect(new InetSocketAddress(bindHost.host(), bindHost.port()));
+
+    // request a shorter timeout than the configured one
+    var out = socket.getOutputStream();
+    out.write(
+      """
+        GET /slow HTTP/1.1
+        Request-Timeout: 200
+        Content-Length: 0
+        
+        """.getBytes(StandardCharsets.UTF_8));
+    out.flush();
+
+    var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    var lines = reader.lines().toList();
+    Assertions.assertEquals("HTTP/1.1 504 Gateway Timeout", lines.getFirst());
+    Assertions.assertTrue(lines.contains("connection: close"));
+    Assertions.assertTrue(handlerInterrupted.await(5, TimeUnit.SECONDS));
+    server.close();
+  }
+
+  @Test
+  void testIgnoresRequestedTimeoutWhenHandlerDisabledTimeout() throws Exception {
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder()
+      .executorService(Executors.newSingleThreadExecutor())
+      .requestTimeout(Duration.ofMinutes(1))
+      .build();
+    var server = new NettyHttpServer(config);
+    server.addListener(bindHost).join();
+
+    var handlerInterrupted = new AtomicBoolean();
+    server.handlerRegistry().registerHandler(
+      "/unbounded",
+      context -> {
+        try {
+          Thread.sleep(500);
+        } catch (InterruptedException exception) {
+          handlerInterrupted.set(true);
+        }
+        return HttpResponseCode.OK;
+      },
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).timeout(Duration.ZERO).build());
+
+    // the handler disabled the timeout, the client must not be able to impose one
+    var reader = sendRequest(bindHost, "GET /unbounded HTTP/1.1\r\nRequest-Timeout: 100");
+    Assertions.assertEquals("HTTP/1.1 200 OK", reader.readLine());
+    Assertions.assertFalse(handlerInterrupted.get());
+    server.close();
+  }
+
+  @Test
+  void testCompletesDeadlineWhenResponseSerializationFails() throws Exception {
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder()
+      .executorService(Executors.newSingleThreadExecutor())
+      .requestTimeout(Duration.ofMillis(300))
+      .build();
+    var server = new NettyHttpServer(config);
+    server.addListener(bindHost).join();
+
+    server.handlerRegistry().registerHandler(
+      "/broken",
+      context -> new DefaultResponse<>("body", HttpHeaderMap.newHeaderMap(), HttpResponseCode.OK) {
+        @Override
+        protected void serializeBody(HttpResponse response, String body) {
+          throw new IllegalStateException("serialization failed");
+        }
+
+        @Override
+        public Response.Builder<String, ?> intoResponseBuilder() {
+          throw new UnsupportedOperationException();
+        }
+      },
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build());
+
+    // the handler runs on the same thread after the broken request, without a deadline on its own
+    var handlerInterrupted = new AtomicBoolean();
+    server.handlerRegistry().registerHandler(
+      "/wait",
+      context -> {
+        try {
+          Thread.sleep(1000);
+        } catch (InterruptedException exception) {
+          handlerInterrupted.set(true);
+        }
+        return HttpResponseCode.OK;
+      },
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).timeout(Duration.ZERO).build());
+
+    var brokenReader = sendRequest(bindHost, "GET /broken HTTP/1.1");
+    Assertions.assertEquals("HTTP/1.1 500 Internal Server Error", brokenReader.readLine());
+
+    // the deadline of the broken request must not fire and interrupt the thread while it handles this request
+    var waitReader = sendRequest(bindHost, "GET /wait HTTP/1.1");
+    Assertions.assertEquals("HTTP/1.1 200 OK", waitReader.readLine());
+    Assertions.assertFalse(handlerInterrupted.get());
+    server.close();
+  }
+
+  @Test
+  void testCompletesFailedRequestInMetrics() throws Exception {
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder().executorService(Executors.newSingleThreadExecutor()).build();
+    var server = new NettyHttpServer(config);
+    server.addListener(bindHost).join();
+
+    server.handlerRegistry().registerHandler(
+      "/broken",
+      context -> new DefaultResponse<>("body", HttpHeaderMap.newHeaderMap(), HttpResponseCode.OK) {
+        @Override
+        protected void serializeBody(HttpResponse response, String body) {
+          throw new IllegalStateException("serialization failed");
+        }
+
+        @Override
+        public Response.Builder<String, ?> intoResponseBuilder() {
+          throw new UnsupportedOperationException();
+        }
+      },
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.POST).build());
+
+    try (var socket = new Socket()) {
+      socket.connect(new InetSocketAddress(bindHost.host(), bindHost.port()));
+      var out = socket.getOutputStream();
+      out.write("POST /broken HTTP/1.1\r\nContent-Length: 11\r\n\r\nhello world".getBytes(StandardCharsets.UTF_8));
+      out.flush();
+
+      var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+      Assertions.assertEquals("HTTP/1.1 500 Internal Server Error", reader.readLine());
+    }
+
+    // the failed request must not be counted as active forever
+    var metrics = server.metrics();
+    var waitUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (metrics.activeRequests() != 0 && System.nanoTime() < waitUntil) {
+      Thread.sleep(10);
+    }
+    Assertions.assertEquals(0, metrics.activeRequests());
+    server.close();
+  }
+
+  @Test
+  void testInvokesHandlerInBulkheadAndRejectsWhenSaturated() throws Exception {
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder()
+      .executorService(Executors.newSingleThreadExecutor())
+      .bulkhead(new BulkheadConfig("isolated", 1, 0))
+      .build();
+    var server = new NettyHttpServer(config);
+    server.addListener(bindHost).join();
+
+    var handlerEntered = new CountDownLatch(1);
+    var releaseHandler = new CountDownLatch(1);
+    var handlerThread = new AtomicReference<String>();
+    server.handlerRegistry().registerHandler(
+      "/isolated",
+      context -> {
+        handlerThread.set(Thread.currentThread().getName());
+        handlerEntered.countDown();
+        releaseHandler.await();
+        return HttpResponseCode.OK;
+      },
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).bulkhead("isolated").build());
+
+    // the first request occupies the only thread of the bulkhead
+    var firstReader = sendRequest(bindHost, "GET /isolated HTTP/1.1");
+    Assertions.assertTrue(handlerEntered.await(5, TimeUnit.SECONDS));
+    Assertions.assertTrue(handlerThread.get().startsWith("rest-bulkhead-isolated-"));
+
+    // the second request is rejected as the bulkhead has no capacity left
+    var secondReader = sendRequest(bindHost, "GET /isolated HTTP/1.1");
+    Assertions.assertEquals("HTTP/1.1 503 Service Unavailable", secondReader.readLine());
+
+    releaseHandler.countDown();
+    Assertions.assertEquals("HTTP/1.1 200 OK", firstReader.readLine());
+    server.close();
+  }
+
+  @Test
+  void testWritesPipelinedResponsesInRequestOrder() throws Exception {
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder().executorService(Executors.newFixedThreadPool(2)).build();
+    var server = new NettyHttpServer(config);
+    server.addListener(bindHost).join();
+
+    // the first request only completes after the second request was handled
+    var secondHandled = new CountDownLatch(1);
+    server.handlerRegistry().registerHandler(
+      "/first",
+      context -> {
+        secondHandled.await();
+        Thread.sleep(200);
+        return HttpResponseCode.CREATED;
+      },
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build());
+    server.handlerRegistry().registerHandler(
+      "/second",
+      context -> {
+        secondHandled.countDown();
+        return HttpResponseCode.ACCEPTED;
+      },
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.GET).build());
+
+    // send both requests at once on the same connection
+    var reader = sendRequest(bindHost, "GET /first HTTP/1.1\r\nContent-Length: 0\r\n\r\nGET /second HTTP/1.1");
+    var statusLines = new ArrayList<String>();
+    while (statusLines.size() < 2) {
+      var line = reader.readLine();
+      Assertions.assertNotNull(line);
+      if (line.startsWith("HTTP/1.1")) {
+        statusLines.add(line);
+      }
+    }
+
+    Assertions.assertEquals(List.of("HTTP/1.1 201 Created", "HTTP/1.1 202 Accepted"), statusLines);
+    server.close();
+  }
+
+  @Test
+  void testProvidesReadOnlyViewsOfRequestBody() throws Exception {
+    var bindHost = HttpServerTestUtil.resolveFreeHost();
+    var config = ComponentConfig.builder().executorService(Executors.newSingleThreadExecutor()).build();
+    var server = new NettyHttpServer(config);
+    server.addListener(bindHost).join();
+
+    var bodies = new ArrayList<String>();
+    server.handlerRegistry().registerHandler(
+      "/body",
+      context -> {
+        var request = context.request();
+        var buffer = request.bodyBuffer();
+        Assertions.assertTrue(buffer.isReadOnly());
+        bodies.add(StandardCharsets.UTF_8.decode(buffer).toString());
+        bodies.add(request.bodyAsCharSequence().subSequence(6, 11).toString());
+
+        // the stream can be obtained multiple times
+        try (var first = request.bodyStream(); var second = request.bodyStream()) {
+          bodies.add(new String(first.readAllBytes(), StandardCharsets.UTF_8));
+          bodies.add(new String(second.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        return HttpResponseCode.OK;
+      },
+      HttpHandlerConfig.builder().httpMethod(HttpMethod.POST).build());
+
+    try (var socket = new Socket()) {
+      socket.connect(new InetSocketAddress(bindHost.host(), bindHost.port()));
+      var out = socket.getOutputStream();
+      out.write("POST /body HTTP/1.1\r\nContent-Length: 11\r\n\r\nhello world".getBytes(StandardCharsets.UTF_8));
+      out.flush();
+
+      var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+      Assertions.assertEquals("HTTP/1.1 200 OK", reader.readLine());
+    }
+
+    Assertions.assertEquals(List.of("hello world", "world", "hello world", "hello world"), bodies);
+    server.close();
+  }
+
+  private static BufferedReader sendRequest(HostAndPort host, String requestLine) throws IOException {
+    var socket = new Socket();
+    socket.setReuseAddress(true);
+    socket.connect(new InetSocketAddress(host.host(), host.port()));
+
+    var out = socket.getOutputStream();
+    out.write((requestLine + "\r\nContent-Length: 0\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+    out.flush();
+
+    return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+  }
 }
@@ -24,25 +24,23 @@
 import eu.cloudnetservice.ext.rest.api.auth.AuthenticationResult;
 import eu.cloudnetservice.ext.rest.api.auth.RestUser;
 import eu.cloudnetservice.ext.rest.api.auth.RestUserManagement;
+import eu.cloudnetservice.ext.rest.api.auth.ScopeSet;
 import eu.cloudnetservice.ext.rest.api.auth.ScopedRestUserDelegate;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import java.security.Key;
 import java.security.KeyPair;
-import java.security.PublicKey;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import javax.crypto.SecretKey;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -57,7 +55,7 @@ public class JwtAuthProvider implements AuthProvider {
   private static final Pattern BEARER_LOGIN_PATTERN = Pattern.compile("Bearer ([a-zA-Z\\d-_.]+)$");
 
   private final String issuer;
-  private final Key jwtSigningKey;
+  private final JwtKeyRing keyRing;
 
   private final Duration accessDuration;
   private final Duration refreshDuration;
@@ -88,22 +86,25 @@ public JwtAuthProvider(
     @Nullable Key jwtValidationKey,
     @NonNull Duration accessDuration,
     @NonNull Duration refreshDuration
+  ) {
+    // symmetric keys only use one key for signing and validating
+    // asymmetric keys need a separate keys: one to sign and one to validate
+    this(issuer, JwtKeyRing.singleKey(jwtSigningKey, jwtValidationKey), accessDuration, refreshDuration);
+  }
+
+  public JwtAuthProvider(
+    @NonNull String issuer,
+    @NonNull JwtKeyRing keyRing,
+    @NonNull Duration accessDuration,
+    @NonNull Duration refreshDuration
   ) {
     this.issuer = issuer;
-    this.jwtSigningKey = jwtSigningKey;
+    this.keyRing = keyRing;
     this.accessDuration = accessDuration;
     this.refreshDuration = refreshDuration;
 
-    // symmetric keys only use one key for signing and validating
-    // asymmetric keys need a separate keys: one to sign and one to validate
-    var validationKey = Objects.requireNonNullElse(jwtValidationKey, jwtSigningKey);
-    if (validationKey instanceof SecretKey validationSecretKey) {
-      this.jwtParser = Jwts.parser().requireIssuer(issuer).verifyWith(validationSecretKey).build();
-    } else if (validationKey instanceof PublicKey validationPublicKey) {
-      this.jwtParser = Jwts.parser().requireIssuer(issuer).verifyWith(validationPublicKey).build();
-    } else {
-      throw new IllegalArgumentException("Verify key must either be a SecretKey (for MAC algorithms) or a PublicKey");
-    }
+    // the key ring selects the validation key based on the key id in the header of the jwt
+    this.jwtParser = Jwts.parser().requireIssuer(issuer).keyLocator(keyRing).build();
   }
 
   @Override
@@ -158,10 +159,10 @@ public int priority() {
         var tokenId = token.getPayload().getId();
         var tokenType = token.getPayload().get("type", String.class);
 
-        // extract the scopes from the jwt and convert it to a set for the wrapped user
+        // extract the scopes from the jwt and compile them for fast scope checks of the wrapped user
         //noinspection unchecked
         var existingScopes = (List<String>) token.getPayload().getOrDefault("scopes", List.of());
-        var scopesCopy = Set.copyOf(existingScopes);
+        var scopesCopy = ScopeSet.of(existingScopes);
 
         // we wrap the user to ensure that our checking later on always takes the scopes from the jwt into account
         var scopedUser = new ScopedRestUserDelegate(user, scopesCopy);
@@ -170,7 +171,9 @@ public int priority() {
         }
 
         if (tokenType != null && tokenType.equals(JwtTokenHolder.ACCESS_TOKEN_TYPE)) {
-          return new AuthenticationResult.Success(scopedUser, tokenId);
+          // the token can be reused on the same connection until it expires
+          var expiration = token.getPayload().getExpiration();
+          return new AuthenticationResult.Success(scopedUser, tokenId, expiration == null ? null : expiration.toInstant());
         } else {
           return new AuthenticationResult.InvalidTokenType(user, scopesCopy, tokenId, tokenType);
         }
@@ -256,7 +259,8 @@ public int priority() {
       .expiration(Date.from(expiration))
       .id(tokenId)
       .claim("type", tokenType)
-      .signWith(this.jwtSigningKey);
+      .header().keyId(this.keyRing.signingKeyId()).and()
+      .signWith(this.keyRing.signingKey());
     // only add the scopes if the user explicitly requested to do so
     if (!scopes.isEmpty()) {
       jwtTokenBuilder = jwtTokenBuilder.claim("scopes", scopes);
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.jwt;
+
+import com.google.common.base.Preconditions;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.ProtectedHeader;
+import java.security.Key;
+import java.security.PublicKey;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.crypto.SecretKey;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A collection of keys used to sign and verify jwt tokens. Tokens are signed using the current signing key and are
+ * marked with the id of that key in the {@code kid} header. During validation the key is selected based on the key id
+ * of the token, which allows to rotate the signing key while tokens that were signed with an older key stay valid as
+ * long as the verification key is present in the key ring.
+ *
+ * @since 1.0
+ */
+public final class JwtKeyRing implements Locator<Key> {
+
+  private final String signingKeyId;
+  private final Key signingKey;
+
+  private final Key defaultVerificationKey;
+  private final Map<String, Key> verificationKeys;
+
+  private JwtKeyRing(
+    @Nullable String signingKeyId,
+    @NonNull Key signingKey,
+    @Nullable Key defaultVerificationKey,
+    @NonNull Map<String, Key> verificationKeys
+  ) {
+    this.signingKeyId = signingKeyId;
+    this.signingKey = signingKey;
+    this.defaultVerificationKey = defaultVerificationKey;
+    this.verificationKeys = verificationKeys;
+  }
+
+  /**
+   * Constructs a key ring that only contains a single key which is used to sign and verify tokens without a key id.
+   *
+   * @param signingKey      the key to sign the tokens with.
+   * @param verificationKey the key to verify the tokens with, null to use the signing key (for symmetric keys).
+   * @return a new key ring containing only the given key.
+   * @throws NullPointerException     if the given signing key is null.
+   * @throws IllegalArgumentException if the verification key is neither a secret nor a public key.
+   */
+  public static @NonNull JwtKeyRing singleKey(@NonNull Key signingKey, @Nullable Key verificationKey) {
+    var validationKey = Objects.requireNonNullElse(verificationKey, signingKey);
+    return new JwtKeyRing(null, signingKey, checkVerificationKey(validationKey), Map.of());
+  }
+
+  /**
+   * Constructs a new builder for a jwt key ring.
+   *
+   * @return a new builder for a jwt key ring.
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  private static @NonNull Key checkVerificationKey(@NonNull Key key) {
+    Preconditions.checkArgument(
+      key instanceof SecretKey || key instanceof PublicKey,
+      "Verify key must either be a SecretKey (for MAC algorithms) or a PublicKey");
+    return key;
+  }
+
+  /**
+   * Get the id of the key that is used to sign new tokens, null if the tokens should not contain a key id.
+   *
+   * @return the id of the key that is used to sign new tokens.
+   */
+  public @Nullable String signingKeyId() {
+    return this.signingKeyId;
+  }
+
+  /**
+   * Get the key that is used to sign new tokens.
+   *
+   * @return the key that is used to sign new tokens.
+   */
+  public @NonNull Key signingKey() {
+    return this.signingKey;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable Key locate(@NonNull Header header) {
+    var keyId = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+    if (keyId == null) {
+      // tokens that were issued without a key id (for example before key rotation was introduced)
+      return this.defaultVerificationKey;
+    }
+
+    return this.verificationKeys.get(keyId);
+  }
+
+  /**
+   * A builder for a jwt key ring.
+   *
+   * @since 1.0
+   */
+  public static final class Builder {
+
+    private final Map<String, Key> verificationKeys = new HashMap<>();
+
+    private String signingKeyId;
+    private Key signingKey;
+    private Key defaultVerificationKey;
+
+    /**
+     * Sets the key that is used to sign new tokens. The given verification key is registered for the given key id.
+     *
+     * @param keyId           the id of the key, written into the {@code kid} header of signed tokens.
+     * @param signingKey      the key to sign the tokens with.
+     * @param verificationKey the key to verify tokens with, null to use the signing key (for symmetric keys).
+     * @return the same builder as used to call the method, for chaining.
+     * @throws NullPointerException     if the given key id or signing key is null.
+     * @throws IllegalArgumentException if the verification key is neither a secret nor a public key.
+     */
+    public @NonNull Builder signingKey(@NonNull String keyId, @NonNull Key signingKey, @Nullable Key verificationKey) {
+      this.signingKeyId = keyId;
+      this.signingKey = signingKey;
+      return this.verificationKey(keyId, Objects.requireNonNullElse(verificationKey, signingKey));
+    }
+
+    /**
+     * Registers a key that is used to verify tokens which were signed using the key with the given id.
+     *
+     * @param keyId           the id of the key that was used to sign the tokens.
+     * @param verificationKey the key to verify the tokens with.
+     * @return the same builder as used to call the method, for chaining.
+     * @throws NullPointerException     if the given key id or verification key is null.
+     * @throws IllegalArgumentException if the verification key is neither a secret nor a public key.
+     */
+    public @NonNull Builder verificationKey(@NonNull String keyId, @NonNull Key verificationKey) {
+      this.verificationKeys.put(keyId, checkVerificationKey(verificationKey));
+      return this;
+    }
+
+    /**
+     * Sets the key that is used to verify tokens which do not contain a key id.
+     *
+     * @param verificationKey the key to verify tokens without a key id with, null to reject these tokens.
+     * @return the same builder as used to call the method, for chaining.
+     * @throws IllegalArgumentException if the verification key is neither a secret nor a public key.
+     */
+    public @NonNull Builder defaultVerificationKey(@Nullable Key verificationKey) {
+      this.defaultVerificationKey = verificationKey == null ? null : checkVerificationKey(verificationKey);
+      return this;
+    }
+
+    /**
+     * Builds the key ring from this builder.
+     *
+     * @return the key ring from this builder.
+     * @throws IllegalStateException if no signing key was set.
+     */
+    public @NonNull JwtKeyRing build() {
+      Preconditions.checkState(this.signingKey != null, "no signing key given");
+      return new JwtKeyRing(
+        this.signingKeyId,
+        this.signingKey,
+        this.defaultVerificationKey,
+        Map.copyOf(this.verificationKeys));
+    }
+  }
+}
@@ -16,12 +16,15 @@
 
 package eu.cloudnetservice.ext.rest.ticket;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import eu.cloudnetservice.ext.rest.api.HttpContext;
 import eu.cloudnetservice.ext.rest.api.auth.AuthProvider;
 import eu.cloudnetservice.ext.rest.api.auth.AuthTokenGenerationResult;
 import eu.cloudnetservice.ext.rest.api.auth.AuthenticationResult;
 import eu.cloudnetservice.ext.rest.api.auth.RestUser;
 import eu.cloudnetservice.ext.rest.api.auth.RestUserManagement;
+import eu.cloudnetservice.ext.rest.api.auth.ScopeSet;
 import eu.cloudnetservice.ext.rest.api.auth.ScopedRestUserDelegate;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
@@ -54,15 +57,32 @@ public class TicketAuthProvider implements AuthProvider {
   }
 
   private final Duration ticketDuration;
-  private final Mac hashFunction;
+  private final TicketMacPool hashFunctionPool;
+  private final Cache<String, Boolean> usedTickets;
 
   public TicketAuthProvider() {
     this(DEFAULT_WEBSOCKET_TICKET_EXPIRATION, DEFAULT_MAC_FUNCTION);
   }
 
   public TicketAuthProvider(@NonNull Duration ticketDuration, @NonNull Mac hashFunction) {
-    this.hashFunction = hashFunction;
+    this(ticketDuration, hashFunction, false);
+  }
+
+  /**
+   * Constructs a new ticket auth provider. The given mac is never used directly, it serves as a template for the mac
+   * instances used by concurrent authentication requests.
+   *
+   * @param ticketDuration   the duration a ticket is valid for after its creation.
+   * @param hashFunction     the initialized mac used to sign and verify tickets, must support cloning.
+   * @param singleUseTickets true if a ticket can only be used for a single authentication, false otherwise.
+   * @throws NullPointerException     if the given ticket duration or hash function is null.
+   * @throws IllegalArgumentException if the given mac does not support cloning.
+   */
+  public TicketAuthProvider(@NonNull Duration ticketDuration, @NonNull Mac hashFunction, boolean singleUseTickets) {
     this.ticketDuration = ticketDuration;
+    this.hashFunctionPool = new TicketMacPool(hashFunction);
+    // used tickets only need to be remembered until they expire, they are rejected anyway after that
+    this.usedTickets = singleUseTickets ? CacheBuilder.newBuilder().expireAfterWrite(ticketDuration).build() : null;
   }
 
   @Override
@@ -110,7 +130,8 @@ public boolean supportsTokenGeneration() {
 
     // only allow tickets that were not tampered with
     var ticketToken = ticketQueryParameters.getFirst();
-    if (!TicketSecurityUtil.verifyTicketSignature(this.hashFunction, ticketToken)) {
+    var validSignature = this.hashFunctionPool.apply(mac -> TicketSecurityUtil.verifyTicketSignature(mac, ticketToken));
+    if (!validSignature) {
       return AuthenticationResult.Constant.INVALID_CREDENTIALS;
     }
 
@@ -120,24 +141,33 @@ public boolean supportsTokenGeneration() {
       return AuthenticationResult.Constant.INVALID_CREDENTIALS;
     }
 
-    var user = management.restUser(ticket.userId());
-    if (user == null) {
-      return AuthenticationResult.Constant.USER_NOT_FOUND;
-    }
-
     // check that the ticket is not expired
     var expirationTime = ticket.creationTime().plus(this.ticketDuration);
     if (expirationTime.isBefore(Instant.now())) {
       return AuthenticationResult.Constant.INVALID_CREDENTIALS;
     }
 
+    var user = management.restUser(ticket.userId());
+    if (user == null) {
+      return AuthenticationResult.Constant.USER_NOT_FOUND;
+    }
+
     // wrap the user to ensure that only the scopes in the jwt are used
-    var scopedUser = new ScopedRestUserDelegate(user, ticket.scopes());
+    var scopedUser = new ScopedRestUserDelegate(user, ScopeSet.of(ticket.scopes()));
     // ensure to only pass if the user has one of the required scopes
     if (!scopedUser.hasOneScopeOf(requiredScopes)) {
       return AuthenticationResult.Constant.MISSING_REQUIRED_SCOPES;
     }
 
+    // check that the ticket was not used before if tickets are single use. the signature is hex encoded which allows
+    // multiple spellings of the same ticket, key the cache on the signed data part instead which is unique per ticket
+    if (this.usedTickets != null) {
+      var signedData = ticketToken.substring(0, ticketToken.indexOf('.'));
+      if (this.usedTickets.asMap().putIfAbsent(signedData, Boolean.TRUE) != null) {
+        return AuthenticationResult.Constant.INVALID_CREDENTIALS;
+      }
+    }
+
     return new AuthenticationResult.Success(scopedUser, null);
   }
 
@@ -150,7 +180,7 @@ public boolean supportsTokenGeneration() {
       builder.add(String.join(TicketAuthToken.SCOPE_DELIMITER, scopes));
     }
 
-    var token = TicketSecurityUtil.signTicket(this.hashFunction, builder.toString());
+    var token = this.hashFunctionPool.apply(mac -> TicketSecurityUtil.signTicket(mac, builder.toString()));
     return new TicketAuthToken(userId, creationTime, token, scopes);
   }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.ext.rest.ticket;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import javax.crypto.Mac;
+import lombok.NonNull;
+
+/**
+ * A lock-free pool of initialized mac instances which are cloned from a given template mac. A mac instance is not
+ * thread safe, therefore each concurrent caller obtains its own instance from the pool and returns it after use.
+ *
+ * @since 1.0
+ */
+final class TicketMacPool {
+
+  private static final int MAX_IDLE_INSTANCES = Runtime.getRuntime().availableProcessors() * 2;
+
+  private final Mac template;
+  private final Queue<Mac> idleInstances = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger idleInstanceCount = new AtomicInteger();
+
+  /**
+   * Constructs a new mac pool which clones the given template mac. The template is never used directly.
+   *
+   * @param template the initialized mac to clone the pooled instances from.
+   * @throws NullPointerException     if the given template is null.
+   * @throws IllegalArgumentException if the given mac does not support cloning.
+   */
+  public TicketMacPool(@NonNull Mac template) {
+    this.template = template;
+    // ensure that the given mac supports cloning, fail early if that is not the case
+    this.idleInstances.offer(this.cloneTemplate());
+    this.idleInstanceCount.incrementAndGet();
+  }
+
+  /**
+   * Borrows a mac from this pool, applies the given function to it and returns the mac into the pool afterward.
+   *
+   * @param function the function to apply to the borrowed mac.
+   * @param <T>      the type of the result returned by the function.
+   * @return the result of the given function.
+   * @throws NullPointerException if the given function is null.
+   */
+  public <T> T apply(@NonNull Function<Mac, T> function) {
+    var mac = this.idleInstances.poll();
+    if (mac == null) {
+      mac = this.cloneTemplate();
+    } else {
+      this.idleInstanceCount.decrementAndGet();
+    }
+
+    try {
+      return function.apply(mac);
+    } finally {
+      // reset the mac in case the function did not complete and only keep a bounded amount of idle instances
+      mac.reset();
+      if (this.idleInstanceCount.incrementAndGet() <= MAX_IDLE_INSTANCES) {
+        this.idleInstances.offer(mac);
+      } else {
+        this.idleInstanceCount.decrementAndGet();
+      }
+    }
+  }
+
+  private @NonNull Mac cloneTemplate() {
+    try {
+      return (Mac) this.template.clone();
+    } catch (CloneNotSupportedException exception) {
+      throw new IllegalArgumentException("Mac " + this.template.getAlgorithm() + " does not support cloning", exception);
+    }
+  }
+}
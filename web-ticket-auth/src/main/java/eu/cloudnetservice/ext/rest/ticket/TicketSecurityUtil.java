@@ -17,6 +17,7 @@
 package eu.cloudnetservice.ext.rest.ticket;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Base64;
 import java.util.HexFormat;
 import javax.crypto.Mac;
@@ -41,9 +42,16 @@ public static boolean verifyTicketSignature(@NonNull Mac function, @NonNull Stri
       return false;
     }
 
-    var base64Data = ticketParts[0];
-    var signature = ticketParts[1];
-    return generateTicketSignature(function, base64Data).equals(signature);
+    byte[] signature;
+    try {
+      signature = HexFormat.of().parseHex(ticketParts[1]);
+    } catch (IllegalArgumentException exception) {
+      return false;
+    }
+
+    // compare in constant time to not leak information about the expected signature
+    var expectedSignature = function.doFinal(ticketParts[0].getBytes(StandardCharsets.UTF_8));
+    return MessageDigest.isEqual(expectedSignature, signature);
   }
 
   public static @Nullable String extractTicketInformation(@NonNull String ticket) {
@@ -26,6 +26,7 @@
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -163,6 +164,86 @@ void testTicketGenerationWithMissingScopes() {
     Assertions.assertEquals(AuthTokenGenerationResult.Constant.REQUESTED_INVALID_SCOPES, generationResult);
   }
 
+  @Test
+  void testSingleUseTicketIsRejectedOnReuse() {
+    var authMock = mockBaseAuthRequest(null);
+    var userManagement = authMock.management();
+    var context = authMock.context();
+
+    var userId = UUID.randomUUID();
+    var userMock = Mockito.mock(RestUser.class);
+    Mockito.when(userMock.id()).thenReturn(userId);
+    Mockito.when(userMock.hasScope(Mockito.anyString())).thenReturn(true);
+    Mockito.when(userManagement.restUser(userId)).thenReturn(userMock);
+
+    var authProvider = new TicketAuthProvider(Duration.ofSeconds(5), hashFunction, true);
+    var generationResult = authProvider.generateAuthToken(userManagement, userMock, Set.of());
+    var ticket = (TicketAuthToken) ((AuthTokenGenerationResult.Success<?>) generationResult).authToken();
+    Mockito.when(context.request().queryParameters()).thenReturn(Map.of("ticket", List.of(ticket.token())));
+
+    var authResult = authProvider.tryAuthenticate(context, userManagement, Set.of());
+    Assertions.assertInstanceOf(AuthenticationResult.Success.class, authResult);
+
+    // the ticket was already used once
+    authResult = authProvider.tryAuthenticate(context, userManagement, Set.of());
+    Assertions.assertEquals(AuthenticationResult.Constant.INVALID_CREDENTIALS, authResult);
+  }
+
+  @Test
+  void testSingleUseTicketIsRejectedOnReuseWithUpperCaseSignature() {
+    var authMock = mockBaseAuthRequest(null);
+    var userManagement = authMock.management();
+    var context = authMock.context();
+
+    var userId = UUID.randomUUID();
+    var userMock = Mockito.mock(RestUser.class);
+    Mockito.when(userMock.id()).thenReturn(userId);
+    Mockito.when(userMock.hasScope(Mockito.anyString())).thenReturn(true);
+    Mockito.when(userManagement.restUser(userId)).thenReturn(userMock);
+
+    var authProvider = new TicketAuthProvider(Duration.ofSeconds(5), hashFunction, true);
+    var generationResult = authProvider.generateAuthToken(userManagement, userMock, Set.of());
+    var ticket = (TicketAuthToken) ((AuthTokenGenerationResult.Success<?>) generationResult).authToken();
+    Mockito.when(context.request().queryParameters()).thenReturn(Map.of("ticket", List.of(ticket.token())));
+
+    var authResult = authProvider.tryAuthenticate(context, userManagement, Set.of());
+    Assertions.assertInstanceOf(AuthenticationResult.Success.class, authResult);
+
+    // the same ticket with a differently cased (but still valid) hex signature
+    var parts = ticket.token().split("\\.", 2);
+    var replayedTicket = parts[0] + '.' + parts[1].toUpperCase(Locale.ROOT);
+    Mockito.when(context.request().queryParameters()).thenReturn(Map.of("ticket", List.of(replayedTicket)));
+
+    authResult = authProvider.tryAuthenticate(context, userManagement, Set.of());
+    Assertions.assertEquals(AuthenticationResult.Constant.INVALID_CREDENTIALS, authResult);
+  }
+
+  @Test
+  void testSingleUseTicketIsNotConsumedOnMissingScopes() {
+    var authMock = mockBaseAuthRequest(null);
+    var userManagement = authMock.management();
+    var context = authMock.context();
+
+    var userId = UUID.randomUUID();
+    var userMock = Mockito.mock(RestUser.class);
+    Mockito.when(userMock.id()).thenReturn(userId);
+    Mockito.when(userMock.hasScope(Mockito.anyString())).thenReturn(true);
+    Mockito.when(userMock.hasOneScopeOf(Mockito.anySet())).thenReturn(true);
+    Mockito.when(userManagement.restUser(userId)).thenReturn(userMock);
+
+    var authProvider = new TicketAuthProvider(Duration.ofSeconds(5), hashFunction, true);
+    var generationResult = authProvider.generateAuthToken(userManagement, userMock, Set.of("scope:test_scope"));
+    var ticket = (TicketAuthToken) ((AuthTokenGenerationResult.Success<?>) generationResult).authToken();
+    Mockito.when(context.request().queryParameters()).thenReturn(Map.of("ticket", List.of(ticket.token())));
+
+    var authResult = authProvider.tryAuthenticate(context, userManagement, Set.of("scope:other_scope"));
+    Assertions.assertEquals(AuthenticationResult.Constant.MISSING_REQUIRED_SCOPES, authResult);
+
+    // the rejected attempt must not burn the ticket
+    authResult = authProvider.tryAuthenticate(context, userManagement, Set.of("scope:test_scope"));
+    Assertions.assertInstanceOf(AuthenticationResult.Success.class, authResult);
+  }
+
   private static AuthRequest mockBaseAuthRequest(String ticket) {
     var management = Mockito.mock(RestUserManagement.class);
     var context = Mockito.mock(HttpContext.class);
@@ -67,4 +67,14 @@ void testModifiedTicketData() {
 
     Assertions.assertFalse(TicketSecurityUtil.verifyTicketSignature(hashFunction, "superTestDataFaked." + hash));
   }
+
+  @Test
+  void testMalformedSignature() {
+    var data = "superTestData";
+    var signedTicket = TicketSecurityUtil.signTicket(hashFunction, data);
+    var parts = signedTicket.split("\\.", 2);
+
+    Assertions.assertFalse(TicketSecurityUtil.verifyTicketSignature(hashFunction, parts[0] + ".notHex"));
+    Assertions.assertFalse(TicketSecurityUtil.verifyTicketSignature(hashFunction, parts[0] + "." + parts[1] + "00"));
+  }
 }